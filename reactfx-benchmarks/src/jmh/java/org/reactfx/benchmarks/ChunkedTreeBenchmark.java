@@ -0,0 +1,95 @@
+package org.reactfx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.reactfx.util.ChunkedTree;
+import org.reactfx.util.Tuple2;
+
+/**
+ * Same operations as {@link FingerTreeBenchmark}, on a {@link ChunkedTree},
+ * so that the two can be compared. The memory footprint of each tree shows
+ * in {@code gc.alloc.rate.norm} of the {@code mkTree} benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChunkedTreeBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    List<Integer> items;
+    ChunkedTree<Integer, Integer> tree;
+    int[] positions;
+    int next = 0;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(size);
+        for(int i = 0; i < size; ++i) {
+            items.add(i);
+        }
+        tree = ChunkedTree.mkTree(items, FingerTreeBenchmark.SUM);
+        Random random = new Random(0);
+        positions = new int[1024];
+        for(int i = 0; i < positions.length; ++i) {
+            positions[i] = random.nextInt(size + 1);
+        }
+    }
+
+    private int nextPosition() {
+        return positions[next++ & (positions.length - 1)];
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ChunkedTree<Integer, Integer> mkTree() {
+        return ChunkedTree.mkTree(items, FingerTreeBenchmark.SUM);
+    }
+
+    @Benchmark
+    public Tuple2<ChunkedTree<Integer, Integer>, ChunkedTree<Integer, Integer>> split() {
+        return tree.split(nextPosition());
+    }
+
+    @Benchmark
+    public ChunkedTree<Integer, Integer> splitAndJoin() {
+        return tree.split(nextPosition()).map(ChunkedTree::join);
+    }
+
+    @Benchmark
+    public ChunkedTree<Integer, Integer> updateLeaf() {
+        int i = nextPosition();
+        return tree.updateLeaf(i == size ? 0 : i, i);
+    }
+
+    @Benchmark
+    public Integer getLeaf() {
+        int i = nextPosition();
+        return tree.getLeaf(i == size ? 0 : i);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Integer fold() {
+        return tree.fold(0, (acc, i) -> acc + i);
+    }
+
+    @Benchmark
+    public Integer summaryBetween() {
+        int i = nextPosition();
+        int j = nextPosition();
+        return tree.getSummaryBetween(Math.min(i, j), Math.max(i, j)).orElse(0);
+    }
+}
@@ -0,0 +1,86 @@
+package org.reactfx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactfx.EventSource;
+import org.reactfx.EventStreams;
+
+/**
+ * Measures event throughput of common combinator chains.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventStreamBenchmark {
+
+    EventSource<Integer> mapSource;
+    EventSource<Integer> mapFilterSource;
+    EventSource<Integer> mergeSource;
+    EventSource<Integer> latestNSource;
+    EventSource<Integer> latestNViewSource;
+    int counter = 0;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        mapSource = new EventSource<>();
+        mapSource
+                .map(i -> i + 1)
+                .map(i -> i * 2)
+                .map(i -> i - 1)
+                .subscribe(bh::consume);
+
+        mapFilterSource = new EventSource<>();
+        mapFilterSource
+                .map(i -> i + 1)
+                .filter(i -> (i & 1) == 0)
+                .map(i -> i / 2)
+                .subscribe(bh::consume);
+
+        mergeSource = new EventSource<>();
+        EventStreams.merge(
+                mergeSource,
+                new EventSource<Integer>(),
+                new EventSource<Integer>(),
+                new EventSource<Integer>())
+                .subscribe(bh::consume);
+
+        latestNSource = new EventSource<>();
+        latestNSource.latestN(1000).subscribe(l -> bh.consume(l.get(0)));
+
+        latestNViewSource = new EventSource<>();
+        latestNViewSource.latestNView(1000).subscribe(l -> bh.consume(l.get(0)));
+    }
+
+    @Benchmark
+    public void mapChain() {
+        mapSource.push(counter++);
+    }
+
+    @Benchmark
+    public void mapFilterChain() {
+        mapFilterSource.push(counter++);
+    }
+
+    @Benchmark
+    public void merge() {
+        mergeSource.push(counter++);
+    }
+
+    @Benchmark
+    public void latestN() {
+        latestNSource.push(counter++);
+    }
+
+    @Benchmark
+    public void latestNView() {
+        latestNViewSource.push(counter++);
+    }
+}
@@ -0,0 +1,108 @@
+package org.reactfx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.reactfx.util.FingerTree;
+import org.reactfx.util.ToSemigroup;
+import org.reactfx.util.Tuple2;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FingerTreeBenchmark {
+
+    static final ToSemigroup<Integer, Integer> SUM = new ToSemigroup<Integer, Integer>() {
+        @Override public Integer apply(Integer i) { return i; }
+        @Override public Integer reduce(Integer left, Integer right) { return left + right; }
+    };
+
+    @Param({"1000", "100000"})
+    int size;
+
+    List<Integer> items;
+    FingerTree<Integer, Integer> tree;
+    int[] positions;
+    int next = 0;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(size);
+        for(int i = 0; i < size; ++i) {
+            items.add(i);
+        }
+        tree = FingerTree.mkTree(items, SUM);
+        Random random = new Random(0);
+        positions = new int[1024];
+        for(int i = 0; i < positions.length; ++i) {
+            positions[i] = random.nextInt(size + 1);
+        }
+    }
+
+    private int nextPosition() {
+        return positions[next++ & (positions.length - 1)];
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public FingerTree<Integer, Integer> mkTree() {
+        return FingerTree.mkTree(items, SUM);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public FingerTree<Integer, Integer> mkTreeParallel() {
+        return FingerTree.mkTreeParallel(items, SUM);
+    }
+
+    @Benchmark
+    public Tuple2<FingerTree<Integer, Integer>, FingerTree<Integer, Integer>> split() {
+        return tree.split(nextPosition());
+    }
+
+    @Benchmark
+    public FingerTree<Integer, Integer> splitAndJoin() {
+        return tree.split(nextPosition()).map(FingerTree::join);
+    }
+
+    @Benchmark
+    public FingerTree<Integer, Integer> updateLeaf() {
+        int i = nextPosition();
+        return tree.updateLeaf(i == size ? 0 : i, i);
+    }
+
+    @Benchmark
+    public Integer getLeaf() {
+        int i = nextPosition();
+        return tree.getLeaf(i == size ? 0 : i);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Integer fold() {
+        return tree.fold(0, (acc, i) -> acc + i);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Integer foldParallel() {
+        return tree.foldBetweenParallel(0, (acc, i) -> acc + i, Integer::sum, 0, size);
+    }
+
+    @Benchmark
+    public Integer summaryBetween() {
+        int i = nextPosition();
+        int j = nextPosition();
+        return tree.getSummaryBetween(Math.min(i, j), Math.max(i, j)).orElse(0);
+    }
+}
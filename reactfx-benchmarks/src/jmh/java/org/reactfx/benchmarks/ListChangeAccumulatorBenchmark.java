@@ -0,0 +1,68 @@
+package org.reactfx.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.reactfx.collection.ListChangeAccumulator;
+import org.reactfx.collection.QuasiListChange;
+import org.reactfx.collection.QuasiListModification;
+
+/**
+ * Measures accumulation of list modifications, as happens e.g. in a
+ * suspended {@code SuspendableList}. Scattered modifications do not merge
+ * and are the worst case for the accumulator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListChangeAccumulatorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int modifications;
+
+    QuasiListModification<Integer>[] scattered;
+    QuasiListModification<Integer>[] adjacent;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        List<Integer> removed = Collections.singletonList(0);
+        int listSize = modifications * 10;
+        scattered = new QuasiListModification[modifications];
+        adjacent = new QuasiListModification[modifications];
+        for(int i = 0; i < modifications; ++i) {
+            scattered[i] = QuasiListModification.create(
+                    random.nextInt(listSize), removed, 1);
+            adjacent[i] = QuasiListModification.create(i, removed, 1);
+        }
+    }
+
+    @Benchmark
+    public QuasiListChange<Integer> scattered() {
+        ListChangeAccumulator<Integer> acc = new ListChangeAccumulator<>();
+        for(QuasiListModification<Integer> mod: scattered) {
+            acc.add(mod);
+        }
+        return acc.fetch();
+    }
+
+    @Benchmark
+    public QuasiListChange<Integer> adjacent() {
+        ListChangeAccumulator<Integer> acc = new ListChangeAccumulator<>();
+        for(QuasiListModification<Integer> mod: adjacent) {
+            acc.add(mod);
+        }
+        return acc.fetch();
+    }
+}
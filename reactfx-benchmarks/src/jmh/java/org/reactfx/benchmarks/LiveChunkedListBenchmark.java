@@ -0,0 +1,91 @@
+package org.reactfx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.reactfx.collection.LiveChunkedList;
+
+/**
+ * Measures {@link LiveChunkedList} without observers. The memory footprint
+ * of the list shows in {@code gc.alloc.rate.norm} of the {@code create}
+ * benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LiveChunkedListBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    List<Integer> items;
+    LiveChunkedList<Integer> list;
+    List<Integer> inserted = Collections.nCopies(3, 7);
+    int[] positions;
+    int next = 0;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(size);
+        for(int i = 0; i < size; ++i) {
+            items.add(i);
+        }
+        list = new LiveChunkedList<>(items);
+        Random random = new Random(0);
+        positions = new int[1024];
+        for(int i = 0; i < positions.length; ++i) {
+            positions[i] = random.nextInt(size - 3);
+        }
+    }
+
+    private int nextPosition() {
+        return positions[next++ & (positions.length - 1)];
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LiveChunkedList<Integer> create() {
+        return new LiveChunkedList<>(items);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(nextPosition());
+    }
+
+    @Benchmark
+    public Integer set() {
+        int i = nextPosition();
+        return list.set(i, i);
+    }
+
+    /** Inserts 3 elements and removes 3 elements, so that the size stays constant. */
+    @Benchmark
+    public int insertAndRemove() {
+        int i = nextPosition();
+        list.addAll(i, inserted);
+        list.remove(i, i + 3);
+        return list.size();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int iterate() {
+        int sum = 0;
+        for(int i: list) {
+            sum += i;
+        }
+        return sum;
+    }
+}
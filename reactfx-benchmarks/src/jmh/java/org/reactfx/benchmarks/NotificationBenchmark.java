@@ -0,0 +1,43 @@
+package org.reactfx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactfx.EventSource;
+
+/**
+ * Measures the cost of {@code ObservableBase.notifyObservers} for a varying
+ * number of observers, i.e. the overhead of a single emission.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotificationBenchmark {
+
+    @Param({"1", "2", "8"})
+    int observers;
+
+    EventSource<Integer> source;
+    Integer event = 42;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        source = new EventSource<>();
+        for(int i = 0; i < observers; ++i) {
+            source.subscribe(bh::consume);
+        }
+    }
+
+    @Benchmark
+    public void emit() {
+        source.push(event);
+    }
+}
@@ -0,0 +1,75 @@
+package org.reactfx.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.reactfx.util.SparseList;
+
+/**
+ * Measures {@link SparseList} splicing on a list with a mix of present and
+ * absent segments, as produced by a memoized list that has been partially
+ * materialized.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SparseListBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    SparseList<Integer> list;
+    List<Integer> replacement = Collections.nCopies(3, 7);
+    int[] positions;
+    int next = 0;
+
+    @Setup
+    public void setup() {
+        list = new SparseList<>();
+        list.insertVoid(0, size);
+        Random random = new Random(0);
+        for(int i = 0; i < size / 10; ++i) {
+            list.set(random.nextInt(size), i);
+        }
+        positions = new int[1024];
+        for(int i = 0; i < positions.length; ++i) {
+            positions[i] = random.nextInt(size - 3);
+        }
+    }
+
+    private int nextPosition() {
+        return positions[next++ & (positions.length - 1)];
+    }
+
+    /** Replaces 3 elements by 3 elements, so that the size stays constant. */
+    @Benchmark
+    public int splice() {
+        int from = nextPosition();
+        list.splice(from, from + 3, replacement);
+        return list.size();
+    }
+
+    /** Replaces 3 elements by 3 absent elements. */
+    @Benchmark
+    public int spliceByVoid() {
+        int from = nextPosition();
+        list.spliceByVoid(from, from + 3, 3);
+        return list.size();
+    }
+
+    @Benchmark
+    public Integer getPresent() {
+        int i = nextPosition() % list.getPresentCount();
+        return list.getPresent(i);
+    }
+}
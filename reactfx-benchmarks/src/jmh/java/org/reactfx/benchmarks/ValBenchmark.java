@@ -0,0 +1,80 @@
+package org.reactfx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactfx.value.DoubleVal;
+import org.reactfx.value.DoubleVar;
+import org.reactfx.value.Val;
+import org.reactfx.value.Var;
+
+/**
+ * Measures invalidation and lazy recomputation of {@code ValBase} chains
+ * and of their {@code double} counterparts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValBenchmark {
+
+    Var<Integer> source;
+    Val<Integer> chain;
+    Var<Integer> left;
+    Var<Integer> right;
+    Val<Integer> combined;
+    DoubleVar doubleLeft;
+    DoubleVar doubleRight;
+    DoubleVal doubleCombined;
+    int counter = 0;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        source = Var.newSimpleVar(0);
+        chain = source.map(i -> i + 1).map(i -> i * 2).map(i -> i - 1);
+        chain.observeInvalidations(bh::consume);
+
+        left = Var.newSimpleVar(0);
+        right = Var.newSimpleVar(0);
+        combined = Val.combine(left, right, (a, b) -> a + b);
+        combined.observeInvalidations(bh::consume);
+
+        doubleLeft = DoubleVar.newSimpleVar(0);
+        doubleRight = DoubleVar.newSimpleVar(0);
+        doubleCombined = DoubleVal.combine(doubleLeft, doubleRight, (a, b) -> a + b);
+        doubleCombined.addListener(obs -> bh.consume(obs));
+    }
+
+    /** Invalidation followed by recomputation of the whole chain. */
+    @Benchmark
+    public Integer invalidateAndGet() {
+        source.setValue(counter++);
+        return chain.getValue();
+    }
+
+    @Benchmark
+    public Integer combineAndGet() {
+        left.setValue(counter++);
+        right.setValue(counter);
+        return combined.getValue();
+    }
+
+    @Benchmark
+    public double combineDoubleAndGet() {
+        doubleLeft.set(counter++);
+        doubleRight.set(counter);
+        return doubleCombined.getAsDouble();
+    }
+
+    /** Repeated reads of an already valid value. */
+    @Benchmark
+    public Integer getValid() {
+        return chain.getValue();
+    }
+}
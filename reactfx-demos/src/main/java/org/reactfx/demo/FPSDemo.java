@@ -14,7 +14,7 @@ public class FPSDemo extends Application {
         Label label = new Label();
 
         EventStreams.animationTicks()
-                .latestN(100)
+                .latestNView(100)
                 .map(ticks -> {
                     int n = ticks.size() - 1;
                     return n * 1_000_000_000.0 / (ticks.get(n) - ticks.get(0));
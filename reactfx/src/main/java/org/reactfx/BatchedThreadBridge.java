@@ -0,0 +1,91 @@
+package org.reactfx;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Variant of {@link ThreadBridge} that hands events over to the target thread
+ * in batches. Events are put to a lock-free queue and a task that drains the
+ * queue is submitted to the target thread executor only if there is no such
+ * task pending already.
+ */
+class BatchedThreadBridge<T> extends EventStreamBase<T> {
+
+    // ConcurrentLinkedQueue does not permit null elements
+    private static final Object NULL = new Object();
+
+    private final EventStream<T> input;
+    private final Executor sourceThreadExecutor;
+    private final Executor targetThreadExecutor;
+    private final int maxBatchSize;
+
+    private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+    public BatchedThreadBridge(
+            EventStream<T> input,
+            Executor sourceThreadExecutor,
+            Executor targetThreadExecutor,
+            int maxBatchSize) {
+        if(maxBatchSize <= 0) {
+            throw new IllegalArgumentException(
+                    "maxBatchSize must be positive. Was " + maxBatchSize);
+        }
+        this.input = input;
+        this.sourceThreadExecutor = sourceThreadExecutor;
+        this.targetThreadExecutor = targetThreadExecutor;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        CompletableFuture<Subscription> subscription = new CompletableFuture<>();
+        sourceThreadExecutor.execute(() -> {
+            subscription.complete(input.subscribe(this::enqueue));
+        });
+        return () -> {
+            subscription.thenAcceptAsync(
+                    Subscription::unsubscribe,
+                    sourceThreadExecutor);
+        };
+    }
+
+    private void enqueue(T event) {
+        queue.offer(event == null ? NULL : event);
+        if(drainScheduled.compareAndSet(false, true)) {
+            scheduleDrain();
+        }
+    }
+
+    private void scheduleDrain() {
+        try {
+            targetThreadExecutor.execute(this::drain);
+        } catch(RuntimeException | Error e) {
+            // no drain is pending, so let the next event schedule one
+            drainScheduled.set(false);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        try {
+            Object e;
+            for(int n = 0; n < maxBatchSize && (e = queue.poll()) != null; ++n) {
+                emit(e == NULL ? null : (T) e);
+            }
+        } finally {
+            drainScheduled.set(false);
+
+            // schedule another drain for events left over due to the batch
+            // size limit, or enqueued after the last poll, but before the
+            // flag was cleared
+            if(!queue.isEmpty() && drainScheduled.compareAndSet(false, true)) {
+                scheduleDrain();
+            }
+        }
+    }
+}
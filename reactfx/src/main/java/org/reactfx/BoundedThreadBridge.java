@@ -0,0 +1,235 @@
+package org.reactfx;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BinaryOperator;
+
+import org.reactfx.value.IntVal;
+import org.reactfx.value.IntValBase;
+
+/**
+ * Variant of {@link ThreadBridge} that hands events over to the target thread
+ * through a bounded ring buffer. When the buffer is full, the new event is
+ * either combined with the newest buffered event, or handled according to
+ * the given {@link OverflowPolicy}.
+ */
+class BoundedThreadBridge<T>
+extends EventStreamBase<T>
+implements BufferedEventStream<T> {
+    private final EventStream<T> input;
+    private final Executor sourceThreadExecutor;
+    private final Executor targetThreadExecutor;
+    private final OverflowPolicy overflowPolicy; // null when coalescing
+    private final BinaryOperator<T> coalesce; // null when not coalescing
+    private final Depth depth = new Depth();
+
+    // all of the following guarded by buffer
+    private final Object[] buffer;
+    private int head = 0;
+    private int size = 0;
+    private boolean drainScheduled = false; // always true when size > 0
+    private boolean depthUpdateScheduled = false;
+    private boolean connected = false;
+
+    private BoundedThreadBridge(
+            EventStream<T> input,
+            Executor sourceThreadExecutor,
+            Executor targetThreadExecutor,
+            int capacity,
+            OverflowPolicy overflowPolicy,
+            BinaryOperator<T> coalesce) {
+        if(capacity <= 0) {
+            throw new IllegalArgumentException(
+                    "capacity must be positive. Was " + capacity);
+        }
+        this.input = input;
+        this.sourceThreadExecutor = sourceThreadExecutor;
+        this.targetThreadExecutor = targetThreadExecutor;
+        this.buffer = new Object[capacity];
+        this.overflowPolicy = overflowPolicy;
+        this.coalesce = coalesce;
+    }
+
+    public BoundedThreadBridge(
+            EventStream<T> input,
+            Executor sourceThreadExecutor,
+            Executor targetThreadExecutor,
+            int capacity,
+            OverflowPolicy overflowPolicy) {
+        this(input, sourceThreadExecutor, targetThreadExecutor, capacity,
+                overflowPolicy, null);
+    }
+
+    public BoundedThreadBridge(
+            EventStream<T> input,
+            Executor sourceThreadExecutor,
+            Executor targetThreadExecutor,
+            int capacity,
+            BinaryOperator<T> coalesce) {
+        this(input, sourceThreadExecutor, targetThreadExecutor, capacity,
+                null, coalesce);
+    }
+
+    @Override
+    public IntVal bufferDepth() {
+        return depth;
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        synchronized(buffer) {
+            connected = true;
+        }
+        CompletableFuture<Subscription> subscription = new CompletableFuture<>();
+        sourceThreadExecutor.execute(() -> {
+            subscription.complete(input.subscribe(this::enqueue));
+        });
+        return () -> {
+            disconnect();
+            subscription.thenAcceptAsync(
+                    Subscription::unsubscribe,
+                    sourceThreadExecutor);
+        };
+    }
+
+    /**
+     * Discards the buffered events and wakes up producers blocked on a full
+     * buffer. Events that arrive until the input has been unsubscribed from,
+     * which happens on the source thread, are dropped.
+     */
+    private void disconnect() {
+        synchronized(buffer) {
+            connected = false;
+            for(int i = 0; i < size; ++i) {
+                buffer[(head + i) % buffer.length] = null;
+            }
+            head = 0;
+            size = 0;
+            buffer.notifyAll();
+        }
+        depth.update();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void enqueue(T event) {
+        boolean scheduleDrain;
+        boolean scheduleDepthUpdate;
+        synchronized(buffer) {
+            if(!connected) {
+                return;
+            }
+            if(size == buffer.length) {
+                if(coalesce != null) {
+                    int last = (head + size - 1) % buffer.length;
+                    buffer[last] = coalesce.apply((T) buffer[last], event);
+                    return;
+                }
+                switch(overflowPolicy) {
+                    case DROP_NEWEST:
+                        return;
+                    case DROP_OLDEST:
+                        buffer[head] = null;
+                        head = (head + 1) % buffer.length;
+                        --size;
+                        break;
+                    case BLOCK:
+                        try {
+                            while(size == buffer.length && connected) {
+                                buffer.wait();
+                            }
+                        } catch(InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        if(!connected) {
+                            return;
+                        }
+                        break;
+                }
+            }
+            buffer[(head + size) % buffer.length] = event;
+            ++size;
+            scheduleDrain = !drainScheduled;
+            drainScheduled = true;
+            // a scheduled drain updates the depth when it is done
+            scheduleDepthUpdate = !scheduleDrain && !depthUpdateScheduled;
+            depthUpdateScheduled = true;
+        }
+        if(scheduleDrain) {
+            targetThreadExecutor.execute(this::drain);
+        } else if(scheduleDepthUpdate) {
+            targetThreadExecutor.execute(this::updateDepth);
+        }
+    }
+
+    /**
+     * Emits the events that are in the buffer when the drain starts. Events
+     * that arrive in the meantime are left for another drain, so that a fast
+     * producer cannot keep the target thread busy indefinitely.
+     */
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        int batch;
+        synchronized(buffer) {
+            batch = size;
+            // the depth is updated at the end of the drain
+            depthUpdateScheduled = true;
+        }
+        try {
+            for(int i = 0; i < batch; ++i) {
+                T event;
+                synchronized(buffer) {
+                    if(size == 0) {
+                        break; // discarded by disconnect()
+                    }
+                    event = (T) buffer[head];
+                    buffer[head] = null;
+                    head = (head + 1) % buffer.length;
+                    --size;
+                    buffer.notifyAll();
+                }
+                emit(event); // may throw
+            }
+        } finally {
+            boolean more;
+            synchronized(buffer) {
+                more = size > 0;
+                drainScheduled = more;
+            }
+            if(more) {
+                targetThreadExecutor.execute(this::drain);
+            }
+            updateDepth();
+        }
+    }
+
+    private void updateDepth() {
+        synchronized(buffer) {
+            depthUpdateScheduled = false;
+        }
+        depth.update();
+    }
+
+    private int getDepth() {
+        synchronized(buffer) {
+            return size;
+        }
+    }
+
+    private final class Depth extends IntValBase {
+
+        void update() {
+            invalidate();
+        }
+
+        @Override
+        protected Subscription connect() {
+            return Subscription.EMPTY;
+        }
+
+        @Override
+        protected int computeValue() {
+            return getDepth();
+        }
+    }
+}
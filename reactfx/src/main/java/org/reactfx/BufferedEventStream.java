@@ -0,0 +1,18 @@
+package org.reactfx;
+
+import org.reactfx.value.IntVal;
+
+/**
+ * An event stream that emits events from a buffer.
+ */
+public interface BufferedEventStream<T> extends EventStream<T> {
+
+    /**
+     * Number of events currently waiting in the buffer. The returned value
+     * is meant to be observed from the thread on which this stream emits
+     * events. It is invalidated on that thread after each batch of emitted
+     * events, and after events have been added to the buffer; invalidations
+     * caused by events added in quick succession are coalesced.
+     */
+    IntVal bufferDepth();
+}
@@ -0,0 +1,60 @@
+package org.reactfx;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * See {@link EventStream#slidingCount(int, int, Function, BinaryOperator)}
+ */
+class CountWindowStream<T, A> extends EventStreamBase<A> {
+    private final EventStream<T> input;
+    private final int n;
+    private final int step;
+    private final Function<? super T, ? extends A> summary;
+    private final SlidingAggregator<A> window;
+
+    private int untilEmit;
+
+    public CountWindowStream(
+            EventStream<T> input,
+            int n,
+            int step,
+            Function<? super T, ? extends A> summary,
+            BinaryOperator<A> combine) {
+        if(n <= 0) {
+            throw new IllegalArgumentException("n must be positive. Was " + n);
+        }
+        if(step <= 0) {
+            throw new IllegalArgumentException("step must be positive. Was " + step);
+        }
+
+        this.input = input;
+        this.n = n;
+        this.step = step;
+        this.summary = summary;
+        this.window = new SlidingAggregator<>(combine);
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        untilEmit = n;
+        Subscription sub = input.subscribe(this::onEvent);
+        return sub.and(window::clear);
+    }
+
+    private void onEvent(T event) {
+        if(window.size() == n) {
+            window.pop();
+        }
+        window.push(summary.apply(event), 0);
+        if(--untilEmit == 0) {
+            untilEmit = step;
+            A aggregate = window.aggregate();
+            if(step >= n) {
+                // no event of this window belongs to the next one
+                window.clear();
+            }
+            emit(aggregate);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.reactfx;
+
+/**
+ * DoubleEventSource is a {@code double} event stream that emits every value
+ * pushed to it.
+ *
+ * @see EventSource
+ */
+public class DoubleEventSource extends DoubleEventStreamBase {
+
+    /**
+     * Make this event stream immediately emit the given value.
+     */
+    public final void push(double value) {
+        emit(value);
+    }
+
+    @Override
+    protected final Subscription observeInputs() {
+        return Subscription.EMPTY;
+    }
+}
@@ -0,0 +1,222 @@
+package org.reactfx;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+import org.reactfx.util.Scheduler;
+import org.reactfx.util.Timer;
+
+/**
+ * Stream of {@code double} values. This is a primitive specialization of
+ * {@link EventStream}: values are passed from the stream to its subscribers,
+ * and between the streams derived by the methods of this interface,
+ * without boxing.
+ *
+ * @see EventStream#mapToDouble(java.util.function.ToDoubleFunction)
+ * @see DoubleEventSource
+ */
+public interface DoubleEventStream extends Observable<DoubleConsumer> {
+
+    /**
+     * Get notified every time this event stream emits a value.
+     * @param subscriber handles emitted events.
+     * @return subscription that can be used to stop observing this event
+     * stream.
+     */
+    default Subscription subscribe(DoubleConsumer subscriber) {
+        return observe(subscriber);
+    }
+
+    /**
+     * Returns an event stream that emits the values of this stream, boxed.
+     */
+    default EventStream<Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    /**
+     * Returns a new stream that emits the results of applying the given
+     * function to the values emitted from this stream.
+     */
+    default DoubleEventStream map(DoubleUnaryOperator f) {
+        return new DoubleEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return DoubleEventStream.this.subscribe(x -> emit(f.applyAsDouble(x)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new event stream that emits the results of applying the given
+     * function to the values emitted from this stream.
+     */
+    default <U> EventStream<U> mapToObj(DoubleFunction<? extends U> f) {
+        return new EventStreamBase<U>() {
+            @Override
+            protected Subscription observeInputs() {
+                return DoubleEventStream.this.subscribe(x -> emit(f.apply(x)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@code int} stream that emits the results of applying
+     * the given function to the values emitted from this stream.
+     */
+    default IntEventStream mapToInt(DoubleToIntFunction f) {
+        return new IntEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return DoubleEventStream.this.subscribe(x -> emit(f.applyAsInt(x)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@code long} stream that emits the results of applying
+     * the given function to the values emitted from this stream.
+     */
+    default LongEventStream mapToLong(DoubleToLongFunction f) {
+        return new LongEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return DoubleEventStream.this.subscribe(x -> emit(f.applyAsLong(x)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new stream that emits the values emitted from this stream
+     * that satisfy the given predicate.
+     */
+    default DoubleEventStream filter(DoublePredicate predicate) {
+        return new DoubleEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return DoubleEventStream.this.subscribe(x -> {
+                    if(predicate.test(x)) {
+                        emit(x);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Returns a stream that accumulates values emitted from this stream
+     * and emits the accumulated value every time this stream emits a value.
+     * The first value is emitted as is.
+     * @param reduction function to reduce two values into one.
+     *
+     * @see EventStream#accumulate(java.util.function.BinaryOperator)
+     */
+    default DoubleEventStream accumulate(DoubleBinaryOperator reduction) {
+        return new DoubleEventStreamBase() {
+            private boolean hasValue = false;
+            private double acc;
+
+            @Override
+            protected Subscription observeInputs() {
+                return DoubleEventStream.this.subscribe(x -> {
+                    acc = hasValue ? reduction.applyAsDouble(acc, x) : x;
+                    hasValue = true;
+                    emit(acc);
+                });
+            }
+        };
+    }
+
+    /**
+     * Returns a stream that accumulates values emitted from this stream,
+     * starting with the given unit, and emits the accumulated value every
+     * time this stream emits a value.
+     * @param unit initial value of the accumulator.
+     * @param reduction function to add a value to the accumulator.
+     *
+     * @see EventStream#accumulate(Object, java.util.function.BiFunction)
+     */
+    default DoubleEventStream accumulate(double unit, DoubleBinaryOperator reduction) {
+        return new DoubleEventStreamBase() {
+            private double acc = unit;
+
+            @Override
+            protected Subscription observeInputs() {
+                return DoubleEventStream.this.subscribe(x -> {
+                    acc = reduction.applyAsDouble(acc, x);
+                    emit(acc);
+                });
+            }
+        };
+    }
+
+    /**
+     * Returns a stream that, when events are emitted from this stream
+     * in close temporal succession, emits only the last one, reduced
+     * with the preceding ones using the given reduction.
+     * See {@link EventStream#reduceSuccessions(java.util.function.BinaryOperator, Duration)}
+     * for details.
+     *
+     * <p><b>Note:</b> This function can be used only when this stream and
+     * the returned stream are used from the JavaFX application thread. If
+     * you are using the event streams on a different thread, use
+     * {@link #reduceSuccessions(DoubleBinaryOperator, Duration, ScheduledExecutorService, Executor)}
+     * instead.</p>
+     *
+     * @param reduction function to reduce two events into one.
+     * @param timeout the maximum time difference between two subsequent
+     * events that can still be accumulated.
+     */
+    default DoubleEventStream reduceSuccessions(
+            DoubleBinaryOperator reduction,
+            Duration timeout) {
+        return reduceSuccessions(reduction, timeout, Scheduler.fx());
+    }
+
+    /**
+     * An analog to {@link #reduceSuccessions(DoubleBinaryOperator, Duration)}
+     * to use outside of JavaFX application thread.
+     *
+     * @param reduction function to reduce two events into one.
+     * @param timeout the maximum time difference between two subsequent
+     * events that can still be accumulated.
+     * @param scheduler used to schedule timeout expiration
+     * @param eventThreadExecutor executor that executes actions on the
+     * thread on which this stream's events are emitted. The returned stream
+     * will use this executor to emit events.
+     */
+    default DoubleEventStream reduceSuccessions(
+            DoubleBinaryOperator reduction,
+            Duration timeout,
+            ScheduledExecutorService scheduler,
+            Executor eventThreadExecutor) {
+        Function<Runnable, Timer> timerFactory =
+                action -> ScheduledExecutorServiceTimer.create(
+                        timeout, action, scheduler, eventThreadExecutor);
+        return new DoubleSuccessionReducingStream(this, reduction, timerFactory);
+    }
+
+    /**
+     * An analog to {@link #reduceSuccessions(DoubleBinaryOperator, Duration)}
+     * that takes its time and timers from the given {@link Scheduler}, such
+     * as a {@link org.reactfx.util.VirtualTimeScheduler}. The returned
+     * stream may only be used on the scheduler's thread.
+     */
+    default DoubleEventStream reduceSuccessions(
+            DoubleBinaryOperator reduction,
+            Duration timeout,
+            Scheduler scheduler) {
+        Function<Runnable, Timer> timerFactory =
+                action -> scheduler.createTimer(timeout, action);
+        return new DoubleSuccessionReducingStream(this, reduction, timerFactory);
+    }
+}
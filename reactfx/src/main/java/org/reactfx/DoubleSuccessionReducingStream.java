@@ -0,0 +1,44 @@
+package org.reactfx;
+
+import java.util.function.Function;
+import java.util.function.DoubleBinaryOperator;
+
+import org.reactfx.util.Timer;
+
+/**
+ * See {@link DoubleEventStream#reduceSuccessions(DoubleBinaryOperator, java.time.Duration)}
+ */
+class DoubleSuccessionReducingStream extends DoubleEventStreamBase {
+    private final DoubleEventStream input;
+    private final DoubleBinaryOperator reduction;
+    private final Timer timer;
+
+    private boolean hasEvent = false;
+    private double event;
+
+    public DoubleSuccessionReducingStream(
+            DoubleEventStream input,
+            DoubleBinaryOperator reduction,
+            Function<Runnable, Timer> timerFactory) {
+        this.input = input;
+        this.reduction = reduction;
+        this.timer = timerFactory.apply(this::handleTimeout);
+    }
+
+    @Override
+    protected final Subscription observeInputs() {
+        return input.subscribe(this::handleEvent);
+    }
+
+    private void handleEvent(double x) {
+        event = hasEvent ? reduction.applyAsDouble(event, x) : x;
+        hasEvent = true;
+        timer.restart();
+    }
+
+    private void handleTimeout() {
+        assert hasEvent;
+        hasEvent = false;
+        emit(event);
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -17,6 +18,9 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import javafx.application.Platform;
 import javafx.beans.binding.Binding;
@@ -30,8 +34,8 @@ import javafx.stage.Window;
 import org.reactfx.util.AccumulatorSize;
 import org.reactfx.util.Either;
 import org.reactfx.util.Experimental;
-import org.reactfx.util.FxTimer;
 import org.reactfx.util.NotificationAccumulator;
+import org.reactfx.util.Scheduler;
 import org.reactfx.util.Timer;
 import org.reactfx.util.Tuple2;
 import org.reactfx.value.Val;
@@ -274,6 +278,48 @@ public interface EventStream<T> extends Observable<Consumer<? super T>> {
         return new MappedStream<>(this, f);
     }
 
+    /**
+     * Returns a new {@code int} event stream that applies the given function
+     * to every value emitted from this stream and emits the result without
+     * boxing it.
+     */
+    default IntEventStream mapToInt(ToIntFunction<? super T> f) {
+        return new IntEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return EventStream.this.subscribe(t -> emit(f.applyAsInt(t)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@code long} event stream that applies the given function
+     * to every value emitted from this stream and emits the result without
+     * boxing it.
+     */
+    default LongEventStream mapToLong(ToLongFunction<? super T> f) {
+        return new LongEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return EventStream.this.subscribe(t -> emit(f.applyAsLong(t)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@code double} event stream that applies the given function
+     * to every value emitted from this stream and emits the result without
+     * boxing it.
+     */
+    default DoubleEventStream mapToDouble(ToDoubleFunction<? super T> f) {
+        return new DoubleEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return EventStream.this.subscribe(t -> emit(f.applyAsDouble(t)));
+            }
+        };
+    }
+
     /**
      * Returns a new event stream that emits events emitted by this stream
      * cast to the given type.
@@ -449,11 +495,272 @@ public interface EventStream<T> extends Observable<Consumer<? super T>> {
      *     <li>e = [3,4,5]</li>
      *     <li>f = [4,5,6]</li>
      * </ul>
+     *
+     * <p>The emitted lists remain valid after the notification. If the
+     * observers do not need to retain them, {@link #latestNView(int)} is
+     * cheaper.
      */
     default EventStream<List<T>> latestN(int n) {
         return new LatestNStream<>(this, n);
     }
 
+    /**
+     * Like {@link #latestN(int)}, except that the events are kept in a ring
+     * buffer and the same read-only view of the buffer is emitted for every
+     * event, so that no allocation takes place per event. The view is only
+     * valid during the notification; observers that need to retain the
+     * latest events have to copy them using {@link LatestNView#snapshot()}.
+     * For example,
+     * <pre>
+     * {@code
+     * EventStream<Long> ticks = EventStreams.animationTicks();
+     * EventStream<Double> fps = ticks.latestNView(100)
+     *         .filter(l -> l.size() > 1)
+     *         .map(l -> (l.size() - 1) * 1e9 / (l.get(l.size() - 1) - l.get(0)));
+     * }
+     * </pre>
+     * Note that the view must not be passed to operators that emit it
+     * later, such as {@link #emitOn(EventStream)} or
+     * {@link #reduceSuccessions(BinaryOperator, Duration)}, without taking
+     * a snapshot first.
+     */
+    default EventStream<LatestNView<T>> latestNView(int n) {
+        return new LatestNViewStream<>(this, n);
+    }
+
+    /**
+     * Returns an event stream that splits this stream into consecutive,
+     * non-overlapping groups of {@code n} events and emits the reduction
+     * of each group as soon as it is complete. For example,
+     * <pre>
+     * {@code
+     * EventStream<Integer> stream = ...;
+     * EventStream<Integer> sums = stream.windowCount(2, (a, b) -> a + b);
+     * }
+     *
+     *     Time ---&gt;
+     *     stream  :--1--2-----3--4--5-----6---&gt;
+     *     sums    :-----a--------b--------c---&gt;
+     * </pre>
+     * then the values of sums are a = 3, b = 7 and c = 11.
+     *
+     * <p>The reduction is applied incrementally, so no group of events is
+     * ever materialized.
+     */
+    default EventStream<T> windowCount(int n, BinaryOperator<T> reduction) {
+        return windowCount(n, Function.identity(), reduction);
+    }
+
+    /**
+     * Returns an event stream that splits this stream into consecutive,
+     * non-overlapping groups of {@code n} events and emits the aggregate of
+     * each group as soon as it is complete. The aggregate is obtained by
+     * mapping each event to a summary and combining the summaries, in order,
+     * using the associative operation {@code combine}.
+     *
+     * @see #windowCount(int, BinaryOperator)
+     */
+    default <A> EventStream<A> windowCount(
+            int n,
+            Function<? super T, ? extends A> summary,
+            BinaryOperator<A> combine) {
+        return slidingCount(n, n, summary, combine);
+    }
+
+    /**
+     * Returns an event stream that, once this stream has emitted {@code n}
+     * events and then after every {@code step} further events, emits the
+     * reduction of the {@code n} most recent events. For example,
+     * <pre>
+     * {@code
+     * EventStream<Integer> stream = ...;
+     * EventStream<Integer> sums = stream.slidingCount(3, 1, (a, b) -> a + b);
+     * }
+     *
+     *     Time ---&gt;
+     *     stream  :--1--2-----3--4--5-----6---&gt;
+     *     sums    :-----------a--b--c-----d---&gt;
+     * </pre>
+     * then the values of sums are a = 6, b = 9, c = 12 and d = 15.
+     *
+     * <p>{@code reduction} has to be associative. It is applied incrementally
+     * on a sliding window, so that each emission costs amortized O(1)
+     * applications of {@code reduction}, regardless of {@code n}.
+     */
+    default EventStream<T> slidingCount(
+            int n,
+            int step,
+            BinaryOperator<T> reduction) {
+        return slidingCount(n, step, Function.identity(), reduction);
+    }
+
+    /**
+     * Returns an event stream that, once this stream has emitted {@code n}
+     * events and then after every {@code step} further events, emits the
+     * aggregate of the {@code n} most recent events. The aggregate is
+     * obtained by mapping each event to a summary and combining the
+     * summaries, in order, using the associative operation
+     * {@code combine}.
+     *
+     * <p>For example, a rolling volume-weighted average price over the last
+     * 100 trades can be computed by summarizing each trade as the pair
+     * (price &times; volume, volume) and combining the pairs by addition.
+     *
+     * @see #slidingCount(int, int, BinaryOperator)
+     */
+    default <A> EventStream<A> slidingCount(
+            int n,
+            int step,
+            Function<? super T, ? extends A> summary,
+            BinaryOperator<A> combine) {
+        return new CountWindowStream<>(this, n, step, summary, combine);
+    }
+
+    /**
+     * Returns an event stream that splits this stream into consecutive,
+     * non-overlapping windows of length {@code duration} and emits the
+     * reduction of the events of each window at its end. The first window
+     * starts with the first event and further windows follow back to back
+     * for as long as they contain events. An empty window is not emitted and
+     * the window after it starts with the next event. For example, with
+     * {@code duration} of 100ms,
+     * <pre>
+     * {@code
+     * EventStream<Integer> stream = ...;
+     * EventStream<Integer> sums = stream.window(Duration.ofMillis(100), (a, b) -> a + b);
+     * }
+     *
+     *     Time (ms): 0    50   100  150  200  250  300
+     *     stream   : 1    2         3         4
+     *     sums     :           a         b         c
+     * </pre>
+     * then the values of sums are a = 3, b = 3 and c = 4.
+     *
+     * <p>Uses the JavaFX timing wheel and therefore must be used on the
+     * JavaFX application thread.
+     */
+    default EventStream<T> window(Duration duration, BinaryOperator<T> reduction) {
+        return window(duration, reduction, Scheduler.fx());
+    }
+
+    /**
+     * Returns an event stream that splits this stream into consecutive,
+     * non-overlapping windows of length {@code duration} and emits the
+     * aggregate of the events of each window at its end. The aggregate is
+     * obtained by mapping each event to a summary and combining the
+     * summaries, in order, using the associative operation
+     * {@code combine}.
+     *
+     * @see #window(Duration, BinaryOperator)
+     */
+    default <A> EventStream<A> window(
+            Duration duration,
+            Function<? super T, ? extends A> summary,
+            BinaryOperator<A> combine) {
+        return window(duration, summary, combine, Scheduler.fx());
+    }
+
+    /**
+     * An analog to {@link #window(Duration, BinaryOperator)} that takes its
+     * time and timers from the given {@link Scheduler}.
+     */
+    default EventStream<T> window(
+            Duration duration,
+            BinaryOperator<T> reduction,
+            Scheduler scheduler) {
+        return window(duration, Function.identity(), reduction, scheduler);
+    }
+
+    /**
+     * An analog to {@link #window(Duration, Function, BinaryOperator)} that
+     * takes its time and timers from the given {@link Scheduler}.
+     */
+    default <A> EventStream<A> window(
+            Duration duration,
+            Function<? super T, ? extends A> summary,
+            BinaryOperator<A> combine,
+            Scheduler scheduler) {
+        return slidingWindow(duration, duration, summary, combine, scheduler);
+    }
+
+    /**
+     * Returns an event stream that, every {@code step}, emits the reduction
+     * of the events that this stream emitted within the last {@code size}.
+     * The first window ends {@code step} after an event arrives while no
+     * window is open; once a window turns out to be empty, no more windows
+     * are emitted until the next event. For example, with {@code size} of
+     * 200ms and {@code step} of 100ms,
+     * <pre>
+     * {@code
+     * EventStream<Integer> stream = ...;
+     * EventStream<Integer> sums = stream.slidingWindow(
+     *         Duration.ofMillis(200), Duration.ofMillis(100), (a, b) -> a + b);
+     * }
+     *
+     *     Time (ms): 0    50   100  150  200  250  300
+     *     stream   : 1    2         3
+     *     sums     :           a         b         c
+     * </pre>
+     * then the values of sums are a = 3, b = 5 and c = 3.
+     *
+     * <p>{@code reduction} has to be associative. It is applied incrementally
+     * on a sliding window, so that each event costs amortized O(1)
+     * applications of {@code reduction}, regardless of the number of events
+     * in a window.
+     *
+     * <p>Uses the JavaFX timing wheel and therefore must be used on the
+     * JavaFX application thread.
+     */
+    default EventStream<T> slidingWindow(
+            Duration size,
+            Duration step,
+            BinaryOperator<T> reduction) {
+        return slidingWindow(size, step, reduction, Scheduler.fx());
+    }
+
+    /**
+     * Returns an event stream that, every {@code step}, emits the aggregate
+     * of the events that this stream emitted within the last {@code size}.
+     * The aggregate is obtained by mapping each event to a summary and
+     * combining the summaries, in order, using the associative operation
+     * {@code combine}.
+     *
+     * @see #slidingWindow(Duration, Duration, BinaryOperator)
+     */
+    default <A> EventStream<A> slidingWindow(
+            Duration size,
+            Duration step,
+            Function<? super T, ? extends A> summary,
+            BinaryOperator<A> combine) {
+        return slidingWindow(size, step, summary, combine, Scheduler.fx());
+    }
+
+    /**
+     * An analog to {@link #slidingWindow(Duration, Duration, BinaryOperator)}
+     * that takes its time and timers from the given {@link Scheduler}.
+     */
+    default EventStream<T> slidingWindow(
+            Duration size,
+            Duration step,
+            BinaryOperator<T> reduction,
+            Scheduler scheduler) {
+        return slidingWindow(size, step, Function.identity(), reduction, scheduler);
+    }
+
+    /**
+     * An analog to
+     * {@link #slidingWindow(Duration, Duration, Function, BinaryOperator)}
+     * that takes its time and timers from the given {@link Scheduler}.
+     */
+    default <A> EventStream<A> slidingWindow(
+            Duration size,
+            Duration step,
+            Function<? super T, ? extends A> summary,
+            BinaryOperator<A> combine,
+            Scheduler scheduler) {
+        return new TimeWindowStream<>(this, size, step, summary, combine, scheduler);
+    }
+
     /**
      * Returns a new event stream that, when an event arrives from the
      * {@code impulse} stream, emits the most recent event emitted by this
@@ -1304,10 +1611,8 @@ public interface EventStream<T> extends Observable<Consumer<? super T>> {
             BiFunction<? super U, ? super T, ? extends U> reduction,
             Duration timeout) {
 
-        Function<Runnable, Timer> timerFactory =
-                action -> FxTimer.create(timeout, action);
-        return new SuccessionReducingStream<T, U>(
-                this, initialTransformation, reduction, timerFactory);
+        return reduceSuccessions(
+                initialTransformation, reduction, timeout, Scheduler.fx());
     }
 
     /**
@@ -1461,6 +1766,61 @@ public interface EventStream<T> extends Observable<Consumer<? super T>> {
         return reduceSuccessions((a, b) -> b, timeout, scheduler, eventThreadExecutor);
     }
 
+    /**
+     * An analog to {@link #reduceSuccessions(BinaryOperator, Duration)}
+     * that takes its time and timers from the given {@link Scheduler}, such
+     * as a {@link org.reactfx.util.VirtualTimeScheduler}. The returned
+     * stream may only be used on the scheduler's thread.
+     */
+    default AwaitingEventStream<T> reduceSuccessions(
+            BinaryOperator<T> reduction,
+            Duration timeout,
+            Scheduler scheduler) {
+
+        return reduceSuccessions(Function.identity(), reduction, timeout, scheduler);
+    }
+
+    /**
+     * An analog to {@link #reduceSuccessions(Function, BiFunction, Duration)}
+     * that takes its time and timers from the given {@link Scheduler}.
+     */
+    default <U> AwaitingEventStream<U> reduceSuccessions(
+            Function<? super T, ? extends U> initialTransformation,
+            BiFunction<? super U, ? super T, ? extends U> reduction,
+            Duration timeout,
+            Scheduler scheduler) {
+
+        Function<Runnable, Timer> timerFactory =
+                action -> scheduler.createTimer(timeout, action);
+        return new SuccessionReducingStream<T, U>(
+                this, initialTransformation, reduction, timerFactory);
+    }
+
+    /**
+     * An analog to {@link #reduceSuccessions(Supplier, BiFunction, Duration)}
+     * that takes its time and timers from the given {@link Scheduler}.
+     */
+    default <U> AwaitingEventStream<U> reduceSuccessions(
+            Supplier<? extends U> unitSupplier,
+            BiFunction<? super U, ? super T, ? extends U> reduction,
+            Duration timeout,
+            Scheduler scheduler) {
+
+        Function<T, U> map = t -> reduction.apply(unitSupplier.get(), t);
+        return reduceSuccessions(map, reduction, timeout, scheduler);
+    }
+
+    /**
+     * An analog to {@link #successionEnds(Duration)} that takes its time
+     * and timers from the given {@link Scheduler}.
+     */
+    default AwaitingEventStream<T> successionEnds(
+            Duration timeout,
+            Scheduler scheduler) {
+
+        return reduceSuccessions((a, b) -> b, timeout, scheduler);
+    }
+
     /**
      * Returns an event stream that emits the first event emitted from this
      * stream and then, if the next event arrives within the given duration
@@ -1478,12 +1838,31 @@ public interface EventStream<T> extends Observable<Consumer<? super T>> {
             Function<? super T, ? extends A> initialTransformation,
             BiFunction<? super A, ? super T, ? extends A> reduction,
             Function<? super A, List<T>> deconstruction) {
+        return thenAccumulateFor(
+                duration,
+                initialTransformation,
+                reduction,
+                deconstruction,
+                Scheduler.fx());
+    }
+
+    /**
+     * An analog to
+     * {@link #thenAccumulateFor(Duration, Function, BiFunction, Function)}
+     * that takes its time and timers from the given {@link Scheduler}.
+     */
+    default <A> AwaitingEventStream<T> thenAccumulateFor(
+            Duration duration,
+            Function<? super T, ? extends A> initialTransformation,
+            BiFunction<? super A, ? super T, ? extends A> reduction,
+            Function<? super A, List<T>> deconstruction,
+            Scheduler scheduler) {
         return new ThenAccumulateForStream<>(
                 this,
                 initialTransformation,
                 reduction,
                 deconstruction,
-                action -> FxTimer.create(duration, action));
+                action -> scheduler.createTimer(duration, action));
     }
 
     default <A> AwaitingEventStream<T> thenAccumulateFor(
@@ -1542,6 +1921,22 @@ public interface EventStream<T> extends Observable<Consumer<? super T>> {
                 eventThreadExecutor);
     }
 
+    default <A> AwaitingEventStream<T> thenAccumulateFor(
+            Duration duration,
+            Supplier<? extends A> unit,
+            BiFunction<? super A, ? super T, ? extends A> reduction,
+            Function<? super A, List<T>> deconstruction,
+            Scheduler scheduler) {
+        Function<? super T, ? extends A> initialTransformation =
+                t -> reduction.apply(unit.get(), t);
+        return thenAccumulateFor(
+                duration,
+                initialTransformation,
+                reduction,
+                deconstruction,
+                scheduler);
+    }
+
     /**
      * Returns an event stream that emits the first event emitted from this
      * stream and then reduces all following events that arrive within the
@@ -1575,6 +1970,18 @@ public interface EventStream<T> extends Observable<Consumer<? super T>> {
                 eventThreadExecutor);
     }
 
+    default AwaitingEventStream<T> thenReduceFor(
+            Duration duration,
+            BinaryOperator<T> reduction,
+            Scheduler scheduler) {
+        return thenAccumulateFor(
+                duration,
+                Function.identity(),
+                reduction,
+                Collections::singletonList,
+                scheduler);
+    }
+
     /**
      * Returns an event stream that emits the first event emitted from this
      * stream and then remembers, but does not emit, the latest event emitted
@@ -1597,6 +2004,12 @@ public interface EventStream<T> extends Observable<Consumer<? super T>> {
                 eventThreadExecutor);
     }
 
+    default AwaitingEventStream<T> thenRetainLatestFor(
+            Duration duration,
+            Scheduler scheduler) {
+        return thenReduceFor(duration, (a, b) -> b, scheduler);
+    }
+
     /**
      * Returns an event stream that emits the first event emitted from this
      * stream and then ignores the following events for the given duration.
@@ -1624,6 +2037,99 @@ public interface EventStream<T> extends Observable<Consumer<? super T>> {
                 eventThreadExecutor);
     }
 
+    default AwaitingEventStream<T> thenIgnoreFor(
+            Duration duration,
+            Scheduler scheduler) {
+        return thenAccumulateFor(
+                duration,
+                t -> Collections.<T>emptyList(),
+                (l, t) -> l,
+                Function.<List<T>>identity(),
+                scheduler);
+    }
+
+    /**
+     * Returns an event stream that emits the first event emitted from this
+     * stream and then ignores the following events for the given duration.
+     * This is the same as {@link #thenIgnoreFor(Duration)}.
+     *
+     * <p>Like all FX time-based operators, it is driven by the timing wheel
+     * shared by the whole JavaFX application thread, so throttling any
+     * number of streams does not add any timers to the JavaFX pulse.
+     */
+    default EventStream<T> throttleFirst(Duration duration) {
+        return thenIgnoreFor(duration);
+    }
+
+    /**
+     * An analog to {@link #throttleFirst(Duration)} that takes its time and
+     * timers from the given {@link Scheduler}.
+     */
+    default EventStream<T> throttleFirst(Duration duration, Scheduler scheduler) {
+        return thenIgnoreFor(duration, scheduler);
+    }
+
+    /**
+     * Returns an event stream that, when an event arrives from this stream
+     * while no event is pending, waits for the given duration and then emits
+     * the most recent event emitted from this stream. At most one event is
+     * thus emitted per {@code duration}. For example, with {@code duration}
+     * of 100ms,
+     * <pre>
+     * {@code
+     * EventStream<Integer> stream = ...;
+     * EventStream<Integer> throttled = stream.throttleLast(Duration.ofMillis(100));
+     * }
+     *
+     *     Time (ms): 0    50   100  150  200  250  300  350  400
+     *     stream   : 1    2         3    4         5
+     *     throttled:           a              b              c
+     * </pre>
+     * then the values of throttled are a = 2, b = 4 and c = 5.
+     *
+     * <p>Uses the timing wheel shared by the whole JavaFX application thread
+     * and therefore must be used on the JavaFX application thread.
+     *
+     * @see #sampleOnPulse()
+     */
+    default EventStream<T> throttleLast(Duration duration) {
+        return throttleLast(duration, Scheduler.fx());
+    }
+
+    /**
+     * An analog to {@link #throttleLast(Duration)} that takes its time and
+     * timers from the given {@link Scheduler}.
+     */
+    default EventStream<T> throttleLast(Duration duration, Scheduler scheduler) {
+        return new ThrottleLastStream<>(
+                this, action -> scheduler.createTimer(duration, action));
+    }
+
+    /**
+     * Returns an event stream that emits the most recent event emitted from
+     * this stream on the next JavaFX pulse, so that at most one event is
+     * emitted per animation frame. For example, values that are computed
+     * more often than they can be rendered can be throttled to the frame
+     * rate:
+     * <pre>
+     * {@code
+     * EventStream<Double> progress = ...;
+     * progress.sampleOnPulse().feedTo(progressBar.progressProperty());
+     * }
+     * </pre>
+     *
+     * <p>Unlike {@code emitOn(EventStreams.animationTicks())}, which keeps an
+     * {@link javafx.animation.AnimationTimer} running for each such stream,
+     * all sampled streams share the pulse listener of a single timing wheel,
+     * which only listens to the pulse while some event is pending.
+     *
+     * <p>Must be used on the JavaFX application thread. Equivalent to
+     * {@code throttleLast(Duration.ZERO)}.
+     */
+    default EventStream<T> sampleOnPulse() {
+        return throttleLast(Duration.ZERO);
+    }
+
     default <A> EventStream<T> onRecurseAccumulate(
             Function<? super T, ? extends A> initialTransformation,
             BiFunction<? super A, ? super T, ? extends A> reduction,
@@ -1709,6 +2215,194 @@ public interface EventStream<T> extends Observable<Consumer<? super T>> {
         return threadBridge(sourceThreadExecutor, Platform::runLater);
     }
 
+    /**
+     * Transfers events from one thread to another in batches.
+     * Like {@link #threadBridge(Executor, Executor)}, except that instead of
+     * submitting a separate task to {@code targetThreadExecutor} for each
+     * event, events are put to a lock-free queue, and a single task is
+     * submitted that emits all the events queued by the time it runs. Another
+     * task is submitted only after the previous one has emptied the queue.
+     * This is suitable when events are produced at a high rate, possibly
+     * from multiple threads.
+     * @param sourceThreadExecutor executor that executes tasks on the thread
+     * from which this EventStream is accessed.
+     * @param targetThreadExecutor executor that executes tasks on the thread
+     * from which the returned EventStream will be accessed.
+     * @return Event stream that emits the same events as this EventStream,
+     * but uses {@code targetThreadExecutor} to emit the events.
+     */
+    default EventStream<T> batchedThreadBridge(
+            Executor sourceThreadExecutor,
+            Executor targetThreadExecutor) {
+        return batchedThreadBridge(
+                sourceThreadExecutor, targetThreadExecutor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Transfers events from one thread to another in batches of at most
+     * {@code maxBatchSize} events. When a task submitted to
+     * {@code targetThreadExecutor} has emitted {@code maxBatchSize} events,
+     * it submits another task for the remaining events, which gives other
+     * tasks of the target thread (such as pulses of the JavaFX application
+     * thread) a chance to run in between.
+     * @param maxBatchSize maximum number of events emitted by a single task
+     * submitted to {@code targetThreadExecutor}. Must be positive.
+     * @see #batchedThreadBridge(Executor, Executor)
+     */
+    default EventStream<T> batchedThreadBridge(
+            Executor sourceThreadExecutor,
+            Executor targetThreadExecutor,
+            int maxBatchSize) {
+        return new BatchedThreadBridge<T>(
+                this, sourceThreadExecutor, targetThreadExecutor, maxBatchSize);
+    }
+
+    /**
+     * Transfers events to the JavaFX application thread in batches.
+     * Equivalent to
+     * {@code batchedThreadBridge(sourceThreadExecutor, Platform::runLater)}.
+     * @see #batchedThreadBridge(Executor, Executor)
+     */
+    default EventStream<T> batchedThreadBridgeToFx(Executor sourceThreadExecutor) {
+        return batchedThreadBridge(sourceThreadExecutor, Platform::runLater);
+    }
+
+    /**
+     * Transfers events to the JavaFX application thread in batches of at
+     * most {@code maxBatchSize} events. Equivalent to
+     * {@code batchedThreadBridge(sourceThreadExecutor, Platform::runLater, maxBatchSize)}.
+     * @see #batchedThreadBridge(Executor, Executor, int)
+     */
+    default EventStream<T> batchedThreadBridgeToFx(
+            Executor sourceThreadExecutor,
+            int maxBatchSize) {
+        return batchedThreadBridge(
+                sourceThreadExecutor, Platform::runLater, maxBatchSize);
+    }
+
+    /**
+     * Transfers events from one thread to another through a buffer of at
+     * most {@code capacity} events. Like
+     * {@link #batchedThreadBridge(Executor, Executor)}, a task submitted to
+     * {@code targetThreadExecutor} emits all the buffered events. When an
+     * event arrives while the buffer is full, it is handled according to
+     * {@code overflowPolicy}.
+     * @param sourceThreadExecutor executor that executes tasks on the thread
+     * from which this EventStream is accessed.
+     * @param targetThreadExecutor executor that executes tasks on the thread
+     * from which the returned EventStream will be accessed.
+     * @param capacity maximum number of buffered events. Must be positive.
+     * @param overflowPolicy determines what happens to an event that arrives
+     * when the buffer is full.
+     * @return Event stream that emits the same events as this EventStream,
+     * except for the events discarded by {@code overflowPolicy}, but uses
+     * {@code targetThreadExecutor} to emit the events.
+     */
+    default BufferedEventStream<T> boundedThreadBridge(
+            Executor sourceThreadExecutor,
+            Executor targetThreadExecutor,
+            int capacity,
+            OverflowPolicy overflowPolicy) {
+        return new BoundedThreadBridge<T>(
+                this, sourceThreadExecutor, targetThreadExecutor,
+                capacity, overflowPolicy);
+    }
+
+    /**
+     * Transfers events from one thread to another through a buffer of at
+     * most {@code capacity} events. When an event arrives while the buffer is
+     * full, it is combined with the newest buffered event using
+     * {@code coalesce}, and the result replaces the newest buffered event.
+     * @param coalesce function used to combine the newest buffered event
+     * (first argument) with the new event (second argument). It is called
+     * from the thread that produces events.
+     * @see #boundedThreadBridge(Executor, Executor, int, OverflowPolicy)
+     */
+    default BufferedEventStream<T> boundedThreadBridge(
+            Executor sourceThreadExecutor,
+            Executor targetThreadExecutor,
+            int capacity,
+            BinaryOperator<T> coalesce) {
+        return new BoundedThreadBridge<T>(
+                this, sourceThreadExecutor, targetThreadExecutor,
+                capacity, coalesce);
+    }
+
+    /**
+     * Transfers events to the JavaFX application thread through a bounded
+     * buffer. Equivalent to
+     * {@code boundedThreadBridge(sourceThreadExecutor, Platform::runLater, capacity, overflowPolicy)}.
+     * @see #boundedThreadBridge(Executor, Executor, int, OverflowPolicy)
+     */
+    default BufferedEventStream<T> boundedThreadBridgeToFx(
+            Executor sourceThreadExecutor,
+            int capacity,
+            OverflowPolicy overflowPolicy) {
+        return boundedThreadBridge(
+                sourceThreadExecutor, Platform::runLater,
+                capacity, overflowPolicy);
+    }
+
+    /**
+     * Transfers events to the JavaFX application thread through a bounded
+     * buffer. Equivalent to
+     * {@code boundedThreadBridge(sourceThreadExecutor, Platform::runLater, capacity, coalesce)}.
+     * @see #boundedThreadBridge(Executor, Executor, int, BinaryOperator)
+     */
+    default BufferedEventStream<T> boundedThreadBridgeToFx(
+            Executor sourceThreadExecutor,
+            int capacity,
+            BinaryOperator<T> coalesce) {
+        return boundedThreadBridge(
+                sourceThreadExecutor, Platform::runLater,
+                capacity, coalesce);
+    }
+
+    /**
+     * Returns a {@link Flow.Publisher} of the events emitted by this event
+     * stream. Each subscriber of the returned publisher gets its own
+     * subscription to this stream, established on the thread of
+     * {@code streamThreadExecutor}, and its own buffer of at most
+     * {@code bufferSize} events. Buffered events are delivered to the
+     * subscriber only as demanded by {@link Flow.Subscription#request(long)},
+     * either on the thread of this stream or on the thread that requests
+     * them. When an event arrives while the buffer is full, it is handled
+     * according to {@code overflowPolicy}. Cancelling the
+     * {@link Flow.Subscription} unsubscribes from this stream.
+     *
+     * <p>Since {@link Flow} does not permit null items, null events are
+     * discarded. Since event streams never complete, neither
+     * {@link Flow.Subscriber#onComplete()} nor
+     * {@link Flow.Subscriber#onError(Throwable)} is ever called, except
+     * for the error of requesting a non-positive number of items.
+     *
+     * @param streamThreadExecutor executor that executes tasks on the thread
+     * from which this EventStream is accessed.
+     * @param bufferSize maximum number of events buffered for a subscriber.
+     * Must be positive.
+     * @param overflowPolicy determines what happens to an event that arrives
+     * when the buffer is full.
+     */
+    default Flow.Publisher<T> toPublisher(
+            Executor streamThreadExecutor,
+            int bufferSize,
+            OverflowPolicy overflowPolicy) {
+        return new EventStreamPublisher<>(
+                this, streamThreadExecutor, bufferSize, overflowPolicy);
+    }
+
+    /**
+     * Returns a {@link Flow.Publisher} of the events emitted by this event
+     * stream, which lives on the JavaFX application thread. Equivalent to
+     * {@code toPublisher(Platform::runLater, bufferSize, overflowPolicy)}.
+     * @see #toPublisher(Executor, int, OverflowPolicy)
+     */
+    default Flow.Publisher<T> toPublisher(
+            int bufferSize,
+            OverflowPolicy overflowPolicy) {
+        return toPublisher(Platform::runLater, bufferSize, overflowPolicy);
+    }
+
     /**
      * Returns a clone of this event stream guarded by the given guardians.
      * The returned event stream emits the same events as this event stream.
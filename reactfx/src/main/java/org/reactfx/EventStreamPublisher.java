@@ -0,0 +1,190 @@
+package org.reactfx;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * {@link Flow.Publisher} of the events emitted by an event stream.
+ * Each {@link Flow.Subscriber} gets its own subscription to the event stream
+ * and its own buffer of at most {@code bufferSize} events, from which events
+ * are delivered as demanded by the subscriber. Null events are discarded,
+ * since they are not permitted by {@link Flow}.
+ */
+class EventStreamPublisher<T> implements Flow.Publisher<T> {
+    private final EventStream<T> input;
+    private final Executor streamThreadExecutor;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+
+    EventStreamPublisher(
+            EventStream<T> input,
+            Executor streamThreadExecutor,
+            int bufferSize,
+            OverflowPolicy overflowPolicy) {
+        if(bufferSize <= 0) {
+            throw new IllegalArgumentException(
+                    "bufferSize must be positive. Was " + bufferSize);
+        }
+        this.input = input;
+        this.streamThreadExecutor = streamThreadExecutor;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        new BufferedSubscription(subscriber).start();
+    }
+
+    private final class BufferedSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final CompletableFuture<Subscription> inputSubscription =
+                new CompletableFuture<>();
+
+        // all of the following guarded by this
+        private final Object[] buffer = new Object[bufferSize];
+        private int head = 0;
+        private int size = 0;
+        private long requested = 0;
+        private boolean cancelled = false;
+        private boolean draining = false;
+
+        BufferedSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void start() {
+            subscriber.onSubscribe(this);
+            streamThreadExecutor.execute(() -> {
+                inputSubscription.complete(isCancelled()
+                        ? Subscription.EMPTY
+                        : input.subscribe(this::enqueue));
+            });
+        }
+
+        @Override
+        public void request(long n) {
+            if(n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException(
+                        "Requested number of events must be positive. Was " + n));
+                return;
+            }
+            synchronized(this) {
+                requested += n;
+                if(requested < 0) { // overflow
+                    requested = Long.MAX_VALUE;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized(this) {
+                if(cancelled) {
+                    return;
+                }
+                cancelled = true;
+                for(int i = 0; i < size; ++i) {
+                    buffer[(head + i) % buffer.length] = null;
+                }
+                size = 0;
+                notifyAll();
+            }
+            inputSubscription.thenAcceptAsync(
+                    Subscription::unsubscribe,
+                    streamThreadExecutor);
+        }
+
+        private synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void enqueue(T event) {
+            if(event == null) {
+                return;
+            }
+            synchronized(this) {
+                if(cancelled) {
+                    return;
+                }
+                if(size == buffer.length) {
+                    switch(overflowPolicy) {
+                        case DROP_NEWEST:
+                            return;
+                        case DROP_OLDEST:
+                            buffer[head] = null;
+                            head = (head + 1) % buffer.length;
+                            --size;
+                            break;
+                        case BLOCK:
+                            try {
+                                while(size == buffer.length && !cancelled) {
+                                    wait();
+                                }
+                            } catch(InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return;
+                            }
+                            if(cancelled) {
+                                return;
+                            }
+                            break;
+                    }
+                }
+                buffer[(head + size) % buffer.length] = event;
+                ++size;
+            }
+            drain();
+        }
+
+        /**
+         * Delivers buffered events while there is demand. Only one thread
+         * delivers events at a time, so that the subscriber is signalled
+         * serially.
+         */
+        @SuppressWarnings("unchecked")
+        private void drain() {
+            synchronized(this) {
+                if(draining) {
+                    return;
+                }
+                draining = true;
+            }
+            boolean drained = false;
+            try {
+                while(true) {
+                    T event;
+                    synchronized(this) {
+                        if(cancelled || size == 0 || requested == 0) {
+                            draining = false;
+                            drained = true;
+                            return;
+                        }
+                        event = (T) buffer[head];
+                        buffer[head] = null;
+                        head = (head + 1) % buffer.length;
+                        --size;
+                        if(requested != Long.MAX_VALUE) {
+                            --requested;
+                        }
+                        notifyAll();
+                    }
+                    subscriber.onNext(event); // may throw
+                }
+            } finally {
+                if(!drained) {
+                    // subscriber violated the specification by throwing
+                    synchronized(this) {
+                        draining = false;
+                    }
+                    cancel();
+                }
+            }
+        }
+    }
+}
@@ -5,12 +5,14 @@ import static org.reactfx.util.Tuples.*;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.value.ChangeListener;
@@ -32,13 +34,14 @@ import javafx.stage.Window;
 import org.reactfx.collection.ListModification;
 import org.reactfx.collection.LiveList;
 import org.reactfx.util.Either;
-import org.reactfx.util.FxTimer;
+import org.reactfx.util.Scheduler;
 import org.reactfx.util.Timer;
 import org.reactfx.util.Tuple2;
 import org.reactfx.util.Tuple3;
 import org.reactfx.util.Tuple4;
 import org.reactfx.util.Tuple5;
 import org.reactfx.util.Tuple6;
+import org.reactfx.util.Try;
 
 public class EventStreams {
 
@@ -300,16 +303,7 @@ public class EventStreams {
      * returned stream.
      */
     public static EventStream<?> ticks(Duration interval) {
-        return new EventStreamBase<Void>() {
-            private final Timer timer = FxTimer.createPeriodic(
-                    interval, () -> emit(null));
-
-            @Override
-            protected Subscription observeInputs() {
-                timer.restart();
-                return timer::stop;
-            }
-        };
+        return ticks(interval, Scheduler.fx());
     }
 
     /**
@@ -323,16 +317,7 @@ public class EventStreams {
      * returned stream.
      */
     public static EventStream<?> ticks0(Duration interval) {
-        return new EventStreamBase<Void>() {
-            private final Timer timer = FxTimer.createPeriodic0(
-                    interval, () -> emit(null));
-
-            @Override
-            protected Subscription observeInputs() {
-                timer.restart();
-                return timer::stop;
-            }
-        };
+        return ticks0(interval, Scheduler.fx());
     }
 
     /**
@@ -370,8 +355,66 @@ public class EventStreams {
      * @param impulse - the EventStream that resets this EventStream's internal timer
      */
     public static EventStream<?> restartableTicks(Duration interval, EventStream<?> impulse) {
+        return restartableTicks(interval, impulse, Scheduler.fx());
+    }
+
+    /**
+     * Returns a {@link #ticks0(Duration)} EventStream whose timer restarts whenever
+     * impulse emits an event. Note: since {@link #ticks0(Duration)} is used, restarting
+     * the timer will make the returned EventStream immediately emit a new tick.
+     * @param interval - the amount of time that passes until this stream emits its next tick
+     * @param impulse - the EventStream that resets this EventStream's internal timer
+     */
+    public static EventStream<?> restartableTicks0(Duration interval, EventStream<?> impulse) {
+        return restartableTicks0(interval, impulse, Scheduler.fx());
+    }
+
+    /**
+     * Like {@link #ticks(Duration)}, but takes its time and timers from the
+     * given {@link Scheduler}, such as a
+     * {@link org.reactfx.util.VirtualTimeScheduler}. The returned stream may
+     * only be used on the scheduler's thread.
+     */
+    public static EventStream<?> ticks(Duration interval, Scheduler scheduler) {
+        return new EventStreamBase<Void>() {
+            private final Timer timer = scheduler.createPeriodicTimer(
+                    interval, () -> emit(null));
+
+            @Override
+            protected Subscription observeInputs() {
+                timer.restart();
+                return timer::stop;
+            }
+        };
+    }
+
+    /**
+     * Like {@link #ticks0(Duration)}, but takes its time and timers from the
+     * given {@link Scheduler}.
+     */
+    public static EventStream<?> ticks0(Duration interval, Scheduler scheduler) {
+        return new EventStreamBase<Void>() {
+            private final Timer timer = scheduler.createPeriodicTimer0(
+                    interval, () -> emit(null));
+
+            @Override
+            protected Subscription observeInputs() {
+                timer.restart();
+                return timer::stop;
+            }
+        };
+    }
+
+    /**
+     * Like {@link #restartableTicks(Duration, EventStream)}, but takes its
+     * time and timers from the given {@link Scheduler}.
+     */
+    public static EventStream<?> restartableTicks(
+            Duration interval,
+            EventStream<?> impulse,
+            Scheduler scheduler) {
         return new EventStreamBase<Void>() {
-            private final Timer timer = FxTimer.createPeriodic(
+            private final Timer timer = scheduler.createPeriodicTimer(
                     interval, () -> emit(null));
 
             @Override
@@ -386,15 +429,15 @@ public class EventStreams {
     }
 
     /**
-     * Returns a {@link #ticks0(Duration)} EventStream whose timer restarts whenever
-     * impulse emits an event. Note: since {@link #ticks0(Duration)} is used, restarting
-     * the timer will make the returned EventStream immediately emit a new tick.
-     * @param interval - the amount of time that passes until this stream emits its next tick
-     * @param impulse - the EventStream that resets this EventStream's internal timer
+     * Like {@link #restartableTicks0(Duration, EventStream)}, but takes its
+     * time and timers from the given {@link Scheduler}.
      */
-    public static EventStream<?> restartableTicks0(Duration interval, EventStream<?> impulse) {
+    public static EventStream<?> restartableTicks0(
+            Duration interval,
+            EventStream<?> impulse,
+            Scheduler scheduler) {
         return new EventStreamBase<Void>() {
-            private final Timer timer = FxTimer.createPeriodic0(
+            private final Timer timer = scheduler.createPeriodicTimer0(
                     interval, () -> emit(null));
 
             @Override
@@ -442,6 +485,45 @@ public class EventStreams {
                 .map(t -> t._1);
     }
 
+    /**
+     * Returns an event stream that emits the items published by the given
+     * {@link Flow.Publisher} on the JavaFX application thread. Equivalent to
+     * {@code fromPublisher(publisher, prefetch, Platform::runLater)}.
+     *
+     * @see #fromPublisher(Flow.Publisher, int, Executor)
+     */
+    public static <T> EventStream<Try<T>> fromPublisher(
+            Flow.Publisher<? extends T> publisher,
+            int prefetch) {
+        return fromPublisher(publisher, prefetch, Platform::runLater);
+    }
+
+    /**
+     * Returns an event stream that emits the items published by the given
+     * {@link Flow.Publisher}. The returned stream subscribes to the publisher
+     * when it gets its first observer, and cancels the subscription when it
+     * loses its last observer.
+     *
+     * <p>Demand is signalled to the publisher in batches: initially,
+     * {@code prefetch} items are requested, and more are requested as the
+     * received items are emitted, so that at most {@code prefetch} items are
+     * ever waiting to be emitted.
+     *
+     * <p>Items are emitted as {@code Try.success(item)}. If the publisher
+     * fails with exception {@code e}, {@code Try.failure(e)} is emitted.
+     *
+     * @param prefetch maximum number of items requested ahead. Must be
+     * positive.
+     * @param clientThreadExecutor single-thread executor that executes
+     * actions on the thread on which the returned stream lives.
+     */
+    public static <T> EventStream<Try<T>> fromPublisher(
+            Flow.Publisher<? extends T> publisher,
+            int prefetch,
+            Executor clientThreadExecutor) {
+        return new PublisherStream<>(publisher, clientThreadExecutor, prefetch);
+    }
+
     /**
      * Returns an event stream that emits all the events emitted from any of
      * the {@code inputs}. The event type of the returned stream is the nearest
@@ -459,6 +541,51 @@ public class EventStreams {
         };
     }
 
+    /**
+     * Returns an {@code int} event stream that emits all the values emitted
+     * from any of the {@code inputs}.
+     *
+     * @see #merge(EventStream...)
+     */
+    public static IntEventStream mergeInts(IntEventStream... inputs) {
+        return new IntEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return Subscription.multi(i -> i.subscribe(this::emit), inputs);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@code long} event stream that emits all the values emitted
+     * from any of the {@code inputs}.
+     *
+     * @see #merge(EventStream...)
+     */
+    public static LongEventStream mergeLongs(LongEventStream... inputs) {
+        return new LongEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return Subscription.multi(i -> i.subscribe(this::emit), inputs);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@code double} event stream that emits all the values emitted
+     * from any of the {@code inputs}.
+     *
+     * @see #merge(EventStream...)
+     */
+    public static DoubleEventStream mergeDoubles(DoubleEventStream... inputs) {
+        return new DoubleEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return Subscription.multi(i -> i.subscribe(this::emit), inputs);
+            }
+        };
+    }
+
     /**
      * Returns an event stream that emits all the events emitted from any of
      * the event streams in the given observable set. When an event stream is
@@ -0,0 +1,22 @@
+package org.reactfx;
+
+/**
+ * IntEventSource is a {@code int} event stream that emits every value
+ * pushed to it.
+ *
+ * @see EventSource
+ */
+public class IntEventSource extends IntEventStreamBase {
+
+    /**
+     * Make this event stream immediately emit the given value.
+     */
+    public final void push(int value) {
+        emit(value);
+    }
+
+    @Override
+    protected final Subscription observeInputs() {
+        return Subscription.EMPTY;
+    }
+}
@@ -0,0 +1,222 @@
+package org.reactfx;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+import org.reactfx.util.Scheduler;
+import org.reactfx.util.Timer;
+
+/**
+ * Stream of {@code int} values. This is a primitive specialization of
+ * {@link EventStream}: values are passed from the stream to its subscribers,
+ * and between the streams derived by the methods of this interface,
+ * without boxing.
+ *
+ * @see EventStream#mapToInt(java.util.function.ToIntFunction)
+ * @see IntEventSource
+ */
+public interface IntEventStream extends Observable<IntConsumer> {
+
+    /**
+     * Get notified every time this event stream emits a value.
+     * @param subscriber handles emitted events.
+     * @return subscription that can be used to stop observing this event
+     * stream.
+     */
+    default Subscription subscribe(IntConsumer subscriber) {
+        return observe(subscriber);
+    }
+
+    /**
+     * Returns an event stream that emits the values of this stream, boxed.
+     */
+    default EventStream<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    /**
+     * Returns a new stream that emits the results of applying the given
+     * function to the values emitted from this stream.
+     */
+    default IntEventStream map(IntUnaryOperator f) {
+        return new IntEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return IntEventStream.this.subscribe(x -> emit(f.applyAsInt(x)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new event stream that emits the results of applying the given
+     * function to the values emitted from this stream.
+     */
+    default <U> EventStream<U> mapToObj(IntFunction<? extends U> f) {
+        return new EventStreamBase<U>() {
+            @Override
+            protected Subscription observeInputs() {
+                return IntEventStream.this.subscribe(x -> emit(f.apply(x)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@code long} stream that emits the results of applying
+     * the given function to the values emitted from this stream.
+     */
+    default LongEventStream mapToLong(IntToLongFunction f) {
+        return new LongEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return IntEventStream.this.subscribe(x -> emit(f.applyAsLong(x)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@code double} stream that emits the results of applying
+     * the given function to the values emitted from this stream.
+     */
+    default DoubleEventStream mapToDouble(IntToDoubleFunction f) {
+        return new DoubleEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return IntEventStream.this.subscribe(x -> emit(f.applyAsDouble(x)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new stream that emits the values emitted from this stream
+     * that satisfy the given predicate.
+     */
+    default IntEventStream filter(IntPredicate predicate) {
+        return new IntEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return IntEventStream.this.subscribe(x -> {
+                    if(predicate.test(x)) {
+                        emit(x);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Returns a stream that accumulates values emitted from this stream
+     * and emits the accumulated value every time this stream emits a value.
+     * The first value is emitted as is.
+     * @param reduction function to reduce two values into one.
+     *
+     * @see EventStream#accumulate(java.util.function.BinaryOperator)
+     */
+    default IntEventStream accumulate(IntBinaryOperator reduction) {
+        return new IntEventStreamBase() {
+            private boolean hasValue = false;
+            private int acc;
+
+            @Override
+            protected Subscription observeInputs() {
+                return IntEventStream.this.subscribe(x -> {
+                    acc = hasValue ? reduction.applyAsInt(acc, x) : x;
+                    hasValue = true;
+                    emit(acc);
+                });
+            }
+        };
+    }
+
+    /**
+     * Returns a stream that accumulates values emitted from this stream,
+     * starting with the given unit, and emits the accumulated value every
+     * time this stream emits a value.
+     * @param unit initial value of the accumulator.
+     * @param reduction function to add a value to the accumulator.
+     *
+     * @see EventStream#accumulate(Object, java.util.function.BiFunction)
+     */
+    default IntEventStream accumulate(int unit, IntBinaryOperator reduction) {
+        return new IntEventStreamBase() {
+            private int acc = unit;
+
+            @Override
+            protected Subscription observeInputs() {
+                return IntEventStream.this.subscribe(x -> {
+                    acc = reduction.applyAsInt(acc, x);
+                    emit(acc);
+                });
+            }
+        };
+    }
+
+    /**
+     * Returns a stream that, when events are emitted from this stream
+     * in close temporal succession, emits only the last one, reduced
+     * with the preceding ones using the given reduction.
+     * See {@link EventStream#reduceSuccessions(java.util.function.BinaryOperator, Duration)}
+     * for details.
+     *
+     * <p><b>Note:</b> This function can be used only when this stream and
+     * the returned stream are used from the JavaFX application thread. If
+     * you are using the event streams on a different thread, use
+     * {@link #reduceSuccessions(IntBinaryOperator, Duration, ScheduledExecutorService, Executor)}
+     * instead.</p>
+     *
+     * @param reduction function to reduce two events into one.
+     * @param timeout the maximum time difference between two subsequent
+     * events that can still be accumulated.
+     */
+    default IntEventStream reduceSuccessions(
+            IntBinaryOperator reduction,
+            Duration timeout) {
+        return reduceSuccessions(reduction, timeout, Scheduler.fx());
+    }
+
+    /**
+     * An analog to {@link #reduceSuccessions(IntBinaryOperator, Duration)}
+     * to use outside of JavaFX application thread.
+     *
+     * @param reduction function to reduce two events into one.
+     * @param timeout the maximum time difference between two subsequent
+     * events that can still be accumulated.
+     * @param scheduler used to schedule timeout expiration
+     * @param eventThreadExecutor executor that executes actions on the
+     * thread on which this stream's events are emitted. The returned stream
+     * will use this executor to emit events.
+     */
+    default IntEventStream reduceSuccessions(
+            IntBinaryOperator reduction,
+            Duration timeout,
+            ScheduledExecutorService scheduler,
+            Executor eventThreadExecutor) {
+        Function<Runnable, Timer> timerFactory =
+                action -> ScheduledExecutorServiceTimer.create(
+                        timeout, action, scheduler, eventThreadExecutor);
+        return new IntSuccessionReducingStream(this, reduction, timerFactory);
+    }
+
+    /**
+     * An analog to {@link #reduceSuccessions(IntBinaryOperator, Duration)}
+     * that takes its time and timers from the given {@link Scheduler}, such
+     * as a {@link org.reactfx.util.VirtualTimeScheduler}. The returned
+     * stream may only be used on the scheduler's thread.
+     */
+    default IntEventStream reduceSuccessions(
+            IntBinaryOperator reduction,
+            Duration timeout,
+            Scheduler scheduler) {
+        Function<Runnable, Timer> timerFactory =
+                action -> scheduler.createTimer(timeout, action);
+        return new IntSuccessionReducingStream(this, reduction, timerFactory);
+    }
+}
@@ -0,0 +1,50 @@
+package org.reactfx;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import org.reactfx.util.NotificationAccumulator;
+
+/**
+ * Base class for {@code int} event streams. Values emitted by
+ * {@link #emit(int)} are passed to observers without boxing.
+ */
+public abstract class IntEventStreamBase
+extends ObservableBase<IntConsumer, Integer>
+implements IntEventStream {
+
+    // value being emitted and the number of observers yet to be notified of it
+    private int value;
+    private int pending = 0;
+
+    private final Consumer<IntConsumer> notifier = observer -> {
+        --pending;
+        observer.accept(value);
+    };
+
+    /**
+     * Notifies all observers of the given value. As with
+     * {@link EventStreamBase}, emitting a value from an observer before
+     * all observers have been notified of the previous value is not
+     * allowed and results in {@link IllegalStateException}.
+     */
+    protected final void emit(int value) {
+        if(pending > 0) {
+            throw new IllegalStateException(
+                    "Recursive emission before all observers were notified");
+        }
+
+        this.value = value;
+        pending = getObserverCount();
+        try {
+            forEachObserver(notifier);
+        } finally {
+            pending = 0;
+        }
+    }
+
+    @Override
+    public NotificationAccumulator<IntConsumer, Integer, ?> defaultNotificationAccumulator() {
+        return NotificationAccumulator.nonAccumulativeIntStreamNotifications();
+    }
+}
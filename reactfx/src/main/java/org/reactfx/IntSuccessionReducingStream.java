@@ -0,0 +1,44 @@
+package org.reactfx;
+
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+
+import org.reactfx.util.Timer;
+
+/**
+ * See {@link IntEventStream#reduceSuccessions(IntBinaryOperator, java.time.Duration)}
+ */
+class IntSuccessionReducingStream extends IntEventStreamBase {
+    private final IntEventStream input;
+    private final IntBinaryOperator reduction;
+    private final Timer timer;
+
+    private boolean hasEvent = false;
+    private int event;
+
+    public IntSuccessionReducingStream(
+            IntEventStream input,
+            IntBinaryOperator reduction,
+            Function<Runnable, Timer> timerFactory) {
+        this.input = input;
+        this.reduction = reduction;
+        this.timer = timerFactory.apply(this::handleTimeout);
+    }
+
+    @Override
+    protected final Subscription observeInputs() {
+        return input.subscribe(this::handleEvent);
+    }
+
+    private void handleEvent(int x) {
+        event = hasEvent ? reduction.applyAsInt(event, x) : x;
+        hasEvent = true;
+        timer.restart();
+    }
+
+    private void handleTimeout() {
+        assert hasEvent;
+        hasEvent = false;
+        emit(event);
+    }
+}
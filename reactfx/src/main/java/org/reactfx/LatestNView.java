@@ -0,0 +1,22 @@
+package org.reactfx;
+
+import java.util.List;
+
+/**
+ * Read-only view of the latest events of a stream, as emitted by
+ * {@link EventStream#latestNView(int)}.
+ *
+ * <p>The same view is emitted for every event and changes as new events
+ * arrive, so it is only valid for the duration of the notification.
+ * Iterators obtained from the view fail with
+ * {@link java.util.ConcurrentModificationException} once a new event has
+ * arrived. An observer that needs to retain the contents has to copy them,
+ * e.g. using {@link #snapshot()}.
+ */
+public interface LatestNView<T> extends List<T> {
+
+    /**
+     * Returns an immutable copy of the current contents of this view.
+     */
+    List<T> snapshot();
+}
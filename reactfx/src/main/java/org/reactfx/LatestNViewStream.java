@@ -0,0 +1,82 @@
+package org.reactfx;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * See {@link EventStream#latestNView(int)}
+ */
+class LatestNViewStream<T> extends EventStreamBase<LatestNView<T>> {
+
+    private final class View extends AbstractList<T> implements LatestNView<T> {
+
+        @Override
+        public T get(int index) {
+            if(index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index + " not in [0, " + size + ")");
+            }
+            int i = start + index;
+            @SuppressWarnings("unchecked")
+            T elem = (T) buffer[i < buffer.length ? i : i - buffer.length];
+            return elem;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public List<T> snapshot() {
+            @SuppressWarnings("unchecked")
+            List<T> copy = (List<T>) Arrays.asList(toArray());
+            return Collections.unmodifiableList(copy);
+        }
+
+        void changed() {
+            ++modCount;
+        }
+    }
+
+    private final EventStream<T> source;
+    private final Object[] buffer;
+    private final View view = new View();
+
+    private int start = 0;
+    private int size = 0;
+
+    public LatestNViewStream(EventStream<T> source, int n) {
+        if(n <= 0) {
+            throw new IllegalArgumentException("n must be positive. Was " + n);
+        }
+
+        this.source = source;
+        this.buffer = new Object[n];
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        return source.subscribe(this::onEvent).and(this::reset);
+    }
+
+    private void onEvent(T event) {
+        if(size < buffer.length) {
+            // the buffer does not wrap around until it is full
+            buffer[size++] = event;
+        } else {
+            buffer[start] = event;
+            start = start + 1 < buffer.length ? start + 1 : 0;
+        }
+        view.changed();
+        emit(view);
+    }
+
+    private void reset() {
+        Arrays.fill(buffer, null);
+        start = 0;
+        size = 0;
+        view.changed();
+    }
+}
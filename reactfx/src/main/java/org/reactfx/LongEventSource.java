@@ -0,0 +1,22 @@
+package org.reactfx;
+
+/**
+ * LongEventSource is a {@code long} event stream that emits every value
+ * pushed to it.
+ *
+ * @see EventSource
+ */
+public class LongEventSource extends LongEventStreamBase {
+
+    /**
+     * Make this event stream immediately emit the given value.
+     */
+    public final void push(long value) {
+        emit(value);
+    }
+
+    @Override
+    protected final Subscription observeInputs() {
+        return Subscription.EMPTY;
+    }
+}
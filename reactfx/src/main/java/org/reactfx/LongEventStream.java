@@ -0,0 +1,222 @@
+package org.reactfx;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+import org.reactfx.util.Scheduler;
+import org.reactfx.util.Timer;
+
+/**
+ * Stream of {@code long} values. This is a primitive specialization of
+ * {@link EventStream}: values are passed from the stream to its subscribers,
+ * and between the streams derived by the methods of this interface,
+ * without boxing.
+ *
+ * @see EventStream#mapToLong(java.util.function.ToLongFunction)
+ * @see LongEventSource
+ */
+public interface LongEventStream extends Observable<LongConsumer> {
+
+    /**
+     * Get notified every time this event stream emits a value.
+     * @param subscriber handles emitted events.
+     * @return subscription that can be used to stop observing this event
+     * stream.
+     */
+    default Subscription subscribe(LongConsumer subscriber) {
+        return observe(subscriber);
+    }
+
+    /**
+     * Returns an event stream that emits the values of this stream, boxed.
+     */
+    default EventStream<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    /**
+     * Returns a new stream that emits the results of applying the given
+     * function to the values emitted from this stream.
+     */
+    default LongEventStream map(LongUnaryOperator f) {
+        return new LongEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return LongEventStream.this.subscribe(x -> emit(f.applyAsLong(x)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new event stream that emits the results of applying the given
+     * function to the values emitted from this stream.
+     */
+    default <U> EventStream<U> mapToObj(LongFunction<? extends U> f) {
+        return new EventStreamBase<U>() {
+            @Override
+            protected Subscription observeInputs() {
+                return LongEventStream.this.subscribe(x -> emit(f.apply(x)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@code int} stream that emits the results of applying
+     * the given function to the values emitted from this stream.
+     */
+    default IntEventStream mapToInt(LongToIntFunction f) {
+        return new IntEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return LongEventStream.this.subscribe(x -> emit(f.applyAsInt(x)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@code double} stream that emits the results of applying
+     * the given function to the values emitted from this stream.
+     */
+    default DoubleEventStream mapToDouble(LongToDoubleFunction f) {
+        return new DoubleEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return LongEventStream.this.subscribe(x -> emit(f.applyAsDouble(x)));
+            }
+        };
+    }
+
+    /**
+     * Returns a new stream that emits the values emitted from this stream
+     * that satisfy the given predicate.
+     */
+    default LongEventStream filter(LongPredicate predicate) {
+        return new LongEventStreamBase() {
+            @Override
+            protected Subscription observeInputs() {
+                return LongEventStream.this.subscribe(x -> {
+                    if(predicate.test(x)) {
+                        emit(x);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Returns a stream that accumulates values emitted from this stream
+     * and emits the accumulated value every time this stream emits a value.
+     * The first value is emitted as is.
+     * @param reduction function to reduce two values into one.
+     *
+     * @see EventStream#accumulate(java.util.function.BinaryOperator)
+     */
+    default LongEventStream accumulate(LongBinaryOperator reduction) {
+        return new LongEventStreamBase() {
+            private boolean hasValue = false;
+            private long acc;
+
+            @Override
+            protected Subscription observeInputs() {
+                return LongEventStream.this.subscribe(x -> {
+                    acc = hasValue ? reduction.applyAsLong(acc, x) : x;
+                    hasValue = true;
+                    emit(acc);
+                });
+            }
+        };
+    }
+
+    /**
+     * Returns a stream that accumulates values emitted from this stream,
+     * starting with the given unit, and emits the accumulated value every
+     * time this stream emits a value.
+     * @param unit initial value of the accumulator.
+     * @param reduction function to add a value to the accumulator.
+     *
+     * @see EventStream#accumulate(Object, java.util.function.BiFunction)
+     */
+    default LongEventStream accumulate(long unit, LongBinaryOperator reduction) {
+        return new LongEventStreamBase() {
+            private long acc = unit;
+
+            @Override
+            protected Subscription observeInputs() {
+                return LongEventStream.this.subscribe(x -> {
+                    acc = reduction.applyAsLong(acc, x);
+                    emit(acc);
+                });
+            }
+        };
+    }
+
+    /**
+     * Returns a stream that, when events are emitted from this stream
+     * in close temporal succession, emits only the last one, reduced
+     * with the preceding ones using the given reduction.
+     * See {@link EventStream#reduceSuccessions(java.util.function.BinaryOperator, Duration)}
+     * for details.
+     *
+     * <p><b>Note:</b> This function can be used only when this stream and
+     * the returned stream are used from the JavaFX application thread. If
+     * you are using the event streams on a different thread, use
+     * {@link #reduceSuccessions(LongBinaryOperator, Duration, ScheduledExecutorService, Executor)}
+     * instead.</p>
+     *
+     * @param reduction function to reduce two events into one.
+     * @param timeout the maximum time difference between two subsequent
+     * events that can still be accumulated.
+     */
+    default LongEventStream reduceSuccessions(
+            LongBinaryOperator reduction,
+            Duration timeout) {
+        return reduceSuccessions(reduction, timeout, Scheduler.fx());
+    }
+
+    /**
+     * An analog to {@link #reduceSuccessions(LongBinaryOperator, Duration)}
+     * to use outside of JavaFX application thread.
+     *
+     * @param reduction function to reduce two events into one.
+     * @param timeout the maximum time difference between two subsequent
+     * events that can still be accumulated.
+     * @param scheduler used to schedule timeout expiration
+     * @param eventThreadExecutor executor that executes actions on the
+     * thread on which this stream's events are emitted. The returned stream
+     * will use this executor to emit events.
+     */
+    default LongEventStream reduceSuccessions(
+            LongBinaryOperator reduction,
+            Duration timeout,
+            ScheduledExecutorService scheduler,
+            Executor eventThreadExecutor) {
+        Function<Runnable, Timer> timerFactory =
+                action -> ScheduledExecutorServiceTimer.create(
+                        timeout, action, scheduler, eventThreadExecutor);
+        return new LongSuccessionReducingStream(this, reduction, timerFactory);
+    }
+
+    /**
+     * An analog to {@link #reduceSuccessions(LongBinaryOperator, Duration)}
+     * that takes its time and timers from the given {@link Scheduler}, such
+     * as a {@link org.reactfx.util.VirtualTimeScheduler}. The returned
+     * stream may only be used on the scheduler's thread.
+     */
+    default LongEventStream reduceSuccessions(
+            LongBinaryOperator reduction,
+            Duration timeout,
+            Scheduler scheduler) {
+        Function<Runnable, Timer> timerFactory =
+                action -> scheduler.createTimer(timeout, action);
+        return new LongSuccessionReducingStream(this, reduction, timerFactory);
+    }
+}
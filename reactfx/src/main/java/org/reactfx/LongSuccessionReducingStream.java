@@ -0,0 +1,44 @@
+package org.reactfx;
+
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+
+import org.reactfx.util.Timer;
+
+/**
+ * See {@link LongEventStream#reduceSuccessions(LongBinaryOperator, java.time.Duration)}
+ */
+class LongSuccessionReducingStream extends LongEventStreamBase {
+    private final LongEventStream input;
+    private final LongBinaryOperator reduction;
+    private final Timer timer;
+
+    private boolean hasEvent = false;
+    private long event;
+
+    public LongSuccessionReducingStream(
+            LongEventStream input,
+            LongBinaryOperator reduction,
+            Function<Runnable, Timer> timerFactory) {
+        this.input = input;
+        this.reduction = reduction;
+        this.timer = timerFactory.apply(this::handleTimeout);
+    }
+
+    @Override
+    protected final Subscription observeInputs() {
+        return input.subscribe(this::handleEvent);
+    }
+
+    private void handleEvent(long x) {
+        event = hasEvent ? reduction.applyAsLong(event, x) : x;
+        hasEvent = true;
+        timer.restart();
+    }
+
+    private void handleTimeout() {
+        assert hasEvent;
+        hasEvent = false;
+        emit(event);
+    }
+}
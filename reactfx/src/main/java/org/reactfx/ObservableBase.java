@@ -1,9 +1,10 @@
 package org.reactfx;
 
+import java.util.Collections;
 import java.util.function.Consumer;
 
-import org.reactfx.util.ListHelper;
 import org.reactfx.util.NotificationAccumulator;
+import org.reactfx.util.ObserverArray;
 
 /**
  * Base class for observable objects. This abstract class implements:
@@ -20,9 +21,10 @@ import org.reactfx.util.NotificationAccumulator;
  * @param <T> type of produced values
  */
 public abstract class ObservableBase<O, T> implements ProperObservable<O, T> {
-    private ListHelper<O> observers = null;
+    private ObserverArray<O> observers = null; // null when there are no observers
     private Subscription inputSubscription = null;
     private final NotificationAccumulator<O, T, ?> pendingNotifications;
+    private boolean notifyingDirectly = false;
 
     protected ObservableBase(NotificationAccumulator<O, T, ?> pendingNotificationsImpl) {
         this.pendingNotifications = pendingNotificationsImpl;
@@ -48,18 +50,47 @@ public abstract class ObservableBase<O, T> implements ProperObservable<O, T> {
     }
 
     protected final int getObserverCount() {
-        return ListHelper.size(observers);
+        return observers == null ? 0 : observers.size();
     }
 
     @Override
     public final void notifyObservers(T event) {
-        enqueueNotifications(event);
-        notifyObservers();
+        if(!notifyDirectly(event)) {
+            enqueueNotifications(event);
+            notifyObservers();
+        }
+    }
+
+    /**
+     * Fast path for the common case of a single observer: if there is no
+     * notification in progress, the observer is notified directly, without
+     * going through the notification accumulator, which saves allocations.
+     * Recursive notifications (i.e. those from within the direct notification)
+     * go through the accumulator.
+     * @return {@code true} if the observer has been notified,
+     * {@code false} if the regular path has to be taken.
+     */
+    private boolean notifyDirectly(T event) {
+        if(notifyingDirectly
+                || getObserverCount() != 1
+                || !pendingNotifications.isEmpty()) {
+            return false;
+        }
+
+        notifyingDirectly = true;
+        try {
+            return pendingNotifications.notifyDirectly(
+                    observers.get(0), event);
+        } finally {
+            notifyingDirectly = false;
+        }
     }
 
     protected final void enqueueNotifications(T event) {
         // may throw if pendingNotifications not empty and recursion not allowed
-        pendingNotifications.addAll(ListHelper.iterator(observers), event);
+        pendingNotifications.addAll(
+                observers == null ? Collections.emptyIterator() : observers.iterator(),
+                event);
     }
 
     protected final void notifyObservers() {
@@ -80,7 +111,9 @@ public abstract class ObservableBase<O, T> implements ProperObservable<O, T> {
      * @param action action to execute for each observer.
      */
     protected final void forEachObserver(Consumer<O> action) {
-        ListHelper.forEach(observers, o -> action.accept(o));
+        if(observers != null) {
+            observers.forEach(action);
+        }
     }
 
     /**
@@ -95,6 +128,17 @@ public abstract class ObservableBase<O, T> implements ProperObservable<O, T> {
         // default implementation is empty
     }
 
+    /**
+     * Called for each removed observer, counterpart of
+     * {@link #newObserver(Object)}.
+     *
+     * <p>This method is called <em>before</em> the input subscription
+     * is unsubscribed, if this was the last observer.</p>
+     */
+    protected void observerRemoved(O observer) {
+        // default implementation is empty
+    }
+
     @Override
     public final Subscription observe(O observer) {
         addObserver(observer);
@@ -103,8 +147,11 @@ public abstract class ObservableBase<O, T> implements ProperObservable<O, T> {
 
     @Override
     public final void addObserver(O observer) {
-        observers = ListHelper.add(observers, observer);
-        if(ListHelper.size(observers) == 1) {
+        if(observers == null) {
+            observers = new ObserverArray<>();
+        }
+        observers.add(observer);
+        if(observers.size() == 1) {
             inputSubscription = observeInputs();
         }
         newObserver(observer);
@@ -112,10 +159,16 @@ public abstract class ObservableBase<O, T> implements ProperObservable<O, T> {
 
     @Override
     public final void removeObserver(O observer) {
-        observers = ListHelper.remove(observers, observer);
-        if(ListHelper.isEmpty(observers) && inputSubscription != null) {
-            inputSubscription.unsubscribe();
-            inputSubscription = null;
+        if(observers == null || !observers.remove(observer)) {
+            return;
+        }
+        observerRemoved(observer);
+        if(observers.isEmpty()) {
+            observers = null;
+            if(inputSubscription != null) {
+                inputSubscription.unsubscribe();
+                inputSubscription = null;
+            }
         }
     }
 
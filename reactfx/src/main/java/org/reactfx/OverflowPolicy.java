@@ -0,0 +1,28 @@
+package org.reactfx;
+
+/**
+ * Determines what happens to an event that arrives to a full bounded buffer.
+ *
+ * @see EventStream#boundedThreadBridge(java.util.concurrent.Executor, java.util.concurrent.Executor, int, OverflowPolicy)
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The oldest buffered event is discarded to make room for the new event.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The new event is discarded.
+     */
+    DROP_NEWEST,
+
+    /**
+     * The thread that produces the new event is blocked until there is room
+     * in the buffer. Must not be used when events may be produced on the
+     * thread that consumes the buffer, since that would block it forever.
+     * If the producing thread is interrupted while blocked, the new event
+     * is discarded and the interrupt status of the thread is restored.
+     */
+    BLOCK,
+}
@@ -0,0 +1,93 @@
+package org.reactfx;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+import org.reactfx.util.Try;
+
+/**
+ * Event stream that subscribes to a {@link Flow.Publisher} while it is
+ * itself being observed. At most {@code prefetch} items are requested
+ * ahead; more are requested as the received items are emitted on the
+ * client thread. Received items are emitted as {@code Try.success(item)},
+ * a failure of the publisher is emitted as {@code Try.failure(error)}.
+ */
+class PublisherStream<T> extends EventStreamBase<Try<T>> {
+    private final Flow.Publisher<? extends T> publisher;
+    private final Executor clientThreadExecutor;
+    private final int prefetch;
+    private final int replenishThreshold;
+
+    PublisherStream(
+            Flow.Publisher<? extends T> publisher,
+            Executor clientThreadExecutor,
+            int prefetch) {
+        if(prefetch <= 0) {
+            throw new IllegalArgumentException(
+                    "prefetch must be positive. Was " + prefetch);
+        }
+        this.publisher = publisher;
+        this.clientThreadExecutor = clientThreadExecutor;
+        this.prefetch = prefetch;
+        this.replenishThreshold = prefetch - (prefetch >> 2);
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        Receiver receiver = new Receiver();
+        publisher.subscribe(receiver);
+        return receiver::cancel;
+    }
+
+    private final class Receiver implements Flow.Subscriber<T> {
+        private final CompletableFuture<Flow.Subscription> subscription =
+                new CompletableFuture<>();
+
+        // accessed only from the client thread
+        private boolean cancelled = false;
+        private int consumed = 0;
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            if(!subscription.complete(s)) {
+                // already subscribed
+                s.cancel();
+                return;
+            }
+            s.request(prefetch);
+        }
+
+        @Override
+        public void onNext(T item) {
+            clientThreadExecutor.execute(() -> {
+                if(!cancelled) {
+                    emit(Try.success(item));
+                    if(++consumed == replenishThreshold) {
+                        consumed = 0;
+                        subscription.join().request(replenishThreshold);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            clientThreadExecutor.execute(() -> {
+                if(!cancelled) {
+                    emit(Try.failure(throwable));
+                }
+            });
+        }
+
+        @Override
+        public void onComplete() {
+            // nothing to do, there will be no more items
+        }
+
+        void cancel() {
+            cancelled = true;
+            subscription.thenAccept(Flow.Subscription::cancel);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.reactfx;
+
+import java.util.Arrays;
+import java.util.function.BinaryOperator;
+
+/**
+ * FIFO queue of timestamped summaries that maintains the combination of
+ * all its summaries, in order, under an associative operation.
+ *
+ * <p>Uses the two-stack scheme: new summaries are pushed on the back stack,
+ * which keeps a running combination of its contents. Summaries are removed
+ * from the front stack, each entry of which holds the combination of itself
+ * and all newer entries of the front stack. When the front stack runs out,
+ * the back stack is moved onto it. Each summary thus takes part in at most
+ * two applications of the operation, which makes {@link #push(Object, long)},
+ * {@link #pop()} and {@link #aggregate()} amortized O(1).
+ *
+ * <p>The backing arrays are reused, so a queue of bounded size does not
+ * allocate once it has reached its maximum size.
+ */
+final class SlidingAggregator<A> {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final BinaryOperator<A> combine;
+
+    // oldest entry on top
+    private Object[] frontAggs = new Object[INITIAL_CAPACITY];
+    private long[] frontStamps = new long[INITIAL_CAPACITY];
+    private int frontSize = 0;
+
+    // newest entry on top
+    private Object[] backItems = new Object[INITIAL_CAPACITY];
+    private long[] backStamps = new long[INITIAL_CAPACITY];
+    private int backSize = 0;
+    private A backAgg = null;
+
+    SlidingAggregator(BinaryOperator<A> combine) {
+        this.combine = combine;
+    }
+
+    int size() {
+        return frontSize + backSize;
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    void push(A summary, long stamp) {
+        if(backSize == backItems.length) {
+            backItems = Arrays.copyOf(backItems, 2 * backSize);
+            backStamps = Arrays.copyOf(backStamps, 2 * backSize);
+        }
+        backItems[backSize] = summary;
+        backStamps[backSize] = stamp;
+        backAgg = backSize == 0 ? summary : combine.apply(backAgg, summary);
+        ++backSize;
+    }
+
+    /**
+     * Removes the oldest summary.
+     * @throws IllegalStateException if this queue is empty.
+     */
+    void pop() {
+        if(frontSize == 0) {
+            flip();
+        }
+        frontAggs[--frontSize] = null;
+    }
+
+    /**
+     * Returns the timestamp of the oldest summary.
+     * @throws IllegalStateException if this queue is empty.
+     */
+    long oldestStamp() {
+        if(frontSize > 0) {
+            return frontStamps[frontSize - 1];
+        } else if(backSize > 0) {
+            return backStamps[0];
+        } else {
+            throw new IllegalStateException("empty");
+        }
+    }
+
+    /**
+     * Returns the combination of all summaries, from the oldest to the newest.
+     * @throws IllegalStateException if this queue is empty.
+     */
+    A aggregate() {
+        if(frontSize == 0) {
+            if(backSize == 0) {
+                throw new IllegalStateException("empty");
+            }
+            return backAgg;
+        }
+        A front = frontAgg();
+        return backSize == 0 ? front : combine.apply(front, backAgg);
+    }
+
+    void clear() {
+        Arrays.fill(frontAggs, 0, frontSize, null);
+        Arrays.fill(backItems, 0, backSize, null);
+        frontSize = 0;
+        backSize = 0;
+        backAgg = null;
+    }
+
+    private void flip() {
+        if(backSize == 0) {
+            throw new IllegalStateException("empty");
+        }
+        if(frontAggs.length < backSize) {
+            frontAggs = new Object[backItems.length];
+            frontStamps = new long[backItems.length];
+        }
+        for(int i = backSize - 1; i >= 0; --i) {
+            @SuppressWarnings("unchecked")
+            A item = (A) backItems[i];
+            backItems[i] = null;
+            frontAggs[frontSize] = frontSize == 0
+                    ? item
+                    : combine.apply(item, frontAgg());
+            frontStamps[frontSize] = backStamps[i];
+            ++frontSize;
+        }
+        backSize = 0;
+        backAgg = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private A frontAgg() {
+        return (A) frontAggs[frontSize - 1];
+    }
+}
@@ -71,6 +71,10 @@ implements Suspendable {
     }
 
     private void handleEvent(T event) {
+        if(!isSuspended()) {
+            Transaction.enlistIfOpen(this);
+        }
+
         if(isSuspended()) {
             if(hasValue) {
                 accumulatedValue = reduce(accumulatedValue, event);
@@ -0,0 +1,50 @@
+package org.reactfx;
+
+import java.util.function.Function;
+
+import org.reactfx.util.Timer;
+
+/**
+ * See {@link EventStream#throttleLast(java.time.Duration)} and
+ * {@link EventStream#sampleOnPulse()}
+ */
+class ThrottleLastStream<T> extends EventStreamBase<T> {
+    private final EventStream<T> input;
+    private final Timer timer;
+
+    private boolean hasEvent = false;
+    private T event = null;
+
+    public ThrottleLastStream(
+            EventStream<T> input,
+            Function<Runnable, Timer> timerFactory) {
+        this.input = input;
+        this.timer = timerFactory.apply(this::handleTimeout);
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        return input.subscribe(this::handleEvent).and(this::reset);
+    }
+
+    private void handleEvent(T t) {
+        event = t;
+        if(!hasEvent) {
+            hasEvent = true;
+            timer.restart();
+        }
+    }
+
+    private void handleTimeout() {
+        T toEmit = event;
+        hasEvent = false;
+        event = null;
+        emit(toEmit);
+    }
+
+    private void reset() {
+        timer.stop();
+        hasEvent = false;
+        event = null;
+    }
+}
@@ -0,0 +1,90 @@
+package org.reactfx;
+
+import java.time.Duration;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import org.reactfx.util.Scheduler;
+import org.reactfx.util.Timer;
+
+/**
+ * See {@link EventStream#slidingWindow(Duration, Duration, Function, BinaryOperator, Scheduler)}
+ */
+class TimeWindowStream<T, A> extends EventStreamBase<A> {
+    private final EventStream<T> input;
+    private final long sizeNanos;
+    private final boolean tumbling; // the window holds exactly the events since the previous tick
+    private final boolean disjoint;
+    private final Function<? super T, ? extends A> summary;
+    private final Scheduler scheduler;
+    private final SlidingAggregator<A> window;
+    private final Timer timer;
+
+    private boolean running = false;
+
+    public TimeWindowStream(
+            EventStream<T> input,
+            Duration size,
+            Duration step,
+            Function<? super T, ? extends A> summary,
+            BinaryOperator<A> combine,
+            Scheduler scheduler) {
+        if(size.isZero() || size.isNegative()) {
+            throw new IllegalArgumentException("size must be positive. Was " + size);
+        }
+        if(step.isZero() || step.isNegative()) {
+            throw new IllegalArgumentException("step must be positive. Was " + step);
+        }
+
+        this.input = input;
+        this.sizeNanos = size.toNanos();
+        this.tumbling = step.equals(size);
+        this.disjoint = step.compareTo(size) >= 0;
+        this.summary = summary;
+        this.scheduler = scheduler;
+        this.window = new SlidingAggregator<>(combine);
+        this.timer = scheduler.createPeriodicTimer(step, this::onTick);
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        Subscription sub = input.subscribe(this::onEvent);
+        return sub.and(() -> {
+            timer.stop();
+            running = false;
+            window.clear();
+        });
+    }
+
+    private void onEvent(T event) {
+        window.push(summary.apply(event), scheduler.nanoTime());
+        if(!running) {
+            running = true;
+            timer.restart();
+        }
+    }
+
+    private void onTick() {
+        if(!tumbling) {
+            long horizon = scheduler.nanoTime() - sizeNanos;
+            while(!window.isEmpty() && window.oldestStamp() - horizon <= 0) {
+                window.pop();
+            }
+        }
+        if(window.isEmpty()) {
+            stop();
+        } else {
+            A aggregate = window.aggregate();
+            if(disjoint) {
+                // no event of this window belongs to the next one
+                window.clear();
+            }
+            emit(aggregate);
+        }
+    }
+
+    private void stop() {
+        timer.stop();
+        running = false;
+    }
+}
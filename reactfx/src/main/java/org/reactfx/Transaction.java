@@ -0,0 +1,122 @@
+package org.reactfx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Scope in which suspendable observables are suspended automatically.
+ *
+ * <p>Unlike {@link Suspendable#combine(Suspendable...)}, the participants do
+ * not have to be known in advance: every {@link org.reactfx.value.SuspendableVal},
+ * {@link org.reactfx.collection.SuspendableList} and
+ * {@link SuspendableEventStream} that receives a notification while a
+ * transaction is open is suspended on the spot, and all of them are resumed
+ * together when the outermost transaction is committed. Notifications
+ * produced in the meantime are accumulated by each participant according to
+ * its own policy, so that, for example, setting a property once per row of
+ * a bulk load results in a single notification per property.
+ *
+ * <pre>
+ * try(Guard tx = Transaction.begin()) {
+ *     // modify the model
+ * }
+ * </pre>
+ *
+ * <p>Transactions may be nested, in which case only the closing of the
+ * outermost one commits. Participants are resumed in reverse order of
+ * enlistment, just like the guard returned from
+ * {@link Suspendable#combine(Suspendable...)} releases its suspendables.
+ * Notifications emitted by the resumed participants are delivered outside
+ * of the transaction. An exception thrown while resuming a participant does
+ * not prevent the others from being resumed; it is passed to the current
+ * thread's {@link Thread.UncaughtExceptionHandler} rather than thrown from
+ * the guard's {@code close()}.
+ *
+ * <p>Transactions are confined to the thread that opened them: only
+ * suspendables that receive notifications on that thread are enlisted, and
+ * the transaction has to be committed on the same thread. Transactions on
+ * different threads are independent of each other.
+ */
+public final class Transaction {
+
+    private static final class State {
+        int depth = 0;
+        List<Guard> participants = new ArrayList<>();
+
+        void end() {
+            if(--depth > 0) {
+                return;
+            }
+
+            List<Guard> toResume = participants;
+            participants = new ArrayList<>();
+
+            // close in reverse order, even if some of the guards fail
+            for(int i = toResume.size() - 1; i >= 0; --i) {
+                try {
+                    toResume.get(i).close();
+                } catch(RuntimeException | Error e) {
+                    reportFailure(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Guards do not throw, so a participant that fails to resume is reported
+     * to the current thread's uncaught exception handler instead.
+     */
+    private static void reportFailure(Throwable failure) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, failure);
+    }
+
+    private static final ThreadLocal<State> STATE =
+            ThreadLocal.withInitial(State::new);
+
+    private Transaction() {}
+
+    /**
+     * Opens a transaction on the current thread.
+     * @return a {@linkplain Guard} that commits the transaction when closed.
+     */
+    public static Guard begin() {
+        State state = STATE.get();
+        ++state.depth;
+        return Guard.closeableOnce(state::end);
+    }
+
+    /**
+     * Runs the given computation in a transaction.
+     */
+    public static void run(Runnable r) {
+        try(Guard g = begin()) { r.run(); }
+    }
+
+    /**
+     * Runs the given computation in a transaction.
+     * @return the result produced by the given supplier {@code f}.
+     */
+    public static <U> U run(Supplier<U> f) {
+        try(Guard g = begin()) { return f.get(); }
+    }
+
+    /**
+     * Returns whether a transaction is open on the current thread.
+     */
+    public static boolean isOpen() {
+        return STATE.get().depth > 0;
+    }
+
+    /**
+     * If a transaction is open on the current thread, suspends
+     * {@code participant} until the outermost transaction is committed.
+     */
+    static void enlistIfOpen(Suspendable participant) {
+        State state = STATE.get();
+        if(state.depth > 0) {
+            state.participants.add(participant.suspend());
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package org.reactfx.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+
+import org.reactfx.Subscription;
+import org.reactfx.util.FingerTree;
+import org.reactfx.util.Lists;
+import org.reactfx.util.ToSemigroup;
+import org.reactfx.util.Tuple2;
+import org.reactfx.value.Val;
+
+/**
+ * View of the elements of the source list that satisfy a predicate.
+ *
+ * <p>While observed, the view keeps a tree of flags that tell which source
+ * elements satisfy the predicate, summarized by the number of elements that
+ * do. Index translation between the source list and this view thus takes
+ * O(log(n)) time, and each source modification is translated to a
+ * modification of this view in time proportional to the size of the source
+ * modification, without rescanning the source list. When the predicate
+ * changes, every source element is tested again, but observers are only
+ * notified of the ranges that actually changed.
+ *
+ * <p>While not observed, each access to this view scans the source list.
+ */
+class FilteredList<E> extends LiveListBase<E>
+implements UnmodifiableByDefaultLiveList<E> {
+
+    private static final class Stats {
+        static final Stats ZERO = new Stats(0, 0);
+        static final Stats PASSING = new Stats(1, 1);
+        static final Stats FAILING = new Stats(1, 0);
+
+        final int size;
+        final int passing;
+
+        Stats(int size, int passing) {
+            this.size = size;
+            this.passing = passing;
+        }
+
+        int getPassing() { return passing; }
+    }
+
+    private static final ToSemigroup<Boolean, Stats> FLAG_STATS =
+            new ToSemigroup<Boolean, Stats>() {
+
+        @Override
+        public Stats reduce(Stats left, Stats right) {
+            return new Stats(
+                    left.size + right.size,
+                    left.passing + right.passing);
+        }
+
+        @Override
+        public Stats apply(Boolean passing) {
+            return passing ? Stats.PASSING : Stats.FAILING;
+        }
+    };
+
+    private final ObservableList<E> source;
+    private final Val<? extends Predicate<? super E>> predicate;
+
+    private FingerTree<Boolean, Stats> tree = null; // null when not observing inputs
+
+    public FilteredList(
+            ObservableList<E> source,
+            ObservableValue<? extends Predicate<? super E>> predicate) {
+        this.source = source;
+        this.predicate = Val.wrap(predicate);
+    }
+
+    @Override
+    public E get(int index) {
+        if(tree != null) {
+            Lists.checkIndex(index, size());
+            return source.get(sourceIndex(tree, index));
+        } else {
+            Predicate<? super E> p = predicate.getValue();
+            int i = 0;
+            for(E elem: source) {
+                if(p.test(elem) && i++ == index) {
+                    return elem;
+                }
+            }
+            throw new IndexOutOfBoundsException(index + " not in [0, " + i + ")");
+        }
+    }
+
+    @Override
+    public int size() {
+        if(tree != null) {
+            return tree.getSummary(Stats.ZERO).passing;
+        } else {
+            Predicate<? super E> p = predicate.getValue();
+            int n = 0;
+            for(E elem: source) {
+                if(p.test(elem)) {
+                    ++n;
+                }
+            }
+            return n;
+        }
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        tree = FingerTree.mkTree(test(source, predicate.getValue()), FLAG_STATS);
+        return Subscription.multi(
+                LiveList.<E>observeQuasiChanges(source, this::sourceChanged),
+                predicate.observeInvalidations(oldPredicate -> predicateChanged()))
+                .and(() -> tree = null);
+    }
+
+    private void sourceChanged(QuasiListChange<? extends E> change) {
+        Predicate<? super E> p = predicate.getValue();
+        QuasiListChangeImpl<E> filteredChange = new QuasiListChangeImpl<>();
+        for(QuasiListModification<? extends E> mod: change) {
+            int from = mod.getFrom();
+            int removedSize = mod.getRemovedSize();
+
+            Tuple2<FingerTree<Boolean, Stats>, FingerTree<Boolean, Stats>> lr = tree.split(from);
+            Tuple2<FingerTree<Boolean, Stats>, FingerTree<Boolean, Stats>> mr = lr._2.split(removedSize);
+            FingerTree<Boolean, Stats> left = lr._1;
+            FingerTree<Boolean, Stats> removedFlags = mr._1;
+            FingerTree<Boolean, Stats> right = mr._2;
+            int filteredFrom = left.getSummary(Stats.ZERO).passing;
+
+            List<? extends E> removed = mod.getRemoved();
+            List<E> filteredRemoved = new ArrayList<>(removedFlags.getSummary(Stats.ZERO).passing);
+            removedFlags.fold(0, (i, passing) -> {
+                if(passing) {
+                    filteredRemoved.add(removed.get(i));
+                }
+                return i + 1;
+            });
+
+            List<Boolean> addedFlags = test(source.subList(from, from + mod.getAddedSize()), p);
+            FingerTree<Boolean, Stats> added = FingerTree.mkTree(addedFlags, FLAG_STATS);
+            int filteredAddedSize = added.getSummary(Stats.ZERO).passing;
+
+            tree = left.join(added).join(right);
+
+            if(!filteredRemoved.isEmpty() || filteredAddedSize > 0) {
+                filteredChange.add(QuasiListModification.create(
+                        filteredFrom, filteredRemoved, filteredAddedSize));
+            }
+        }
+
+        if(!filteredChange.isEmpty()) {
+            notifyObservers(filteredChange);
+        }
+    }
+
+    private void predicateChanged() {
+        List<Boolean> newFlags = test(source, predicate.getValue());
+        List<Boolean> oldFlags = tree.asList();
+
+        QuasiListChangeImpl<E> change = new QuasiListChangeImpl<>();
+        int position = 0; // position in this view, with preceding changes applied
+        int from = -1; // start of the current modification, -1 if none
+        List<E> removed = null;
+        int addedSize = 0;
+        for(int i = 0; i < newFlags.size(); ++i) {
+            boolean wasPassing = oldFlags.get(i);
+            boolean isPassing = newFlags.get(i);
+            if(wasPassing == isPassing) {
+                if(isPassing) {
+                    if(from != -1) {
+                        change.add(QuasiListModification.create(from, removed, addedSize));
+                        from = -1;
+                    }
+                    ++position;
+                }
+                continue;
+            }
+
+            if(from == -1) {
+                from = position;
+                removed = new ArrayList<>();
+                addedSize = 0;
+            }
+            if(wasPassing) {
+                removed.add(source.get(i));
+            } else {
+                ++addedSize;
+                ++position;
+            }
+        }
+        if(from != -1) {
+            change.add(QuasiListModification.create(from, removed, addedSize));
+        }
+
+        tree = FingerTree.mkTree(newFlags, FLAG_STATS);
+        if(!change.isEmpty()) {
+            notifyObservers(change);
+        }
+    }
+
+    private static <E> List<Boolean> test(
+            List<? extends E> elems,
+            Predicate<? super E> predicate) {
+        List<Boolean> flags = new ArrayList<>(elems.size());
+        for(E elem: elems) {
+            flags.add(predicate.test(elem));
+        }
+        return flags;
+    }
+
+    private static int sourceIndex(FingerTree<Boolean, Stats> tree, int index) {
+        return tree.locateProgressively(Stats::getPassing, index).major;
+    }
+}
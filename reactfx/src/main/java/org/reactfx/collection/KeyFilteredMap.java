@@ -0,0 +1,136 @@
+package org.reactfx.collection;
+
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableMap;
+
+import org.reactfx.Subscription;
+
+/**
+ * View of the entries of a map whose keys satisfy a predicate. While
+ * observed, the size of the view is maintained incrementally from the
+ * source changes; otherwise it is computed by scanning the source map.
+ */
+class KeyFilteredMap<K, V> extends LiveMapBase<K, V>
+implements UnmodifiableByDefaultMap<K, V> {
+    private final ObservableMap<K, V> source;
+    private final Predicate<? super K> predicate;
+
+    private int size = -1; // -1 when not observing inputs
+
+    KeyFilteredMap(
+            ObservableMap<K, V> source,
+            Predicate<? super K> predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public int size() {
+        return size != -1 ? size : countPassing();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean containsKey(Object key) {
+        // cast is safe, since the key is in the source map
+        return source.containsKey(key) && predicate.test((K) key);
+    }
+
+    @Override
+    public V get(Object key) {
+        return containsKey(key) ? source.get(key) : null;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                Iterator<Map.Entry<K, V>> it = source.entrySet().iterator();
+                return new Iterator<Map.Entry<K, V>>() {
+                    private Map.Entry<K, V> next = advance();
+
+                    private Map.Entry<K, V> advance() {
+                        while(it.hasNext()) {
+                            Map.Entry<K, V> e = it.next();
+                            if(predicate.test(e.getKey())) {
+                                return e;
+                            }
+                        }
+                        return null;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next != null;
+                    }
+
+                    @Override
+                    public Map.Entry<K, V> next() {
+                        if(next == null) {
+                            throw new NoSuchElementException();
+                        }
+                        Map.Entry<K, V> res = next;
+                        next = advance();
+                        return res;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return KeyFilteredMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        size = countPassing();
+        return LiveMap.<K, V>observeChanges(source, this::sourceChanged)
+                .and(() -> size = -1);
+    }
+
+    private void sourceChanged(MapChange<? extends K, ? extends V> change) {
+        Map<K, V> added = filter(change.getAdded());
+        Map<K, V> removed = filter(change.getRemoved());
+        for(K key: added.keySet()) {
+            if(!removed.containsKey(key)) {
+                ++size;
+            }
+        }
+        for(K key: removed.keySet()) {
+            if(!added.containsKey(key)) {
+                --size;
+            }
+        }
+        fireChange(added, removed);
+    }
+
+    private Map<K, V> filter(Map<? extends K, ? extends V> m) {
+        Map<K, V> res = new HashMap<>();
+        for(Map.Entry<? extends K, ? extends V> e: m.entrySet()) {
+            if(predicate.test(e.getKey())) {
+                res.put(e.getKey(), e.getValue());
+            }
+        }
+        return res;
+    }
+
+    private int countPassing() {
+        int n = 0;
+        for(K key: source.keySet()) {
+            if(predicate.test(key)) {
+                ++n;
+            }
+        }
+        return n;
+    }
+}
@@ -1,20 +1,105 @@
 package org.reactfx.collection;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ListChangeListener;
 
+import org.reactfx.util.Either;
+import org.reactfx.util.FingerTree;
 import org.reactfx.util.Lists;
+import org.reactfx.util.ToSemigroup;
+import org.reactfx.util.Tuple2;
 
+/**
+ * Accumulates list modifications into a sequence of non-overlapping
+ * modifications, ordered by position.
+ *
+ * <p>Modifications are kept in a balanced tree. Instead of its position,
+ * each modification stores its distance from the end of the preceding
+ * modification, so that a modification shifts all the modifications that
+ * follow it just by adjusting the distance of the one that immediately
+ * follows it. Locating the modifications that overlap a new modification,
+ * as well as inserting the new modification, thus takes logarithmic time in
+ * the number of accumulated modifications, plus linear time in the number
+ * of overlapping modifications, which are merged into one.
+ */
 public final class ListChangeAccumulator<E> implements ListModificationSequence<E> {
-    private QuasiListChangeImpl<E> modifications = new QuasiListChangeImpl<>();
+
+    /**
+     * Accumulated modification, positioned relative to the end of the
+     * preceding modification.
+     */
+    private static final class Entry<E> {
+        final int gap; // distance from the end of the preceding modification
+        final List<? extends E> removed;
+        final int addedSize;
+
+        Entry(int gap, List<? extends E> removed, int addedSize) {
+            this.gap = gap;
+            this.removed = removed;
+            this.addedSize = addedSize;
+        }
+
+        Entry<E> withGap(int gap) {
+            return new Entry<>(gap, removed, addedSize);
+        }
+
+        QuasiListModification<E> toModification(int from) {
+            return new QuasiListModificationImpl<>(from, removed, addedSize);
+        }
+    }
+
+    private static final class Stats {
+        private static final Stats ZERO = new Stats(0, 0);
+
+        // end of the last modification, relative to the start
+        final int end;
+
+        // start of the last modification, relative to the start
+        final int lastFrom;
+
+        Stats(int end, int lastFrom) {
+            this.end = end;
+            this.lastFrom = lastFrom;
+        }
+    }
+
+    private static final ToSemigroup<Entry<?>, Stats> ENTRY_STATS =
+            new ToSemigroup<Entry<?>, Stats>() {
+
+        @Override
+        public Stats reduce(Stats left, Stats right) {
+            return new Stats(
+                    left.end + right.end,
+                    left.end + right.lastFrom);
+        }
+
+        @Override
+        public Stats apply(Entry<?> entry) {
+            return new Stats(entry.gap + entry.addedSize, entry.gap);
+        }
+    };
+
+    private static <E> FingerTree<Entry<E>, Stats> emptyTree() {
+        return FingerTree.empty(ENTRY_STATS);
+    }
+
+    private FingerTree<Entry<E>, Stats> modifications = emptyTree();
 
     public ListChangeAccumulator() {}
 
     public ListChangeAccumulator(QuasiListChange<E> change) {
-        modifications = new QuasiListChangeImpl<>(change);
+        List<Entry<E>> entries = new ArrayList<>(change.getModificationCount());
+        int end = 0;
+        for(QuasiListModification<? extends E> mod: change) {
+            entries.add(new Entry<>(
+                    mod.getFrom() - end, mod.getRemoved(), mod.getAddedSize()));
+            end = mod.getTo();
+        }
+        modifications = FingerTree.mkTree(entries, ENTRY_STATS);
     }
 
     @Override
@@ -27,9 +112,29 @@ public final class ListChangeAccumulator<E> implements ListModificationSequence<
         return fetch();
     }
 
+    /**
+     * Returns a view of the accumulated modifications. Accessing a
+     * modification by index takes logarithmic time.
+     */
     @Override
     public List<QuasiListModification<? extends E>> getModifications() {
-        return Collections.unmodifiableList(modifications);
+        return new AbstractList<QuasiListModification<? extends E>>() {
+
+            @Override
+            public QuasiListModification<? extends E> get(int index) {
+                return modificationAt(index);
+            }
+
+            @Override
+            public int size() {
+                return modifications.getLeafCount();
+            }
+        };
+    }
+
+    @Override
+    public int getModificationCount() {
+        return modifications.getLeafCount();
     }
 
     public boolean isEmpty() {
@@ -37,52 +142,91 @@ public final class ListChangeAccumulator<E> implements ListModificationSequence<
     }
 
     public QuasiListChange<E> fetch() {
-        QuasiListChange<E> res = modifications;
-        modifications = new QuasiListChangeImpl<>();
+        QuasiListChangeImpl<E> res = new QuasiListChangeImpl<>(
+                modifications.getLeafCount());
+        modifications.fold(0, (end, entry) -> {
+            QuasiListModification<E> mod = entry.toModification(end + entry.gap);
+            res.add(mod);
+            return mod.getTo();
+        });
+        modifications = emptyTree();
         return res;
     }
 
     public ListChangeAccumulator<E> drop(int n) {
-        modifications.subList(0, n).clear();
+        Tuple2<FingerTree<Entry<E>, Stats>, FingerTree<Entry<E>, Stats>> lr =
+                modifications.split(n);
+        FingerTree<Entry<E>, Stats> rest = lr._2;
+        if(!rest.isEmpty()) {
+            // the first remaining modification keeps its position
+            int droppedEnd = end(lr._1);
+            Entry<E> first = rest.getLeaf(0);
+            rest = rest.updateLeaf(0, first.withGap(droppedEnd + first.gap));
+        }
+        modifications = rest;
         return this;
     }
 
     public ListChangeAccumulator<E> add(QuasiListModification<? extends E> mod) {
-        if(modifications.isEmpty()) {
-            modifications.add(mod);
+        int n = modifications.getLeafCount();
+        if(n == 0) {
+            modifications = modifications.append(
+                    new Entry<>(mod.getFrom(), mod.getRemoved(), mod.getAddedSize()));
+            return this;
+        }
+
+        // find first and last overlapping modification
+        int from = mod.getFrom();
+        int to = from + mod.getRemovedSize();
+        Stats total = modifications.getSummary(Stats.ZERO);
+        int firstOverlapping = from <= total.end
+                ? modifications.locate(ListChangeAccumulator::navigateByEnd, from).major
+                : n;
+        int lastOverlapping = to < total.lastFrom
+                ? modifications.locate(ListChangeAccumulator::navigateByFrom, to).major - 1
+                : n - 1;
+
+        Tuple2<FingerTree<Entry<E>, Stats>, FingerTree<Entry<E>, Stats>> lr =
+                modifications.split(firstOverlapping);
+        FingerTree<Entry<E>, Stats> left = lr._1;
+        int leftEnd = end(left);
+        Tuple2<FingerTree<Entry<E>, Stats>, FingerTree<Entry<E>, Stats>> mr =
+                lr._2.split(lastOverlapping + 1 - firstOverlapping);
+        FingerTree<Entry<E>, Stats> overlapping = mr._1;
+        FingerTree<Entry<E>, Stats> right = mr._2;
+
+        // combine overlapping modifications into one
+        QuasiListModification<? extends E> newMod;
+        if(overlapping.isEmpty()) {
+            newMod = mod;
         } else {
-            // find first and last overlapping modification
-            int from = mod.getFrom();
-            int to = from + mod.getRemovedSize();
-            int firstOverlapping = 0;
-            for(; firstOverlapping < modifications.size(); ++firstOverlapping) {
-                if(modifications.get(firstOverlapping).getTo() >= from) {
-                    break;
-                }
-            }
-            int lastOverlapping = modifications.size() - 1;
-            for(; lastOverlapping >= 0; --lastOverlapping) {
-                if(modifications.get(lastOverlapping).getFrom() <= to) {
-                    break;
-                }
-            }
+            List<QuasiListModification<? extends E>> overlappingMods =
+                    new ArrayList<>(overlapping.getLeafCount());
+            overlapping.fold(leftEnd, (end, entry) -> {
+                QuasiListModification<E> m = entry.toModification(end + entry.gap);
+                overlappingMods.add(m);
+                return m.getTo();
+            });
+            QuasiListModification<? extends E> joined = join(overlappingMods, mod.getRemoved(), mod.getFrom());
+            newMod = combine(joined, mod);
+        }
 
-            // offset modifications farther in the list
+        // offset modifications farther in the list, which amounts to
+        // adjusting the gap of the first of them
+        if(!right.isEmpty()) {
             int diff = mod.getTo() - mod.getFrom() - mod.getRemovedSize();
-            offsetPendingModifications(lastOverlapping + 1, diff);
-
-            // combine overlapping modifications into one
-            if(lastOverlapping < firstOverlapping) { // no overlap
-                modifications.add(firstOverlapping, mod);
-            } else { // overlaps one or more former modifications
-                List<QuasiListModification<? extends E>> overlapping = modifications.subList(firstOverlapping, lastOverlapping + 1);
-                QuasiListModification<? extends E> joined = join(overlapping, mod.getRemoved(), mod.getFrom());
-                QuasiListModification<E> newMod = combine(joined, mod);
-                overlapping.clear();
-                modifications.add(firstOverlapping, newMod);
-            }
+            Entry<E> next = right.getLeaf(0);
+            int nextFrom = leftEnd + end(overlapping) + next.gap + diff;
+            right = right.updateLeaf(0, next.withGap(nextFrom - newMod.getTo()));
         }
 
+        modifications = left
+                .append(new Entry<>(
+                        newMod.getFrom() - leftEnd,
+                        newMod.getRemoved(),
+                        newMod.getAddedSize()))
+                .join(right);
+
         return this;
     }
 
@@ -102,12 +246,38 @@ public final class ListChangeAccumulator<E> implements ListModificationSequence<
         return this;
     }
 
-    private void offsetPendingModifications(int from, int offset) {
-        modifications.subList(from, modifications.size())
-                .replaceAll(mod -> new QuasiListModificationImpl<>(
-                        mod.getFrom() + offset,
-                        mod.getRemoved(),
-                        mod.getAddedSize()));
+    private QuasiListModification<E> modificationAt(int index) {
+        Entry<E> entry = modifications.getLeaf(index);
+        int precedingEnd = end(modifications.getSummaryBetween(0, index));
+        return entry.toModification(precedingEnd + entry.gap);
+    }
+
+    private static int end(FingerTree<?, Stats> tree) {
+        return tree.getSummary(Stats.ZERO).end;
+    }
+
+    private static int end(Optional<Stats> stats) {
+        return stats.orElse(Stats.ZERO).end;
+    }
+
+    /**
+     * Navigates to the first modification that ends at or after
+     * {@code position}.
+     */
+    private static Either<Integer, Integer> navigateByEnd(Stats stats, int position) {
+        return position <= stats.end
+                ? Either.left(position)
+                : Either.right(position - stats.end);
+    }
+
+    /**
+     * Navigates to the first modification that starts after
+     * {@code position}.
+     */
+    private static Either<Integer, Integer> navigateByFrom(Stats stats, int position) {
+        return position < stats.lastFrom
+                ? Either.left(position)
+                : Either.right(position - stats.end);
     }
 
     private static <E> QuasiListModification<? extends E> join(
@@ -0,0 +1,338 @@
+package org.reactfx.collection;
+
+import static org.reactfx.util.Either.*;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ObservableList;
+
+import org.reactfx.Subscription;
+import org.reactfx.util.FingerTree;
+import org.reactfx.util.ToSemigroup;
+import org.reactfx.util.Tuple2;
+import org.reactfx.value.Val;
+import org.reactfx.value.ValBase;
+
+/**
+ * Map from the keys of the elements of the source list to the aggregate of
+ * the elements that have that key. Aggregates are computed by a
+ * {@link ToSemigroup}, in source order, so the reduction need not be
+ * commutative.
+ *
+ * <p>While observed, each group is kept in its own finger tree summarized
+ * by the aggregate, and the source elements are kept in a tree in source
+ * order. Each inserted or removed source element costs O(log(n)) and only
+ * the aggregates of the affected groups are invalidated. The map itself
+ * reports a change only when a group appears or disappears; changes of an
+ * aggregate are reported by the group's {@linkplain Val}, which keeps this
+ * map observed while it is itself observed.
+ *
+ * <p>While not observed, each access scans the source list.
+ */
+class ListGroupAggregation<E, K, A> extends LiveMapBase<K, Val<A>>
+implements UnmodifiableByDefaultMap<K, Val<A>> {
+
+    private static final class Member<E, K, A> extends SourceOrderLabels.Node {
+        final K key;
+        final Stats<E, K, A> stats;
+
+        Member(K key, A aggregate) {
+            this.key = key;
+            this.stats = new Stats<>(aggregate, this);
+        }
+    }
+
+    private static final class Stats<E, K, A> {
+        final A aggregate;
+        final Member<E, K, A> last;
+
+        Stats(A aggregate, Member<E, K, A> last) {
+            this.aggregate = aggregate;
+            this.last = last;
+        }
+    }
+
+    private final class Group {
+        final K key;
+        FingerTree<Member<E, K, A>, Stats<E, K, A>> tree = FingerTree.empty(groupStats);
+        private GroupVal val = null; // created on first use
+
+        Group(K key) {
+            this.key = key;
+        }
+
+        GroupVal val() {
+            if(val == null) {
+                val = new GroupVal(key);
+            }
+            return val;
+        }
+    }
+
+    private final class GroupVal extends ValBase<A> {
+        private final K key;
+
+        GroupVal(K key) {
+            this.key = key;
+        }
+
+        @Override
+        protected Subscription connect() {
+            observedVals.computeIfAbsent(key, k -> new ArrayList<>()).add(this);
+            Subscription pin = ListGroupAggregation.this.pin();
+            return pin.and(() -> {
+                List<GroupVal> vals = observedVals.get(key);
+                vals.remove(this);
+                if(vals.isEmpty()) {
+                    observedVals.remove(key);
+                }
+            });
+        }
+
+        @Override
+        protected A computeValue() {
+            return aggregate(key);
+        }
+
+        void groupChanged() {
+            invalidate();
+        }
+    }
+
+    private final ObservableList<E> source;
+    private final Function<? super E, ? extends K> keyFn;
+    private final ToSemigroup<? super E, A> aggregation;
+    private final ToSemigroup<Member<E, K, A>, Stats<E, K, A>> groupStats =
+            new ToSemigroup<Member<E, K, A>, Stats<E, K, A>>() {
+
+        @Override
+        public Stats<E, K, A> reduce(Stats<E, K, A> left, Stats<E, K, A> right) {
+            return new Stats<>(
+                    aggregation.reduce(left.aggregate, right.aggregate),
+                    right.last);
+        }
+
+        @Override
+        public Stats<E, K, A> apply(Member<E, K, A> member) {
+            return member.stats;
+        }
+    };
+
+    private final Map<K, List<GroupVal>> observedVals = new HashMap<>();
+
+    // both null when not observing inputs
+    private FingerTree<Member<E, K, A>, Void> sourceTree = null;
+    private Map<K, Group> groups = null;
+
+    ListGroupAggregation(
+            ObservableList<E> source,
+            Function<? super E, ? extends K> keyFn,
+            ToSemigroup<? super E, A> aggregation) {
+        this.source = source;
+        this.keyFn = keyFn;
+        this.aggregation = aggregation;
+    }
+
+    @Override
+    public int size() {
+        return groups != null ? groups.size() : keys().size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return groups != null ? groups.containsKey(key) : keys().contains(key);
+    }
+
+    @Override
+    public Val<A> get(Object key) {
+        if(groups != null) {
+            Group group = groups.get(key);
+            return group != null ? group.val() : null;
+        } else if(keys().contains(key)) {
+            @SuppressWarnings("unchecked")
+            K k = (K) key; // safe, since it is a key of some element
+            return new GroupVal(k);
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, Val<A>>> entrySet() {
+        return new AbstractSet<Map.Entry<K, Val<A>>>() {
+            @Override
+            public Iterator<Map.Entry<K, Val<A>>> iterator() {
+                Iterator<K> it = groups != null
+                        ? new ArrayList<>(groups.keySet()).iterator()
+                        : keys().iterator();
+                return new Iterator<Map.Entry<K, Val<A>>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<K, Val<A>> next() {
+                        K key = it.next();
+                        return new SimpleImmutableEntry<>(key, get(key));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ListGroupAggregation.this.size();
+            }
+        };
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        groups = new HashMap<>();
+        List<Member<E, K, A>> members = new ArrayList<>(source.size());
+        for(E elem: source) {
+            members.add(newMember(elem));
+        }
+        SourceOrderLabels.assign(members);
+        sourceTree = FingerTree.mkTree(members);
+        for(Member<E, K, A> m: members) {
+            Group group = groups.computeIfAbsent(m.key, Group::new);
+            group.tree = group.tree.append(m);
+        }
+        return LiveList.<E>observeQuasiChanges(source, this::sourceChanged)
+                .and(() -> {
+                    sourceTree = null;
+                    groups = null;
+                });
+    }
+
+    private void sourceChanged(QuasiListChange<? extends E> change) {
+        Set<Group> dirty = new HashSet<>();
+        Set<K> newKeys = new HashSet<>();
+        for(QuasiListModification<? extends E> mod: change) {
+            int from = mod.getFrom();
+            int addedSize = mod.getAddedSize();
+            Tuple2<FingerTree<Member<E, K, A>, Void>, FingerTree<Member<E, K, A>, Void>> lr =
+                    sourceTree.split(from);
+            Tuple2<FingerTree<Member<E, K, A>, Void>, FingerTree<Member<E, K, A>, Void>> mr =
+                    lr._2.split(mod.getRemovedSize());
+            FingerTree<Member<E, K, A>, Void> left = lr._1;
+            FingerTree<Member<E, K, A>, Void> right = mr._2;
+
+            for(Member<E, K, A> m: mr._1.asList()) {
+                Group group = groups.get(m.key);
+                int i = indexInGroup(group.tree, m);
+                Tuple2<FingerTree<Member<E, K, A>, Stats<E, K, A>>, FingerTree<Member<E, K, A>, Stats<E, K, A>>> t =
+                        group.tree.split(i);
+                group.tree = t._1.join(t._2.split(1)._2);
+                dirty.add(group);
+            }
+
+            List<Member<E, K, A>> added = new ArrayList<>(addedSize);
+            for(E elem: source.subList(from, from + addedSize)) {
+                added.add(newMember(elem));
+            }
+            sourceTree = left.join(FingerTree.mkTree(added)).join(right);
+            SourceOrderLabels.assign(added, left, right, sourceTree);
+
+            for(Member<E, K, A> m: added) {
+                Group group = groups.get(m.key);
+                if(group == null) {
+                    group = new Group(m.key);
+                    groups.put(m.key, group);
+                    newKeys.add(m.key);
+                }
+                int i = indexInGroup(group.tree, m);
+                Tuple2<FingerTree<Member<E, K, A>, Stats<E, K, A>>, FingerTree<Member<E, K, A>, Stats<E, K, A>>> t =
+                        group.tree.split(i);
+                group.tree = t._1.append(m).join(t._2);
+                dirty.add(group);
+            }
+        }
+
+        // empty groups are removed only now, so that a group emptied and
+        // refilled by the same change is not reported
+        Map<K, Val<A>> addedGroups = new HashMap<>();
+        Map<K, Val<A>> removedGroups = new HashMap<>();
+        for(Group group: dirty) {
+            boolean isNew = newKeys.contains(group.key);
+            if(group.tree.getLeafCount() == 0) {
+                groups.remove(group.key);
+                if(!isNew) {
+                    removedGroups.put(group.key, group.val());
+                }
+            } else if(isNew) {
+                addedGroups.put(group.key, group.val());
+            }
+        }
+        fireChange(addedGroups, removedGroups);
+
+        for(Group group: dirty) {
+            List<GroupVal> vals = observedVals.get(group.key);
+            if(vals != null) {
+                for(GroupVal val: new ArrayList<>(vals)) {
+                    val.groupChanged();
+                }
+            }
+        }
+    }
+
+    private A aggregate(K key) {
+        if(groups != null) {
+            Group group = groups.get(key);
+            return group == null
+                    ? null
+                    : group.tree.getSummaryOpt().map(s -> s.aggregate).orElse(null);
+        } else {
+            A acc = null;
+            boolean empty = true;
+            for(E elem: source) {
+                if(Objects.equals(key, keyFn.apply(elem))) {
+                    A a = aggregation.apply(elem);
+                    acc = empty ? a : aggregation.reduce(acc, a);
+                    empty = false;
+                }
+            }
+            return acc;
+        }
+    }
+
+    private Set<K> keys() {
+        Set<K> keys = new HashSet<>();
+        for(E elem: source) {
+            keys.add(keyFn.apply(elem));
+        }
+        return keys;
+    }
+
+    private Member<E, K, A> newMember(E elem) {
+        return new Member<>(keyFn.apply(elem), aggregation.apply(elem));
+    }
+
+    /**
+     * Returns the index of the first member of the group that is not before
+     * {@code m} in source order. If {@code m} is in the group, this is its
+     * index; otherwise it is the index at which {@code m} belongs.
+     */
+    private static <E, K, A> int indexInGroup(
+            FingerTree<Member<E, K, A>, Stats<E, K, A>> tree,
+            Member<E, K, A> m) {
+        return tree.caseEmpty().unify(
+                empty -> 0,
+                t -> SourceOrderLabels.compare(m, t.getSummary().last) > 0
+                        ? t.getLeafCount()
+                        : t.locate(
+                                (s, pos) -> SourceOrderLabels.compare(m, s.last) <= 0 ? left(pos) : right(pos),
+                                0).major);
+    }
+}
@@ -1,5 +1,7 @@
 package org.reactfx.collection;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.BinaryOperator;
 
 import javafx.beans.value.ObservableValue;
@@ -14,17 +16,41 @@ import org.reactfx.value.Val;
 import org.reactfx.value.ValBase;
 
 class ListReduction<T> extends ValBase<T> {
+
+    /**
+     * Replacements of at most this many elements are applied leaf by leaf,
+     * larger ones by splicing the tree.
+     */
+    private static final int MAX_IN_PLACE_UPDATES = 16;
+
     private final ObservableList<T> input;
     private final BinaryOperator<T> reduction;
     private final ToSemigroup<T, T> monoid;
+    private final boolean parallel;
 
     private FingerTree<T, T> tree = null;
 
+    // input modifications not yet applied to the tree
+    private ListChangeAccumulator<T> pending = null;
+
     ListReduction(
             ObservableList<T> input,
             BinaryOperator<T> reduction) {
+        this(input, reduction, false);
+    }
+
+    /**
+     * @param parallel whether to build the tree and reduce large unobserved
+     * inputs in the common {@link java.util.concurrent.ForkJoinPool}.
+     * {@code reduction} then has to be thread-safe.
+     */
+    ListReduction(
+            ObservableList<T> input,
+            BinaryOperator<T> reduction,
+            boolean parallel) {
         this.input = input;
         this.reduction = reduction;
+        this.parallel = parallel;
         monoid = new ToSemigroup<T, T>() {
 
             @Override
@@ -42,17 +68,49 @@ class ListReduction<T> extends ValBase<T> {
     @Override
     protected Subscription connect() {
         assert tree == null;
-        tree = FingerTree.mkTree(input, monoid);
-        return LiveList.observeChanges(input, ch -> {
-            for(ListModification<? extends T> mod: ch) {
-                FingerTree<T, T> left = tree.split(mod.getFrom())._1;
-                FingerTree<T, T> right = tree.split(mod.getFrom() + mod.getRemovedSize())._2;
-                FingerTree<T, T> middle = FingerTree.mkTree(mod.getAddedSubList(), monoid);
-                tree = left.join(middle).join(right);
-            }
+        tree = mkTree(input);
+        pending = new ListChangeAccumulator<>();
+        return LiveList.<T>observeQuasiChanges(input, ch -> {
+            // the tree is updated lazily, on the next computeValue()
+            pending.add(ch);
             invalidate();
         })
-        .and(() -> tree = null);
+        .and(() -> {
+            tree = null;
+            pending = null;
+        });
+    }
+
+    private void applyPendingModifications() {
+        if(pending.isEmpty()) {
+            return;
+        }
+        for(QuasiListModification<? extends T> mod: pending.fetch()) {
+            int from = mod.getFrom();
+            int removedSize = mod.getRemovedSize();
+            int addedSize = mod.getAddedSize();
+            if(removedSize == addedSize && addedSize <= MAX_IN_PLACE_UPDATES) {
+                for(int i = from; i < from + addedSize; ++i) {
+                    tree = tree.updateLeaf(i, input.get(i));
+                }
+            } else if(removedSize == 0 && addedSize == 1) {
+                tree = tree.insertLeaf(from, input.get(from));
+            } else if(addedSize == 0) {
+                tree = tree.removeLeafs(from, from + removedSize);
+            } else {
+                FingerTree<T, T> left = tree.split(from)._1;
+                FingerTree<T, T> right = tree.split(from + removedSize)._2;
+                FingerTree<T, T> middle =
+                        mkTree(input.subList(from, from + addedSize));
+                tree = left.join(middle).join(right);
+            }
+        }
+    }
+
+    private FingerTree<T, T> mkTree(List<T> items) {
+        return parallel
+                ? FingerTree.mkTreeParallel(items, monoid)
+                : FingerTree.mkTree(items, monoid);
     }
 
     protected int getFrom(int max) {
@@ -67,13 +125,21 @@ class ListReduction<T> extends ValBase<T> {
     protected final T computeValue() {
         if(isObservingInputs()) {
             assert tree != null;
+            applyPendingModifications();
             int max = tree.getLeafCount();
             return tree.getSummaryBetween(getFrom(max), getTo(max)).orElse(null);
         } else {
             assert tree == null;
             int max = input.size();
-            return input.subList(getFrom(max), getTo(max))
-                    .stream().reduce(reduction).orElse(null);
+            List<T> range = input.subList(getFrom(max), getTo(max));
+            if(parallel) {
+                // copy on this thread, input may be thread-confined
+                @SuppressWarnings("unchecked")
+                List<T> copy = (List<T>) Arrays.asList(range.toArray());
+                return copy.parallelStream().reduce(reduction).orElse(null);
+            } else {
+                return range.stream().reduce(reduction).orElse(null);
+            }
         }
     }
 }
@@ -4,7 +4,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.reactfx.Subscription;
 
@@ -113,20 +116,8 @@ public final class LiveArrayList<E> extends LiveListBase<E> {
 
     @Override
     public boolean removeAll(Collection<?> c) {
-        ListChangeAccumulator<E> acc = new ListChangeAccumulator<E>();
-        for(Object o: c) {
-            int i = list.indexOf(o);
-            if(i != -1) {
-                E removed = list.remove(i);
-                acc.add(ProperLiveList.elemRemoval(i, removed));
-            }
-        }
-        if(acc.isEmpty()) {
-            return false;
-        } else {
-            notifyObservers(acc.fetch());
-            return true;
-        }
+        Collection<?> lookup = asLookup(c);
+        return removeWhere(lookup::contains);
     }
 
     @SafeVarargs
@@ -137,20 +128,8 @@ public final class LiveArrayList<E> extends LiveListBase<E> {
 
     @Override
     public boolean retainAll(Collection<?> c) {
-        ListChangeAccumulator<E> acc = new ListChangeAccumulator<E>();
-        for(int i = size() - 1; i >= 0; --i) {
-            E elem = list.get(i);
-            if(!c.contains(elem)) {
-                list.remove(i);
-                acc.add(ProperLiveList.elemRemoval(i, elem));
-            }
-        }
-        if(acc.isEmpty()) {
-            return false;
-        } else {
-            notifyObservers(acc.fetch());
-            return true;
-        }
+        Collection<?> lookup = asLookup(c);
+        return removeWhere(elem -> !lookup.contains(elem));
     }
 
     @SafeVarargs
@@ -159,6 +138,11 @@ public final class LiveArrayList<E> extends LiveListBase<E> {
         return retainAll(Arrays.asList(elems));
     }
 
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return removeWhere(filter);
+    }
+
     @Override
     public void clear() {
         setAll(Collections.emptyList());
@@ -168,4 +152,57 @@ public final class LiveArrayList<E> extends LiveListBase<E> {
     protected Subscription observeInputs() {
         return Subscription.EMPTY;
     }
+
+    /**
+     * Removes the elements that satisfy {@code shouldRemove} in a single pass
+     * and notifies observers of a single change that contains one
+     * modification per contiguous range of removed elements.
+     */
+    private boolean removeWhere(Predicate<? super E> shouldRemove) {
+        List<E> old = list;
+        int n = old.size();
+        List<E> retained = null; // created on first removal
+        QuasiListChangeImpl<E> change = null;
+        int runStart = -1; // start of the current range of removed elements
+        for(int i = 0; i < n; ++i) {
+            E elem = old.get(i);
+            if(shouldRemove.test(elem)) {
+                if(retained == null) {
+                    retained = new ArrayList<>(old.subList(0, i));
+                    change = new QuasiListChangeImpl<>();
+                }
+                if(runStart == -1) {
+                    runStart = i;
+                }
+            } else {
+                if(runStart != -1) {
+                    change.add(ProperLiveList.rangeRemoval(
+                            retained.size(), old.subList(runStart, i)));
+                    runStart = -1;
+                }
+                if(retained != null) {
+                    retained.add(elem);
+                }
+            }
+        }
+
+        if(retained == null) {
+            return false;
+        }
+        if(runStart != -1) {
+            change.add(ProperLiveList.rangeRemoval(
+                    retained.size(), old.subList(runStart, n)));
+        }
+        list = retained;
+        notifyObservers(change);
+        return true;
+    }
+
+    /**
+     * Returns a collection with efficient {@code contains} that contains
+     * the same elements as {@code c}.
+     */
+    private static Collection<?> asLookup(Collection<?> c) {
+        return c instanceof Set || c.size() <= 4 ? c : new HashSet<>(c);
+    }
 }
@@ -0,0 +1,379 @@
+package org.reactfx.collection;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.reactfx.Subscription;
+import org.reactfx.util.ChunkedTree;
+import org.reactfx.util.Lists;
+import org.reactfx.util.ToSemigroup;
+import org.reactfx.util.Tuple2;
+
+/**
+ * {@link LiveList} suitable for large lists that are modified at arbitrary
+ * positions. Elements are stored in a {@link ChunkedTree}, that is in
+ * arrays of at most 32 elements at the bottom of a B-tree, which costs
+ * little more memory than a single array. Compared to
+ * {@link LiveArrayList}:
+ * <ul>
+ *   <li>{@code get} and {@code set} take O(log(n)) time;</li>
+ *   <li>inserting or removing a range of k elements at any position takes
+ *     O(k + log(n)) time;</li>
+ *   <li>removing a large range, as well as {@code setAll}, does not copy
+ *     the removed elements, except for the chunks at the ends of the range,
+ *     since the tree is persistent;</li>
+ *   <li>iteration takes O(n) time.</li>
+ * </ul>
+ * <p>The view returned by {@link #subList(int, int)} delegates to the tree as
+ * well, so that, for example, {@code list.subList(from, to).clear()} removes
+ * the range at once, as a single change.
+ */
+public final class LiveChunkedList<E> extends LiveListBase<E> {
+
+    private static final ToSemigroup<Object, Void> NO_SUMMARY =
+            new ToSemigroup<Object, Void>() {
+
+        @Override
+        public Void reduce(Void left, Void right) {
+            return null;
+        }
+
+        @Override
+        public Void apply(Object elem) {
+            return null;
+        }
+    };
+
+    /**
+     * Removed ranges of up to this many elements are copied, so that, if
+     * they lie within a chunk, only the path to that chunk is copied instead
+     * of splitting and joining the tree.
+     */
+    private static final int MAX_COPIED_REMOVAL = 32;
+
+    private ChunkedTree<E, Void> tree;
+
+    public LiveChunkedList() {
+        tree = ChunkedTree.empty(NO_SUMMARY);
+    }
+
+    public LiveChunkedList(Collection<? extends E> c) {
+        tree = mkTree(new ArrayList<>(c));
+    }
+
+    @SafeVarargs
+    public LiveChunkedList(E... initialElements) {
+        this(Arrays.asList(initialElements));
+    }
+
+    @Override
+    public int size() {
+        return tree.getLeafCount();
+    }
+
+    @Override
+    public E get(int index) {
+        return tree.getLeaf(index);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return tree.iterator(0, size());
+    }
+
+    @Override
+    public List<E> subList(int from, int to) {
+        Lists.checkRange(from, to, size());
+        return new SubListView(null, from, to);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E replaced = tree.getLeaf(index);
+        tree = tree.updateLeaf(index, element);
+        fireElemReplacement(index, replaced);
+        return replaced;
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> c) {
+        List<E> removed = tree.asList();
+        tree = mkTree(new ArrayList<>(c));
+        fireContentReplacement(removed);
+        return true;
+    }
+
+    @SafeVarargs
+    @Override
+    public final boolean setAll(E... elems) {
+        return setAll(Arrays.asList(elems));
+    }
+
+    @Override
+    public void add(int index, E element) {
+        insert(index, Collections.singletonList(element));
+        fireElemInsertion(index);
+    }
+
+    @Override
+    public boolean add(E e) {
+        add(size(), e);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        if(c.isEmpty()) {
+            Lists.checkPosition(index, size());
+            return false;
+        }
+        List<E> elems = new ArrayList<>(c);
+        insert(index, elems);
+        fireRangeInsertion(index, elems.size());
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size(), c);
+    }
+
+    @SafeVarargs
+    @Override
+    public final boolean addAll(E... elems) {
+        return addAll(Arrays.asList(elems));
+    }
+
+    @Override
+    public E remove(int index) {
+        Lists.checkIndex(index, size());
+        E removed = removeRange(index, index + 1).get(0);
+        fireElemRemoval(index, removed);
+        return removed;
+    }
+
+    @Override
+    public void remove(int from, int to) {
+        Lists.checkRange(from, to, size());
+        List<E> removed = removeRange(from, to);
+        fireRemoveRange(from, removed);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int i = indexOf(o);
+        if(i != -1) {
+            remove(i);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int i = 0;
+        for(E elem: this) {
+            if(o == null ? elem == null : o.equals(elem)) {
+                return i;
+            }
+            ++i;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Collection<?> lookup = asLookup(c);
+        return removeWhere(lookup::contains);
+    }
+
+    @SafeVarargs
+    @Override
+    public final boolean removeAll(E... elems) {
+        return removeAll(Arrays.asList(elems));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Collection<?> lookup = asLookup(c);
+        return removeWhere(elem -> !lookup.contains(elem));
+    }
+
+    @SafeVarargs
+    @Override
+    public final boolean retainAll(E... elems) {
+        return retainAll(Arrays.asList(elems));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return removeWhere(filter);
+    }
+
+    @Override
+    public void clear() {
+        setAll(Collections.emptyList());
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        return Subscription.EMPTY;
+    }
+
+    private void insert(int index, List<E> elems) {
+        tree = tree.insertLeafs(index, elems);
+    }
+
+    /**
+     * Removes elements in the given range from the tree.
+     * @return the removed elements
+     */
+    private List<E> removeRange(int from, int to) {
+        if(to - from <= MAX_COPIED_REMOVAL) {
+            List<E> removed = new ArrayList<>(to - from);
+            tree.iterator(from, to).forEachRemaining(removed::add);
+            tree = tree.removeLeafs(from, to);
+            return removed;
+        }
+
+        // keep the removed range as a tree, so that it is not copied
+        Tuple2<ChunkedTree<E, Void>, ChunkedTree<E, Void>> lr = tree.split(from);
+        Tuple2<ChunkedTree<E, Void>, ChunkedTree<E, Void>> mr = lr._2.split(to - from);
+        tree = lr._1.join(mr._2);
+        return mr._1.asList();
+    }
+
+    private boolean removeWhere(Predicate<? super E> shouldRemove) {
+        List<E> retained = new ArrayList<>();
+        QuasiListChangeImpl<E> change = new QuasiListChangeImpl<>();
+        List<E> removedRun = null;
+        for(E elem: this) {
+            if(shouldRemove.test(elem)) {
+                if(removedRun == null) {
+                    removedRun = new ArrayList<>();
+                }
+                removedRun.add(elem);
+            } else {
+                if(removedRun != null) {
+                    change.add(ProperLiveList.rangeRemoval(retained.size(), removedRun));
+                    removedRun = null;
+                }
+                retained.add(elem);
+            }
+        }
+        if(removedRun != null) {
+            change.add(ProperLiveList.rangeRemoval(retained.size(), removedRun));
+        }
+
+        if(change.isEmpty()) {
+            return false;
+        } else {
+            tree = mkTree(retained);
+            notifyObservers(change);
+            return true;
+        }
+    }
+
+    private static <E> ChunkedTree<E, Void> mkTree(List<E> elems) {
+        return ChunkedTree.mkTree(elems, NO_SUMMARY);
+    }
+
+    private static Collection<?> asLookup(Collection<?> c) {
+        return c instanceof Set || c.size() <= 4 ? c : new HashSet<>(c);
+    }
+
+    /**
+     * View of the range {@code [from, to)} of this list. Modifications made
+     * through the view are applied to the tree of this list as whole ranges.
+     * Like other sublists, the view becomes undefined if this list is
+     * structurally modified other than through the view.
+     */
+    private final class SubListView extends AbstractList<E> {
+        private final SubListView parent; // null for a view of the whole list
+        private final int from;
+        private int to;
+
+        SubListView(SubListView parent, int from, int to) {
+            this.parent = parent;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public E get(int index) {
+            Lists.checkIndex(index, size());
+            return LiveChunkedList.this.get(from + index);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return tree.iterator(from, to);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            Lists.checkIndex(index, size());
+            return LiveChunkedList.this.set(from + index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            Lists.checkPosition(index, size());
+            LiveChunkedList.this.add(from + index, element);
+            sizeChanged(1);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            Lists.checkPosition(index, size());
+            int n = c.size();
+            LiveChunkedList.this.addAll(from + index, c);
+            sizeChanged(n);
+            return n > 0;
+        }
+
+        @Override
+        public E remove(int index) {
+            Lists.checkIndex(index, size());
+            E removed = LiveChunkedList.this.remove(from + index);
+            sizeChanged(-1);
+            return removed;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            Lists.checkRange(fromIndex, toIndex, size());
+            if(fromIndex < toIndex) {
+                LiveChunkedList.this.remove(from + fromIndex, from + toIndex);
+                sizeChanged(fromIndex - toIndex);
+            }
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            Lists.checkRange(fromIndex, toIndex, size());
+            return new SubListView(this, from + fromIndex, from + toIndex);
+        }
+
+        private void sizeChanged(int delta) {
+            to += delta;
+            if(parent != null) {
+                parent.sizeChanged(delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.reactfx.collection;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.reactfx.Subscription;
+
+/**
+ * Hash-backed {@link LiveMap}. Each bulk operation, such as
+ * {@link #putAll(Map)}, is reported as a single {@link MapChange}.
+ * Putting a value equal to the current value is not reported.
+ *
+ * <p>The {@link #keySet()}, {@link #values()} and {@link #entrySet()} views
+ * are unmodifiable; all modifications go through the map itself, so that
+ * they are reported.
+ */
+public final class LiveHashMap<K, V> extends LiveMapBase<K, V> {
+    private final Map<K, V> map;
+
+    public LiveHashMap() {
+        map = new HashMap<>();
+    }
+
+    public LiveHashMap(Map<? extends K, ? extends V> m) {
+        map = new HashMap<>(m);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(map.keySet());
+    }
+
+    @Override
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(map.values());
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        // unlike an unmodifiable view of map.entrySet(), this also prevents
+        // modification through Map.Entry.setValue
+        return Collections.unmodifiableMap(map).entrySet();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        boolean present = map.containsKey(key);
+        V old = map.put(key, value);
+        if(!present) {
+            fireChange(Collections.singletonMap(key, value), Collections.emptyMap());
+        } else if(!Objects.equals(old, value)) {
+            fireChange(Collections.singletonMap(key, value), Collections.singletonMap(key, old));
+        }
+        return old;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if(map.containsKey(key)) {
+            @SuppressWarnings("unchecked")
+            K k = (K) key; // safe, since it was in the map
+            V old = map.remove(key);
+            fireChange(Collections.emptyMap(), Collections.singletonMap(k, old));
+            return old;
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        Map<K, V> added = new HashMap<>();
+        Map<K, V> removed = new HashMap<>();
+        for(Map.Entry<? extends K, ? extends V> e: m.entrySet()) {
+            K key = e.getKey();
+            V value = e.getValue();
+            boolean present = map.containsKey(key);
+            V old = map.put(key, value);
+            if(present && Objects.equals(old, value)) {
+                continue;
+            }
+            if(present) {
+                removed.put(key, old);
+            }
+            added.put(key, value);
+        }
+        fireChange(added, removed);
+    }
+
+    /**
+     * Removes all the given keys, reporting them as a single change.
+     */
+    public void removeAll(Collection<?> keys) {
+        Map<K, V> removed = new HashMap<>();
+        for(Object key: keys) {
+            if(map.containsKey(key)) {
+                @SuppressWarnings("unchecked")
+                K k = (K) key;
+                removed.put(k, map.remove(key));
+            }
+        }
+        fireChange(Collections.emptyMap(), removed);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        Map<K, V> added = new HashMap<>();
+        Map<K, V> removed = new HashMap<>();
+        for(Map.Entry<K, V> e: map.entrySet()) {
+            V old = e.getValue();
+            V value = function.apply(e.getKey(), old);
+            if(!Objects.equals(old, value)) {
+                e.setValue(value);
+                added.put(e.getKey(), value);
+                removed.put(e.getKey(), old);
+            }
+        }
+        fireChange(added, removed);
+    }
+
+    @Override
+    public void clear() {
+        if(!map.isEmpty()) {
+            Map<K, V> removed = new HashMap<>(map);
+            map.clear();
+            fireChange(Collections.emptyMap(), removed);
+        }
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        return Subscription.EMPTY;
+    }
+}
@@ -0,0 +1,176 @@
+package org.reactfx.collection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.reactfx.Subscription;
+
+/**
+ * Hash-backed {@link LiveSet}. Each bulk operation, such as
+ * {@link #addAll(Collection)}, is reported as a single {@link SetChange}.
+ */
+public final class LiveHashSet<E> extends LiveSetBase<E> {
+    private final Set<E> set;
+
+    public LiveHashSet() {
+        set = new HashSet<>();
+    }
+
+    public LiveHashSet(Collection<? extends E> c) {
+        set = new HashSet<>(c);
+    }
+
+    @SafeVarargs
+    public LiveHashSet(E... initialElements) {
+        this(Arrays.asList(initialElements));
+    }
+
+    @Override
+    public int size() {
+        return set.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return set.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return set.contains(o);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        return set.containsAll(c);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return set.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return set.toArray(a);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<E> it = set.iterator();
+        return new Iterator<E>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return last = it.next();
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+                fireChange(Collections.emptySet(), Collections.singleton(last));
+            }
+        };
+    }
+
+    @Override
+    public boolean add(E e) {
+        if(set.add(e)) {
+            fireChange(Collections.singleton(e), Collections.emptySet());
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if(set.remove(o)) {
+            @SuppressWarnings("unchecked")
+            E removed = (E) o; // safe, since it was in the set
+            fireChange(Collections.emptySet(), Collections.singleton(removed));
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        Set<E> added = new HashSet<>();
+        for(E e: c) {
+            if(set.add(e)) {
+                added.add(e);
+            }
+        }
+        fireChange(added, Collections.emptySet());
+        return !added.isEmpty();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return removeWhere(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return removeWhere(e -> !c.contains(e));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return removeWhere(filter);
+    }
+
+    @Override
+    public void clear() {
+        removeWhere(e -> true);
+    }
+
+    /**
+     * Replaces the contents of this set with the given elements,
+     * reporting only the net difference as a single change.
+     */
+    public void setAll(Collection<? extends E> c) {
+        Set<E> newSet = new HashSet<>(c);
+        Set<E> removed = new HashSet<>();
+        for(Iterator<E> it = set.iterator(); it.hasNext(); ) {
+            E e = it.next();
+            if(!newSet.remove(e)) {
+                it.remove();
+                removed.add(e);
+            }
+        }
+        set.addAll(newSet);
+        fireChange(newSet, removed);
+    }
+
+    private boolean removeWhere(Predicate<? super E> filter) {
+        Set<E> removed = new HashSet<>();
+        for(Iterator<E> it = set.iterator(); it.hasNext(); ) {
+            E e = it.next();
+            if(filter.test(e)) {
+                it.remove();
+                removed.add(e);
+            }
+        }
+        fireChange(Collections.emptySet(), removed);
+        return !removed.isEmpty();
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        return Subscription.EMPTY;
+    }
+}
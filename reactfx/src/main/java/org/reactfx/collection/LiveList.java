@@ -1,11 +1,13 @@
 package org.reactfx.collection;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.value.ObservableValue;
@@ -21,6 +23,7 @@ import org.reactfx.collection.LiveList.QuasiChangeObserver;
 import org.reactfx.collection.LiveList.QuasiModificationObserver;
 import org.reactfx.util.AccumulatorSize;
 import org.reactfx.util.Experimental;
+import org.reactfx.util.ToSemigroup;
 import org.reactfx.util.WrapperBase;
 import org.reactfx.value.Val;
 
@@ -184,6 +187,24 @@ extends ObservableList<E>, Observable<LiveList.Observer<? super E, ?>> {
         return mapDynamic(this, f);
     }
 
+    default LiveList<E> filter(Predicate<? super E> predicate) {
+        return filter(this, predicate);
+    }
+
+    default LiveList<E> filterDynamic(
+            ObservableValue<? extends Predicate<? super E>> predicate) {
+        return filterDynamic(this, predicate);
+    }
+
+    default LiveList<E> sortedBy(Comparator<? super E> comparator) {
+        return sortedBy(this, comparator);
+    }
+
+    default LiveList<E> sortedByDynamic(
+            ObservableValue<? extends Comparator<? super E>> comparator) {
+        return sortedByDynamic(this, comparator);
+    }
+
     default SuspendableList<E> suspendable() {
         return suspendable(this);
     }
@@ -196,6 +217,16 @@ extends ObservableList<E>, Observable<LiveList.Observer<? super E, ?>> {
         return reduce(this, reduction);
     }
 
+    default Val<E> reduceParallel(BinaryOperator<E> reduction) {
+        return reduceParallel(this, reduction);
+    }
+
+    default <K, A> LiveMap<K, Val<A>> groupBy(
+            Function<? super E, ? extends K> key,
+            ToSemigroup<? super E, A> aggregation) {
+        return groupBy(this, key, aggregation);
+    }
+
     @Experimental
     default Val<E> reduceRange(
             ObservableValue<IndexRange> range, BinaryOperator<E> reduction) {
@@ -303,6 +334,30 @@ extends ObservableList<E>, Observable<LiveList.Observer<? super E, ?>> {
         return new DynamicallyMappedList<>(list, f);
     }
 
+    static <E> LiveList<E> filter(
+            ObservableList<E> list,
+            Predicate<? super E> predicate) {
+        return filterDynamic(list, Val.constant(predicate));
+    }
+
+    static <E> LiveList<E> filterDynamic(
+            ObservableList<E> list,
+            ObservableValue<? extends Predicate<? super E>> predicate) {
+        return new FilteredList<>(list, predicate);
+    }
+
+    static <E> LiveList<E> sortedBy(
+            ObservableList<E> list,
+            Comparator<? super E> comparator) {
+        return sortedByDynamic(list, Val.constant(comparator));
+    }
+
+    static <E> LiveList<E> sortedByDynamic(
+            ObservableList<E> list,
+            ObservableValue<? extends Comparator<? super E>> comparator) {
+        return new SortedList<>(list, comparator);
+    }
+
     static <E> SuspendableList<E> suspendable(ObservableList<E> list) {
         if(list instanceof SuspendableList) {
             return (SuspendableList<E>) list;
@@ -324,6 +379,35 @@ extends ObservableList<E>, Observable<LiveList.Observer<? super E, ?>> {
         return new ListReduction<>(list, reduction);
     }
 
+    /**
+     * Like {@link #reduce(ObservableList, BinaryOperator)}, but meant for
+     * large lists: when the returned value gets its first observer, the
+     * reduction tree is built in parallel in the common
+     * {@link java.util.concurrent.ForkJoinPool}, and so are the subtrees for
+     * large insertions and the reduction while not observed. The calling
+     * thread takes part in the work and still waits for it to finish.
+     * {@code list} is only accessed from the calling thread, but
+     * {@code reduction} is invoked from the threads of the pool, so it has
+     * to be thread-safe.
+     */
+    static <E> Val<E> reduceParallel(
+            ObservableList<E> list, BinaryOperator<E> reduction) {
+        return new ListReduction<>(list, reduction, true);
+    }
+
+    /**
+     * Groups the elements of {@code list} by {@code key} and aggregates each
+     * group using {@code aggregation}. The aggregates are updated
+     * incrementally: a change of the list only recomputes the aggregates of
+     * the groups it affects, in time logarithmic in the size of the group.
+     */
+    static <E, K, A> LiveMap<K, Val<A>> groupBy(
+            ObservableList<E> list,
+            Function<? super E, ? extends K> key,
+            ToSemigroup<? super E, A> aggregation) {
+        return new ListGroupAggregation<>(list, key, aggregation);
+    }
+
     @Experimental
     static <E> Val<E> reduceRange(
             ObservableList<E> list,
@@ -0,0 +1,218 @@
+package org.reactfx.collection;
+
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+
+import org.reactfx.EventStream;
+import org.reactfx.EventStreamBase;
+import org.reactfx.Observable;
+import org.reactfx.Subscription;
+import org.reactfx.util.WrapperBase;
+import org.reactfx.value.Val;
+
+/**
+ * Adds additional methods to {@link ObservableMap}. Unlike
+ * {@linkplain ObservableMap}, which reports a separate change for each
+ * affected key, a {@linkplain LiveMap} reports each bulk operation as
+ * a single {@link MapChange}.
+ *
+ * @param <K> type of map keys
+ * @param <V> type of map values
+ */
+public interface LiveMap<K, V>
+extends ObservableMap<K, V>, Observable<Consumer<? super MapChange<? extends K, ? extends V>>> {
+
+    /* *************** *
+     * Default Methods *
+     * *************** */
+
+    default void addChangeObserver(Consumer<? super MapChange<? extends K, ? extends V>> observer) {
+        addObserver(observer);
+    }
+
+    default void removeChangeObserver(Consumer<? super MapChange<? extends K, ? extends V>> observer) {
+        removeObserver(observer);
+    }
+
+    default Subscription observeChanges(Consumer<? super MapChange<? extends K, ? extends V>> observer) {
+        addChangeObserver(observer);
+        return () -> removeChangeObserver(observer);
+    }
+
+    @Override
+    default void addListener(MapChangeListener<? super K, ? super V> listener) {
+        addChangeObserver(new MapChangeListenerWrapper<>(this, listener));
+    }
+
+    @Override
+    default void removeListener(MapChangeListener<? super K, ? super V> listener) {
+        removeChangeObserver(new MapChangeListenerWrapper<>(this, listener));
+    }
+
+    @Override
+    default void addListener(InvalidationListener listener) {
+        addChangeObserver(new MapInvalidationListenerWrapper<>(this, listener));
+    }
+
+    @Override
+    default void removeListener(InvalidationListener listener) {
+        removeChangeObserver(new MapInvalidationListenerWrapper<>(this, listener));
+    }
+
+    default Subscription pin() {
+        return observeChanges(ch -> {});
+    }
+
+    default Val<Integer> sizeProperty() {
+        return sizeOf(this);
+    }
+
+    default <W> LiveMap<K, W> mapValues(Function<? super V, ? extends W> f) {
+        return mapValues(this, f);
+    }
+
+    default LiveMap<K, V> filterKeys(Predicate<? super K> predicate) {
+        return filterKeys(this, predicate);
+    }
+
+    default SuspendableMap<K, V> suspendable() {
+        return suspendable(this);
+    }
+
+    default EventStream<MapChange<? extends K, ? extends V>> changes() {
+        return new EventStreamBase<MapChange<? extends K, ? extends V>>() {
+            @Override
+            protected Subscription observeInputs() {
+                return observeChanges(this::emit);
+            }
+        };
+    }
+
+
+    /* ************** *
+     * Static Methods *
+     * ************** */
+
+    static <K, V> Subscription observeChanges(
+            ObservableMap<? extends K, ? extends V> map,
+            Consumer<? super MapChange<? extends K, ? extends V>> observer) {
+        if(map instanceof LiveMap) {
+            LiveMap<? extends K, ? extends V> m = (LiveMap<? extends K, ? extends V>) map;
+            return m.observeChanges(observer);
+        } else {
+            MapChangeListener<K, V> listener = ch -> observer.accept(MapChange.from(ch));
+            map.addListener(listener);
+            return () -> map.removeListener(listener);
+        }
+    }
+
+    static <K, V> EventStream<MapChange<? extends K, ? extends V>> changesOf(
+            ObservableMap<K, V> map) {
+        if(map instanceof LiveMap) {
+            LiveMap<K, V> m = (LiveMap<K, V>) map;
+            return m.changes();
+        } else {
+            return new EventStreamBase<MapChange<? extends K, ? extends V>>() {
+                @Override
+                protected Subscription observeInputs() {
+                    return LiveMap.<K, V>observeChanges(map, this::emit);
+                }
+            };
+        }
+    }
+
+    static Val<Integer> sizeOf(ObservableMap<?, ?> map) {
+        return Val.create(() -> map.size(), map);
+    }
+
+    static <K, V, W> LiveMap<K, W> mapValues(
+            ObservableMap<K, ? extends V> map,
+            Function<? super V, ? extends W> f) {
+        return new ValueMappedMap<>(map, f);
+    }
+
+    static <K, V> LiveMap<K, V> filterKeys(
+            ObservableMap<K, V> map,
+            Predicate<? super K> predicate) {
+        return new KeyFilteredMap<>(map, predicate);
+    }
+
+    static <K, V> SuspendableMap<K, V> suspendable(ObservableMap<K, V> map) {
+        if(map instanceof SuspendableMap) {
+            return (SuspendableMap<K, V>) map;
+        } else {
+            return new SuspendableMapWrapper<>(map);
+        }
+    }
+}
+
+
+class MapInvalidationListenerWrapper<K, V>
+extends WrapperBase<InvalidationListener>
+implements Consumer<MapChange<? extends K, ? extends V>> {
+    private final ObservableMap<K, V> map;
+
+    MapInvalidationListenerWrapper(
+            ObservableMap<K, V> map,
+            InvalidationListener listener) {
+        super(listener);
+        this.map = map;
+    }
+
+    @Override
+    public void accept(MapChange<? extends K, ? extends V> change) {
+        getWrappedValue().invalidated(map);
+    }
+}
+
+/**
+ * Reports a bulk {@link MapChange} to a {@link MapChangeListener} as
+ * a sequence of single-key changes, since that is what
+ * {@linkplain MapChangeListener} expects.
+ */
+class MapChangeListenerWrapper<K, V>
+extends WrapperBase<MapChangeListener<? super K, ? super V>>
+implements Consumer<MapChange<? extends K, ? extends V>> {
+    private final ObservableMap<K, V> map;
+
+    MapChangeListenerWrapper(
+            ObservableMap<K, V> map,
+            MapChangeListener<? super K, ? super V> listener) {
+        super(listener);
+        this.map = map;
+    }
+
+    @Override
+    public void accept(MapChange<? extends K, ? extends V> change) {
+        Map<? extends K, ? extends V> added = change.getAdded();
+        Map<? extends K, ? extends V> removed = change.getRemoved();
+        for(K key: removed.keySet()) {
+            if(!added.containsKey(key)) {
+                fire(key, false, null, true, removed.get(key));
+            }
+        }
+        for(K key: added.keySet()) {
+            boolean replaced = removed.containsKey(key);
+            fire(key, true, added.get(key), replaced, replaced ? removed.get(key) : null);
+        }
+    }
+
+    private void fire(
+            K key,
+            boolean wasAdded, V valueAdded,
+            boolean wasRemoved, V valueRemoved) {
+        getWrappedValue().onChanged(new MapChangeListener.Change<K, V>(map) {
+            @Override public boolean wasAdded() { return wasAdded; }
+            @Override public boolean wasRemoved() { return wasRemoved; }
+            @Override public K getKey() { return key; }
+            @Override public V getValueAdded() { return valueAdded; }
+            @Override public V getValueRemoved() { return valueRemoved; }
+        });
+    }
+}
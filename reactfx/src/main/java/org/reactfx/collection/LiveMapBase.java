@@ -0,0 +1,9 @@
+package org.reactfx.collection;
+
+import java.util.function.Consumer;
+
+import org.reactfx.ObservableBase;
+
+public abstract class LiveMapBase<K, V>
+extends ObservableBase<Consumer<? super MapChange<? extends K, ? extends V>>, MapChange<? extends K, ? extends V>>
+implements ProperLiveMap<K, V> {}
@@ -0,0 +1,186 @@
+package org.reactfx.collection;
+
+import java.util.function.Consumer;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+import org.reactfx.EventStream;
+import org.reactfx.EventStreamBase;
+import org.reactfx.Observable;
+import org.reactfx.Subscription;
+import org.reactfx.util.WrapperBase;
+import org.reactfx.value.Val;
+
+/**
+ * Adds additional methods to {@link ObservableSet}. Unlike
+ * {@linkplain ObservableSet}, which reports a separate change for each
+ * added or removed element, a {@linkplain LiveSet} reports each bulk
+ * operation as a single {@link SetChange}.
+ *
+ * @param <E> type of set elements
+ */
+public interface LiveSet<E>
+extends ObservableSet<E>, Observable<Consumer<? super SetChange<? extends E>>> {
+
+    /* *************** *
+     * Default Methods *
+     * *************** */
+
+    default void addChangeObserver(Consumer<? super SetChange<? extends E>> observer) {
+        addObserver(observer);
+    }
+
+    default void removeChangeObserver(Consumer<? super SetChange<? extends E>> observer) {
+        removeObserver(observer);
+    }
+
+    default Subscription observeChanges(Consumer<? super SetChange<? extends E>> observer) {
+        addChangeObserver(observer);
+        return () -> removeChangeObserver(observer);
+    }
+
+    @Override
+    default void addListener(SetChangeListener<? super E> listener) {
+        addChangeObserver(new SetChangeListenerWrapper<>(this, listener));
+    }
+
+    @Override
+    default void removeListener(SetChangeListener<? super E> listener) {
+        removeChangeObserver(new SetChangeListenerWrapper<>(this, listener));
+    }
+
+    @Override
+    default void addListener(InvalidationListener listener) {
+        addChangeObserver(new SetInvalidationListenerWrapper<>(this, listener));
+    }
+
+    @Override
+    default void removeListener(InvalidationListener listener) {
+        removeChangeObserver(new SetInvalidationListenerWrapper<>(this, listener));
+    }
+
+    default Subscription pin() {
+        return observeChanges(ch -> {});
+    }
+
+    default Val<Integer> sizeProperty() {
+        return sizeOf(this);
+    }
+
+    default SuspendableSet<E> suspendable() {
+        return suspendable(this);
+    }
+
+    default EventStream<SetChange<? extends E>> changes() {
+        return new EventStreamBase<SetChange<? extends E>>() {
+            @Override
+            protected Subscription observeInputs() {
+                return observeChanges(this::emit);
+            }
+        };
+    }
+
+
+    /* ************** *
+     * Static Methods *
+     * ************** */
+
+    static <E> Subscription observeChanges(
+            ObservableSet<? extends E> set,
+            Consumer<? super SetChange<? extends E>> observer) {
+        if(set instanceof LiveSet) {
+            LiveSet<? extends E> s = (LiveSet<? extends E>) set;
+            return s.observeChanges(observer);
+        } else {
+            SetChangeListener<E> listener = ch -> observer.accept(SetChange.from(ch));
+            set.addListener(listener);
+            return () -> set.removeListener(listener);
+        }
+    }
+
+    static <E> EventStream<SetChange<? extends E>> changesOf(ObservableSet<E> set) {
+        if(set instanceof LiveSet) {
+            LiveSet<E> s = (LiveSet<E>) set;
+            return s.changes();
+        } else {
+            return new EventStreamBase<SetChange<? extends E>>() {
+                @Override
+                protected Subscription observeInputs() {
+                    return LiveSet.<E>observeChanges(set, this::emit);
+                }
+            };
+        }
+    }
+
+    static Val<Integer> sizeOf(ObservableSet<?> set) {
+        return Val.create(() -> set.size(), set);
+    }
+
+    static <E> SuspendableSet<E> suspendable(ObservableSet<E> set) {
+        if(set instanceof SuspendableSet) {
+            return (SuspendableSet<E>) set;
+        } else {
+            return new SuspendableSetWrapper<>(set);
+        }
+    }
+}
+
+
+class SetInvalidationListenerWrapper<E>
+extends WrapperBase<InvalidationListener>
+implements Consumer<SetChange<? extends E>> {
+    private final ObservableSet<E> set;
+
+    SetInvalidationListenerWrapper(
+            ObservableSet<E> set,
+            InvalidationListener listener) {
+        super(listener);
+        this.set = set;
+    }
+
+    @Override
+    public void accept(SetChange<? extends E> change) {
+        getWrappedValue().invalidated(set);
+    }
+}
+
+/**
+ * Reports a bulk {@link SetChange} to a {@link SetChangeListener} as
+ * a sequence of single-element changes, since that is what
+ * {@linkplain SetChangeListener} expects.
+ */
+class SetChangeListenerWrapper<E>
+extends WrapperBase<SetChangeListener<? super E>>
+implements Consumer<SetChange<? extends E>> {
+    private final ObservableSet<E> set;
+
+    SetChangeListenerWrapper(
+            ObservableSet<E> set,
+            SetChangeListener<? super E> listener) {
+        super(listener);
+        this.set = set;
+    }
+
+    @Override
+    public void accept(SetChange<? extends E> change) {
+        SetChangeListener<? super E> listener = getWrappedValue();
+        for(E elem: change.getRemoved()) {
+            listener.onChanged(new SetChangeListener.Change<E>(set) {
+                @Override public boolean wasAdded() { return false; }
+                @Override public boolean wasRemoved() { return true; }
+                @Override public E getElementAdded() { return null; }
+                @Override public E getElementRemoved() { return elem; }
+            });
+        }
+        for(E elem: change.getAdded()) {
+            listener.onChanged(new SetChangeListener.Change<E>(set) {
+                @Override public boolean wasAdded() { return true; }
+                @Override public boolean wasRemoved() { return false; }
+                @Override public E getElementAdded() { return elem; }
+                @Override public E getElementRemoved() { return null; }
+            });
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.reactfx.collection;
+
+import java.util.function.Consumer;
+
+import org.reactfx.ObservableBase;
+
+public abstract class LiveSetBase<E>
+extends ObservableBase<Consumer<? super SetChange<? extends E>>, SetChange<? extends E>>
+implements ProperLiveSet<E> {}
@@ -0,0 +1,137 @@
+package org.reactfx.collection;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.MapChangeListener;
+
+/**
+ * Describes a change of a map as the entries removed from it and the
+ * entries added to it. A key whose value was replaced appears in both,
+ * with the old value among the removed entries and the new value among
+ * the added entries. A single change may cover any number of keys.
+ *
+ * @param <K> type of map keys
+ * @param <V> type of map values
+ */
+public interface MapChange<K, V> {
+
+    /**
+     * New mappings: entries for keys that were added, as well as for keys
+     * whose value was replaced.
+     */
+    Map<K, V> getAdded();
+
+    /**
+     * Old mappings: entries for keys that were removed, as well as for keys
+     * whose value was replaced.
+     */
+    Map<K, V> getRemoved();
+
+    default boolean isEmpty() {
+        return getAdded().isEmpty() && getRemoved().isEmpty();
+    }
+
+    static <K, V> MapChange<K, V> create(Map<K, V> added, Map<K, V> removed) {
+        return new MapChangeImpl<>(added, removed);
+    }
+
+    static <K, V> MapChange<K, V> from(
+            MapChangeListener.Change<? extends K, ? extends V> ch) {
+        K key = ch.getKey();
+        Map<K, V> added = ch.wasAdded()
+                ? Collections.singletonMap(key, ch.getValueAdded())
+                : Collections.emptyMap();
+        Map<K, V> removed = ch.wasRemoved()
+                ? Collections.singletonMap(key, ch.getValueRemoved())
+                : Collections.emptyMap();
+        return new MapChangeImpl<>(added, removed);
+    }
+
+    /**
+     * Returns the net effect of change {@code a} followed by change
+     * {@code b}. A key that ends up with the value it had before {@code a}
+     * (or absent, if it was absent) does not appear in the result.
+     */
+    static <K, V> MapChange<K, V> merge(
+            MapChange<? extends K, ? extends V> a,
+            MapChange<? extends K, ? extends V> b) {
+        Set<K> keys = new HashSet<>();
+        keys.addAll(a.getAdded().keySet());
+        keys.addAll(a.getRemoved().keySet());
+        keys.addAll(b.getAdded().keySet());
+        keys.addAll(b.getRemoved().keySet());
+
+        Map<K, V> added = new HashMap<>();
+        Map<K, V> removed = new HashMap<>();
+        for(K key: keys) {
+            // state before a
+            boolean wasPresent;
+            V oldValue;
+            if(a.getRemoved().containsKey(key)) {
+                wasPresent = true;
+                oldValue = a.getRemoved().get(key);
+            } else if(a.getAdded().containsKey(key)) {
+                wasPresent = false;
+                oldValue = null;
+            } else {
+                wasPresent = b.getRemoved().containsKey(key);
+                oldValue = b.getRemoved().get(key);
+            }
+
+            // state after b
+            boolean isPresent;
+            V newValue;
+            if(b.getAdded().containsKey(key)) {
+                isPresent = true;
+                newValue = b.getAdded().get(key);
+            } else if(b.getRemoved().containsKey(key)) {
+                isPresent = false;
+                newValue = null;
+            } else {
+                isPresent = a.getAdded().containsKey(key);
+                newValue = a.getAdded().get(key);
+            }
+
+            if(wasPresent && isPresent && Objects.equals(oldValue, newValue)) {
+                continue;
+            }
+            if(wasPresent) {
+                removed.put(key, oldValue);
+            }
+            if(isPresent) {
+                added.put(key, newValue);
+            }
+        }
+        return new MapChangeImpl<>(added, removed);
+    }
+}
+
+final class MapChangeImpl<K, V> implements MapChange<K, V> {
+    private final Map<K, V> added;
+    private final Map<K, V> removed;
+
+    MapChangeImpl(Map<K, V> added, Map<K, V> removed) {
+        this.added = Collections.unmodifiableMap(added);
+        this.removed = Collections.unmodifiableMap(removed);
+    }
+
+    @Override
+    public Map<K, V> getAdded() {
+        return added;
+    }
+
+    @Override
+    public Map<K, V> getRemoved() {
+        return removed;
+    }
+
+    @Override
+    public String toString() {
+        return "MapChange[added=" + added + ", removed=" + removed + "]";
+    }
+}
@@ -0,0 +1,107 @@
+package org.reactfx.collection;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Mutable accumulator of {@link MapChange}s. Adding a change costs time
+ * proportional to the number of keys affected by that change, so that
+ * accumulating {@code k} single-key changes costs O(k) in total, unlike
+ * repeated {@link MapChange#merge(MapChange, MapChange)}.
+ */
+final class MapChangeAccumulator<K, V> {
+    // the only change added so far, if there is just one
+    private MapChange<? extends K, ? extends V> single = null;
+
+    // the accumulated change, when more than one change has been added
+    private Map<K, V> added = null;
+    private Map<K, V> removed = null;
+
+    public boolean isEmpty() {
+        if(single != null) {
+            return single.isEmpty();
+        } else {
+            return added == null || added.isEmpty() && removed.isEmpty();
+        }
+    }
+
+    /**
+     * Adds the effect of {@code change}, which follows the changes added so
+     * far. A key that ends up with the value it had originally (or absent,
+     * if it was absent) is dropped from the accumulated change.
+     * @return this accumulator
+     */
+    public MapChangeAccumulator<K, V> add(MapChange<? extends K, ? extends V> change) {
+        if(single == null && added == null) {
+            single = change;
+            return this;
+        } else if(single != null) {
+            added = new HashMap<>(single.getAdded());
+            removed = new HashMap<>(single.getRemoved());
+            single = null;
+        }
+
+        Map<? extends K, ? extends V> chAdded = change.getAdded();
+        Map<? extends K, ? extends V> chRemoved = change.getRemoved();
+        for(K key: chRemoved.keySet()) {
+            if(!chAdded.containsKey(key)) {
+                update(key, chRemoved, false, null);
+            }
+        }
+        for(Map.Entry<? extends K, ? extends V> e: chAdded.entrySet()) {
+            update(e.getKey(), chRemoved, true, e.getValue());
+        }
+        return this;
+    }
+
+    /**
+     * Returns the accumulated change and resets this accumulator.
+     */
+    public MapChange<? extends K, ? extends V> fetch() {
+        MapChange<? extends K, ? extends V> res;
+        if(single != null) {
+            res = single;
+        } else if(added != null) {
+            res = MapChange.create(added, removed);
+        } else {
+            res = MapChange.<K, V>create(Collections.emptyMap(), Collections.emptyMap());
+        }
+        single = null;
+        added = null;
+        removed = null;
+        return res;
+    }
+
+    private void update(
+            K key,
+            Map<? extends K, ? extends V> chRemoved,
+            boolean isPresent,
+            V newValue) {
+        // state before all the accumulated changes
+        boolean wasPresent;
+        V oldValue;
+        if(removed.containsKey(key)) {
+            wasPresent = true;
+            oldValue = removed.remove(key);
+        } else if(added.containsKey(key)) {
+            wasPresent = false;
+            oldValue = null;
+        } else {
+            wasPresent = chRemoved.containsKey(key);
+            oldValue = chRemoved.get(key);
+        }
+        added.remove(key);
+
+        if(wasPresent && isPresent && Objects.equals(oldValue, newValue)) {
+            return;
+        }
+        if(wasPresent) {
+            removed.put(key, oldValue);
+        }
+        if(isPresent) {
+            added.put(key, newValue);
+        }
+    }
+}
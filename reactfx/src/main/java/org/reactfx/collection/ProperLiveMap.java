@@ -0,0 +1,71 @@
+package org.reactfx.collection;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.reactfx.ObservableBase;
+import org.reactfx.ProperObservable;
+import org.reactfx.util.NotificationAccumulator;
+
+/**
+ * Trait to be mixed into {@link ObservableBase} to obtain default
+ * implementation of some {@link LiveMap} methods and get additional
+ * helper methods for implementations of <em>proper</em> {@linkplain LiveMap}.
+ */
+public interface ProperLiveMap<K, V>
+extends LiveMap<K, V>, ProperObservable<Consumer<? super MapChange<? extends K, ? extends V>>, MapChange<? extends K, ? extends V>> {
+
+    @Override
+    default NotificationAccumulator<Consumer<? super MapChange<? extends K, ? extends V>>, MapChange<? extends K, ? extends V>, ?> defaultNotificationAccumulator() {
+        return NotificationAccumulator.nonAccumulativeStreamNotifications();
+    }
+
+    default void fireChange(Map<K, V> added, Map<K, V> removed) {
+        if(!added.isEmpty() || !removed.isEmpty()) {
+            notifyObservers(MapChange.create(added, removed));
+        }
+    }
+
+    @Override
+    default int defaultHashCode() {
+        int h = 0;
+        for(Map.Entry<K, V> e: entrySet()) {
+            h += Objects.hashCode(e.getKey()) ^ Objects.hashCode(e.getValue());
+        }
+        return h;
+    }
+
+    @Override
+    default boolean defaultEquals(Object o) {
+        if(o == this) {
+            return true;
+        } else if(o instanceof Map) {
+            Map<?, ?> that = (Map<?, ?>) o;
+            if(that.size() != this.size()) {
+                return false;
+            }
+            for(Map.Entry<K, V> e: entrySet()) {
+                K key = e.getKey();
+                if(!that.containsKey(key) || !Objects.equals(e.getValue(), that.get(key))) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    default String defaultToString() {
+        StringBuilder sb = new StringBuilder("{");
+        for(Map.Entry<K, V> e: entrySet()) {
+            if(sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(e.getKey()).append('=').append(e.getValue());
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,61 @@
+package org.reactfx.collection;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.reactfx.ObservableBase;
+import org.reactfx.ProperObservable;
+import org.reactfx.util.NotificationAccumulator;
+
+/**
+ * Trait to be mixed into {@link ObservableBase} to obtain default
+ * implementation of some {@link LiveSet} methods and get additional
+ * helper methods for implementations of <em>proper</em> {@linkplain LiveSet}.
+ */
+public interface ProperLiveSet<E>
+extends LiveSet<E>, ProperObservable<Consumer<? super SetChange<? extends E>>, SetChange<? extends E>> {
+
+    @Override
+    default NotificationAccumulator<Consumer<? super SetChange<? extends E>>, SetChange<? extends E>, ?> defaultNotificationAccumulator() {
+        return NotificationAccumulator.nonAccumulativeStreamNotifications();
+    }
+
+    default void fireChange(Set<E> added, Set<E> removed) {
+        if(!added.isEmpty() || !removed.isEmpty()) {
+            notifyObservers(SetChange.create(added, removed));
+        }
+    }
+
+    @Override
+    default int defaultHashCode() {
+        int h = 0;
+        for(E e: this) {
+            h += e == null ? 0 : e.hashCode();
+        }
+        return h;
+    }
+
+    @Override
+    default boolean defaultEquals(Object o) {
+        if(o == this) {
+            return true;
+        } else if(o instanceof Set) {
+            Set<?> that = (Set<?>) o;
+            return that.size() == this.size() && this.containsAll(that);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    default String defaultToString() {
+        StringBuilder sb = new StringBuilder("[");
+        for(E e: this) {
+            if(sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(e);
+        }
+        return sb.append(']').toString();
+    }
+}
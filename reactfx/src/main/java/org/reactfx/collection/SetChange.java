@@ -0,0 +1,99 @@
+package org.reactfx.collection;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import javafx.collections.SetChangeListener;
+
+/**
+ * Describes a change of a set as the set of added elements and the set of
+ * removed elements. A single change may cover any number of elements, and
+ * no element is both added and removed.
+ *
+ * @param <E> type of set elements
+ */
+public interface SetChange<E> {
+
+    /**
+     * Elements that are present in the set after the change, but were not
+     * present before.
+     */
+    Set<E> getAdded();
+
+    /**
+     * Elements that were present in the set before the change, but are not
+     * present after.
+     */
+    Set<E> getRemoved();
+
+    default boolean isEmpty() {
+        return getAdded().isEmpty() && getRemoved().isEmpty();
+    }
+
+    static <E> SetChange<E> create(Set<E> added, Set<E> removed) {
+        return new SetChangeImpl<>(added, removed);
+    }
+
+    static <E> SetChange<E> added(Set<E> added) {
+        return new SetChangeImpl<>(added, Collections.emptySet());
+    }
+
+    static <E> SetChange<E> removed(Set<E> removed) {
+        return new SetChangeImpl<>(Collections.emptySet(), removed);
+    }
+
+    static <E> SetChange<E> from(SetChangeListener.Change<? extends E> ch) {
+        return ch.wasAdded()
+                ? added(Collections.<E>singleton(ch.getElementAdded()))
+                : removed(Collections.<E>singleton(ch.getElementRemoved()));
+    }
+
+    /**
+     * Returns the net effect of change {@code a} followed by change
+     * {@code b}. An element added by one and removed by the other does not
+     * appear in the result.
+     */
+    static <E> SetChange<E> merge(
+            SetChange<? extends E> a,
+            SetChange<? extends E> b) {
+        Set<E> added = new HashSet<>(a.getAdded());
+        Set<E> removed = new HashSet<>(a.getRemoved());
+        for(E e: b.getRemoved()) {
+            if(!added.remove(e)) {
+                removed.add(e);
+            }
+        }
+        for(E e: b.getAdded()) {
+            if(!removed.remove(e)) {
+                added.add(e);
+            }
+        }
+        return new SetChangeImpl<>(added, removed);
+    }
+}
+
+final class SetChangeImpl<E> implements SetChange<E> {
+    private final Set<E> added;
+    private final Set<E> removed;
+
+    SetChangeImpl(Set<E> added, Set<E> removed) {
+        this.added = Collections.unmodifiableSet(added);
+        this.removed = Collections.unmodifiableSet(removed);
+    }
+
+    @Override
+    public Set<E> getAdded() {
+        return added;
+    }
+
+    @Override
+    public Set<E> getRemoved() {
+        return removed;
+    }
+
+    @Override
+    public String toString() {
+        return "SetChange[added=" + added + ", removed=" + removed + "]";
+    }
+}
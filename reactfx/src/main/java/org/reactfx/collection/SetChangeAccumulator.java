@@ -0,0 +1,75 @@
+package org.reactfx.collection;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Mutable accumulator of {@link SetChange}s. Adding a change costs time
+ * proportional to the size of that change, so that accumulating {@code k}
+ * single-element changes costs O(k) in total, unlike repeated
+ * {@link SetChange#merge(SetChange, SetChange)}.
+ */
+final class SetChangeAccumulator<E> {
+    // the only change added so far, if there is just one
+    private SetChange<? extends E> single = null;
+
+    // the accumulated change, when more than one change has been added
+    private Set<E> added = null;
+    private Set<E> removed = null;
+
+    public boolean isEmpty() {
+        if(single != null) {
+            return single.isEmpty();
+        } else {
+            return added == null || added.isEmpty() && removed.isEmpty();
+        }
+    }
+
+    /**
+     * Adds the effect of {@code change}, which follows the changes added so
+     * far. An element added by one change and removed by another is dropped
+     * from the accumulated change.
+     * @return this accumulator
+     */
+    public SetChangeAccumulator<E> add(SetChange<? extends E> change) {
+        if(single == null && added == null) {
+            single = change;
+            return this;
+        } else if(single != null) {
+            added = new HashSet<>(single.getAdded());
+            removed = new HashSet<>(single.getRemoved());
+            single = null;
+        }
+
+        for(E e: change.getRemoved()) {
+            if(!added.remove(e)) {
+                removed.add(e);
+            }
+        }
+        for(E e: change.getAdded()) {
+            if(!removed.remove(e)) {
+                added.add(e);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the accumulated change and resets this accumulator.
+     */
+    public SetChange<? extends E> fetch() {
+        SetChange<? extends E> res;
+        if(single != null) {
+            res = single;
+        } else if(added != null) {
+            res = SetChange.create(added, removed);
+        } else {
+            res = SetChange.<E>create(Collections.emptySet(), Collections.emptySet());
+        }
+        single = null;
+        added = null;
+        removed = null;
+        return res;
+    }
+}
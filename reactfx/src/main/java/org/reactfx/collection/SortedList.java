@@ -0,0 +1,217 @@
+package org.reactfx.collection;
+
+import static org.reactfx.util.Either.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+
+import org.reactfx.Subscription;
+import org.reactfx.util.FingerTree;
+import org.reactfx.util.Lists;
+import org.reactfx.util.ToSemigroup;
+import org.reactfx.util.Tuple2;
+import org.reactfx.value.Val;
+
+/**
+ * View of the source list sorted by a comparator. Elements that compare
+ * equal keep their relative order from the source list.
+ *
+ * <p>While observed, the view keeps the source elements in two trees: one
+ * in source order and one in sorted order. Each element carries a label
+ * that increases in source order, which breaks ties between equal elements
+ * and lets an element be located in the sorted tree by binary search.
+ * Each inserted or removed source element thus costs O(log(n)) and is
+ * reported as a single-element modification of this view; adjacent
+ * modifications are merged. Unlike JavaFX's {@code SortedList}, no
+ * permutation changes are ever emitted.
+ *
+ * <p>When the comparator changes, the view is re-sorted and the changed
+ * range, with the common prefix and suffix trimmed off, is reported as a
+ * single modification.
+ *
+ * <p>While not observed, the view does not observe the source list or the
+ * comparator either, so it cannot tell when a sorted copy goes stale. Each
+ * access then sorts a copy of the source list; observe the view to have the
+ * sorted order maintained incrementally.
+ */
+class SortedList<E> extends LiveListBase<E>
+implements UnmodifiableByDefaultLiveList<E> {
+
+    private static final class Node<E> extends SourceOrderLabels.Node {
+        final E elem;
+        final Stats<E> stats;
+
+        Node(E elem) {
+            this.elem = elem;
+            this.stats = new Stats<>(1, this);
+        }
+    }
+
+    private static final class Stats<E> {
+        final int size;
+        final Node<E> last;
+
+        Stats(int size, Node<E> last) {
+            this.size = size;
+            this.last = last;
+        }
+    }
+
+    private final ObservableList<E> source;
+    private final Val<? extends Comparator<? super E>> comparator;
+    private final ToSemigroup<Node<E>, Stats<E>> sortedStats =
+            new ToSemigroup<Node<E>, Stats<E>>() {
+
+        @Override
+        public Stats<E> reduce(Stats<E> left, Stats<E> right) {
+            return new Stats<>(left.size + right.size, right.last);
+        }
+
+        @Override
+        public Stats<E> apply(Node<E> node) {
+            return node.stats;
+        }
+    };
+
+    // both null when not observing inputs
+    private FingerTree<Node<E>, Void> sourceTree = null;
+    private FingerTree<Node<E>, Stats<E>> sortedTree = null;
+
+    public SortedList(
+            ObservableList<E> source,
+            ObservableValue<? extends Comparator<? super E>> comparator) {
+        this.source = source;
+        this.comparator = Val.wrap(comparator);
+    }
+
+    @Override
+    public E get(int index) {
+        if(sortedTree != null) {
+            return sortedTree.getLeaf(index).elem;
+        } else {
+            List<E> sorted = new ArrayList<>(source);
+            sorted.sort(comparator.getValue());
+            return sorted.get(index);
+        }
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        List<Node<E>> nodes = new ArrayList<>(source.size());
+        for(E elem: source) {
+            nodes.add(new Node<>(elem));
+        }
+        SourceOrderLabels.assign(nodes);
+        sourceTree = FingerTree.mkTree(nodes);
+        sortedTree = FingerTree.mkTree(sort(nodes, comparator.getValue()), sortedStats);
+        return Subscription.multi(
+                LiveList.<E>observeQuasiChanges(source, this::sourceChanged),
+                comparator.observeInvalidations(oldComparator -> comparatorChanged()))
+                .and(() -> {
+                    sourceTree = null;
+                    sortedTree = null;
+                });
+    }
+
+    private void sourceChanged(QuasiListChange<? extends E> change) {
+        Comparator<? super E> cmp = comparator.getValue();
+        ListChangeAccumulator<E> acc = new ListChangeAccumulator<>();
+        for(QuasiListModification<? extends E> mod: change) {
+            int from = mod.getFrom();
+            int addedSize = mod.getAddedSize();
+            Tuple2<FingerTree<Node<E>, Void>, FingerTree<Node<E>, Void>> lr =
+                    sourceTree.split(from);
+            Tuple2<FingerTree<Node<E>, Void>, FingerTree<Node<E>, Void>> mr =
+                    lr._2.split(mod.getRemovedSize());
+            FingerTree<Node<E>, Void> left = lr._1;
+            FingerTree<Node<E>, Void> right = mr._2;
+
+            for(Node<E> node: mr._1.asList()) {
+                int i = sortedIndex(cmp, node);
+                Tuple2<FingerTree<Node<E>, Stats<E>>, FingerTree<Node<E>, Stats<E>>> t =
+                        sortedTree.split(i);
+                sortedTree = t._1.join(t._2.split(1)._2);
+                acc.add(ProperLiveList.elemRemoval(i, node.elem));
+            }
+
+            List<Node<E>> added = new ArrayList<>(addedSize);
+            for(E elem: source.subList(from, from + addedSize)) {
+                added.add(new Node<>(elem));
+            }
+            sourceTree = left.join(FingerTree.mkTree(added)).join(right);
+            SourceOrderLabels.assign(added, left, right, sourceTree);
+
+            for(Node<E> node: added) {
+                int i = sortedIndex(cmp, node);
+                Tuple2<FingerTree<Node<E>, Stats<E>>, FingerTree<Node<E>, Stats<E>>> t =
+                        sortedTree.split(i);
+                sortedTree = t._1.append(node).join(t._2);
+                acc.add(ProperLiveList.elemInsertion(i));
+            }
+        }
+
+        if(!acc.isEmpty()) {
+            notifyObservers(acc.fetch());
+        }
+    }
+
+    private void comparatorChanged() {
+        List<Node<E>> oldSorted = sortedTree.asList();
+        List<Node<E>> newSorted = sort(sourceTree.asList(), comparator.getValue());
+        sortedTree = FingerTree.mkTree(newSorted, sortedStats);
+
+        int n = newSorted.size();
+        int prefix = 0;
+        while(prefix < n && oldSorted.get(prefix) == newSorted.get(prefix)) {
+            ++prefix;
+        }
+        int suffix = 0;
+        while(suffix < n - prefix && oldSorted.get(n - 1 - suffix) == newSorted.get(n - 1 - suffix)) {
+            ++suffix;
+        }
+
+        if(prefix + suffix < n) {
+            List<E> removed = Lists.mappedView(
+                    oldSorted.subList(prefix, n - suffix),
+                    node -> node.elem);
+            QuasiListChangeImpl<E> change = new QuasiListChangeImpl<>(1);
+            change.add(QuasiListModification.create(prefix, removed, n - prefix - suffix));
+            notifyObservers(change);
+        }
+    }
+
+    /**
+     * Returns the index of the first node in the sorted tree that is not
+     * less than {@code key}. If {@code key} is in the tree, this is its
+     * index; otherwise it is the index at which {@code key} belongs.
+     */
+    private int sortedIndex(Comparator<? super E> cmp, Node<E> key) {
+        return sortedTree.caseEmpty().unify(
+                empty -> 0,
+                tree -> compare(cmp, key, tree.getSummary().last) > 0
+                        ? tree.getLeafCount()
+                        : tree.locate(
+                                (s, pos) -> compare(cmp, key, s.last) <= 0 ? left(pos) : right(pos),
+                                0).major);
+    }
+
+    private static <E> int compare(Comparator<? super E> cmp, Node<E> a, Node<E> b) {
+        int c = cmp.compare(a.elem, b.elem);
+        return c != 0 ? c : SourceOrderLabels.compare(a, b);
+    }
+
+    private static <E> List<Node<E>> sort(List<Node<E>> nodes, Comparator<? super E> cmp) {
+        List<Node<E>> sorted = new ArrayList<>(nodes);
+        sorted.sort((a, b) -> cmp.compare(a.elem, b.elem)); // stable
+        return sorted;
+    }
+}
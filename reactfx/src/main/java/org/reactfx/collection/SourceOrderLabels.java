@@ -0,0 +1,159 @@
+package org.reactfx.collection;
+
+import java.util.List;
+
+import org.reactfx.util.FingerTree;
+
+/**
+ * Maintains labels that increase in source order on the nodes of a tree
+ * kept in source order. The labels let two nodes be compared by their
+ * source position in constant time, without knowing their indices, which
+ * is what views that re-arrange source elements need to keep them in a
+ * stable order.
+ *
+ * <p>Inserted nodes are labeled between their neighbours. When there is not
+ * enough room between the neighbouring labels, only the nodes in a window of
+ * the label space around the insertion point are relabeled, as in the
+ * order-maintenance scheme of Bender et al. ("Two Simplified Algorithms for
+ * Maintaining Order in a List"): the label space is divided into aligned
+ * windows of size 2<sup>i</sup>, and the smallest window around the left
+ * neighbour that holds at most (2/T)<sup>i</sup> nodes, including the
+ * inserted ones, is relabeled evenly. With the density threshold
+ * 1 &lt; T &lt; 2 this costs amortized O(log(n)) relabeled nodes per
+ * inserted node, compared to O(n) for relabeling all nodes. Only when not
+ * even the whole label space satisfies the threshold, which requires more
+ * than (2/T)<sup>62</sup> nodes, are all nodes relabeled.
+ */
+final class SourceOrderLabels {
+
+    static abstract class Node {
+        long label;
+    }
+
+    private static final long GAP = 1L << 24;
+    private static final long MIN_LABEL = Long.MIN_VALUE / 2;
+    private static final long MAX_LABEL = Long.MAX_VALUE / 2;
+
+    // the highest level of windows that are relabeled on their own;
+    // a window of level MAX_LEVEL spans half of the label space
+    private static final int MAX_LEVEL = 62;
+
+    // density threshold
+    private static final double T = 1.3;
+
+    // WINDOW_CAPACITY[i] is the maximum number of nodes
+    // in a window of size 2^i that is not overflowing
+    private static final double[] WINDOW_CAPACITY = new double[MAX_LEVEL + 1];
+    static {
+        for(int i = 0; i <= MAX_LEVEL; ++i) {
+            WINDOW_CAPACITY[i] = Math.pow(2 / T, i);
+        }
+    }
+
+    // private constructor to prevent instantiation
+    private SourceOrderLabels() {}
+
+    static int compare(Node a, Node b) {
+        return Long.compare(a.label, b.label);
+    }
+
+    /**
+     * Labels the given nodes, which are in source order.
+     */
+    static void assign(List<? extends Node> nodes) {
+        long label = 0;
+        for(Node node: nodes) {
+            node.label = label;
+            label += GAP;
+        }
+    }
+
+    /**
+     * Labels the newly inserted nodes {@code added}, which lie between
+     * {@code left} and {@code right} in source order. {@code all} is the
+     * whole tree, including the inserted nodes.
+     */
+    static <N extends Node> void assign(
+            List<? extends N> added,
+            FingerTree<N, ?> left,
+            FingerTree<N, ?> right,
+            FingerTree<N, ?> all) {
+        if(added.isEmpty()) {
+            return;
+        }
+
+        int leftCount = left.getLeafCount();
+        long lo = leftCount > 0 ? left.getLeaf(leftCount - 1).label : MIN_LABEL;
+        long hi = right.getLeafCount() > 0 ? right.getLeaf(0).label : MAX_LABEL;
+        long step = (hi - lo) / (added.size() + 1);
+        if(step > 0) {
+            long label = lo;
+            for(Node node: added) {
+                label += step;
+                node.label = label;
+            }
+        } else if(!relabelWindow(added, left, right, lo)) {
+            assign(all.asList());
+        }
+    }
+
+    /**
+     * Relabels the smallest non-overflowing window that contains
+     * {@code anchor}, together with the inserted nodes {@code added}.
+     * Returns {@code false} if every window up to {@link #MAX_LEVEL}
+     * overflows.
+     */
+    private static <N extends Node> boolean relabelWindow(
+            List<? extends N> added,
+            FingerTree<N, ?> left,
+            FingerTree<N, ?> right,
+            long anchor) {
+        // offset of the anchor from the start of the label space
+        long offset = anchor - MIN_LABEL;
+        int leftCount = left.getLeafCount();
+        int level = 64 - Long.numberOfLeadingZeros(added.size());
+        for(; level <= MAX_LEVEL; ++level) {
+            long start = MIN_LABEL + (offset >>> level << level);
+            long end = start + (1L << level);
+            int from = firstAtLeast(left, start);
+            int to = firstAtLeast(right, end);
+            int count = leftCount - from + added.size() + to;
+            if(count <= WINDOW_CAPACITY[level]) {
+                long step = (1L << level) / (count + 1);
+                long label = start;
+                for(Node node: left.asList().subList(from, leftCount)) {
+                    label += step;
+                    node.label = label;
+                }
+                for(Node node: added) {
+                    label += step;
+                    node.label = label;
+                }
+                for(Node node: right.asList().subList(0, to)) {
+                    label += step;
+                    node.label = label;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first node in {@code tree} whose label is
+     * not less than {@code label}.
+     */
+    private static int firstAtLeast(FingerTree<? extends Node, ?> tree, long label) {
+        int lo = 0;
+        int hi = tree.getLeafCount();
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if(tree.getLeaf(mid).label < label) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
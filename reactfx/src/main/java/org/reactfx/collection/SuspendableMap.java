@@ -0,0 +1,11 @@
+package org.reactfx.collection;
+
+import org.reactfx.Suspendable;
+
+/**
+ * {@link LiveMap} whose change notifications can be suspended. Changes made
+ * while suspended are merged into a single change that maps each affected
+ * key from its value before the suspension to its value after. Keys that
+ * end up with their original value are not reported at all.
+ */
+public interface SuspendableMap<K, V> extends LiveMap<K, V>, Suspendable {}
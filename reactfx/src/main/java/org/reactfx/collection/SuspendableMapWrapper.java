@@ -0,0 +1,107 @@
+package org.reactfx.collection;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javafx.collections.ObservableMap;
+
+import org.reactfx.SuspendableBase;
+import org.reactfx.util.AccumulatorSize;
+import org.reactfx.util.NotificationAccumulator;
+
+final class SuspendableMapWrapper<K, V>
+extends SuspendableBase<Consumer<? super MapChange<? extends K, ? extends V>>, MapChange<? extends K, ? extends V>, MapChangeAccumulator<K, V>>
+implements SuspendableMap<K, V>, ProperLiveMap<K, V> {
+    private final ObservableMap<K, V> delegate;
+
+    SuspendableMapWrapper(ObservableMap<K, V> source) {
+        super(
+                LiveMap.changesOf(source),
+                NotificationAccumulator.accumulativeStreamNotifications(
+                        acc -> acc.isEmpty() ? AccumulatorSize.ZERO : AccumulatorSize.ONE,
+                        MapChangeAccumulator::fetch,
+                        acc -> { throw new NoSuchElementException(); },
+                        ch -> new MapChangeAccumulator<K, V>().add(ch),
+                        MapChangeAccumulator::add));
+        this.delegate = source;
+    }
+
+    @Override
+    protected AccumulatorSize sizeOf(MapChangeAccumulator<K, V> accum) {
+        // changes that cancel out are not reported
+        return accum.isEmpty() ? AccumulatorSize.ZERO : AccumulatorSize.ONE;
+    }
+
+    @Override
+    protected MapChange<? extends K, ? extends V> headOf(MapChangeAccumulator<K, V> accum) {
+        return accum.fetch();
+    }
+
+    @Override
+    protected MapChangeAccumulator<K, V> tailOf(MapChangeAccumulator<K, V> accum) {
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return delegate.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return delegate.put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return delegate.remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        delegate.putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return delegate.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return delegate.values();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return delegate.entrySet();
+    }
+}
@@ -0,0 +1,12 @@
+package org.reactfx.collection;
+
+import org.reactfx.Suspendable;
+
+/**
+ * {@link LiveSet} whose change notifications can be suspended. Changes made
+ * while suspended are merged into a single change of net additions and
+ * removals, which is reported when the last suspension is released. An
+ * element that is added and then removed again (or vice versa) while
+ * suspended is not reported at all.
+ */
+public interface SuspendableSet<E> extends LiveSet<E>, Suspendable {}
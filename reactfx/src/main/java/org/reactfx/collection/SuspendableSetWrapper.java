@@ -0,0 +1,111 @@
+package org.reactfx.collection;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import javafx.collections.ObservableSet;
+
+import org.reactfx.SuspendableBase;
+import org.reactfx.util.AccumulatorSize;
+import org.reactfx.util.NotificationAccumulator;
+
+final class SuspendableSetWrapper<E>
+extends SuspendableBase<Consumer<? super SetChange<? extends E>>, SetChange<? extends E>, SetChangeAccumulator<E>>
+implements SuspendableSet<E>, ProperLiveSet<E> {
+    private final ObservableSet<E> delegate;
+
+    SuspendableSetWrapper(ObservableSet<E> source) {
+        super(
+                LiveSet.changesOf(source),
+                NotificationAccumulator.accumulativeStreamNotifications(
+                        acc -> acc.isEmpty() ? AccumulatorSize.ZERO : AccumulatorSize.ONE,
+                        SetChangeAccumulator::fetch,
+                        acc -> { throw new NoSuchElementException(); },
+                        ch -> new SetChangeAccumulator<E>().add(ch),
+                        SetChangeAccumulator::add));
+        this.delegate = source;
+    }
+
+    @Override
+    protected AccumulatorSize sizeOf(SetChangeAccumulator<E> accum) {
+        // changes that cancel out are not reported
+        return accum.isEmpty() ? AccumulatorSize.ZERO : AccumulatorSize.ONE;
+    }
+
+    @Override
+    protected SetChange<? extends E> headOf(SetChangeAccumulator<E> accum) {
+        return accum.fetch();
+    }
+
+    @Override
+    protected SetChangeAccumulator<E> tailOf(SetChangeAccumulator<E> accum) {
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return delegate.contains(o);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return delegate.iterator();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return delegate.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return delegate.toArray(a);
+    }
+
+    @Override
+    public boolean add(E e) {
+        return delegate.add(e);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return delegate.remove(o);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        return delegate.containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return delegate.addAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return delegate.retainAll(c);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return delegate.removeAll(c);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+}
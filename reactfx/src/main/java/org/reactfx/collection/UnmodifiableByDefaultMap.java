@@ -0,0 +1,95 @@
+package org.reactfx.collection;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Trait to be mixed into implementations of unmodifiable maps. Provides
+ * default implementations of mutating map methods, as well as of accessor
+ * methods that can be derived from {@link #entrySet()}.
+ */
+interface UnmodifiableByDefaultMap<K, V> extends Map<K, V> {
+
+    @Override
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    default boolean containsValue(Object value) {
+        for(Map.Entry<K, V> e: entrySet()) {
+            if(Objects.equals(value, e.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    default Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                Iterator<Map.Entry<K, V>> it = entrySet().iterator();
+                return new Iterator<K>() {
+                    @Override public boolean hasNext() { return it.hasNext(); }
+                    @Override public K next() { return it.next().getKey(); }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public int size() {
+                return UnmodifiableByDefaultMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    default Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                Iterator<Map.Entry<K, V>> it = entrySet().iterator();
+                return new Iterator<V>() {
+                    @Override public boolean hasNext() { return it.hasNext(); }
+                    @Override public V next() { return it.next().getValue(); }
+                };
+            }
+
+            @Override
+            public int size() {
+                return UnmodifiableByDefaultMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    default V put(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default V remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default void putAll(Map<? extends K, ? extends V> m) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
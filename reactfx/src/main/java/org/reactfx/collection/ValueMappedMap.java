@@ -0,0 +1,89 @@
+package org.reactfx.collection;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ObservableMap;
+
+import org.reactfx.Subscription;
+
+/**
+ * View of a map with each value transformed by a function. The function is
+ * applied on each access, and to the values covered by each change.
+ */
+class ValueMappedMap<K, V, W> extends LiveMapBase<K, W>
+implements UnmodifiableByDefaultMap<K, W> {
+    private final ObservableMap<K, ? extends V> source;
+    private final Function<? super V, ? extends W> f;
+
+    ValueMappedMap(
+            ObservableMap<K, ? extends V> source,
+            Function<? super V, ? extends W> f) {
+        this.source = source;
+        this.f = f;
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return source.containsKey(key);
+    }
+
+    @Override
+    public W get(Object key) {
+        return source.containsKey(key) ? f.apply(source.get(key)) : null;
+    }
+
+    @Override
+    public Set<Map.Entry<K, W>> entrySet() {
+        return new AbstractSet<Map.Entry<K, W>>() {
+            @Override
+            public Iterator<Map.Entry<K, W>> iterator() {
+                Iterator<? extends Map.Entry<K, ? extends V>> it = source.entrySet().iterator();
+                return new Iterator<Map.Entry<K, W>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<K, W> next() {
+                        Map.Entry<K, ? extends V> e = it.next();
+                        return new SimpleImmutableEntry<>(e.getKey(), f.apply(e.getValue()));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return source.size();
+            }
+        };
+    }
+
+    @Override
+    protected Subscription observeInputs() {
+        return LiveMap.<K, V>observeChanges(source, this::sourceChanged);
+    }
+
+    private void sourceChanged(MapChange<? extends K, ? extends V> change) {
+        fireChange(map(change.getAdded()), map(change.getRemoved()));
+    }
+
+    private Map<K, W> map(Map<? extends K, ? extends V> m) {
+        Map<K, W> res = new HashMap<>(m.size() * 4 / 3 + 1);
+        for(Map.Entry<? extends K, ? extends V> e: m.entrySet()) {
+            res.put(e.getKey(), f.apply(e.getValue()));
+        }
+        return res;
+    }
+}
@@ -0,0 +1,719 @@
+package org.reactfx.util;
+
+import static org.reactfx.util.Tuples.*;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Persistent sequence with cached summaries, like {@link FingerTree}, but
+ * laid out for a smaller memory footprint. Items are stored in chunks of up
+ * to 32 items and inner nodes have up to 32 children, so a tree costs about
+ * one array slot per item plus one node per 16 to 32 items, instead of one
+ * leaf object per item plus a node per 2-3 leaves. Neighbouring items sit next to each other in
+ * memory, which makes traversals more cache friendly, and the tree is only
+ * about log<sub>32</sub>(n) levels deep.
+ *
+ * <p>In exchange, summaries are only cached per chunk: a summary of a part
+ * of a chunk is recomputed from its items, and every update of an item
+ * recomputes the summary of its chunk. This tree is therefore a good fit
+ * for large sequences that are mostly read, located in and split, with
+ * summaries that are cheap to compute.
+ *
+ * <p>All nodes except those on the left and right edge of the tree are at
+ * least half full; {@link #split(int)} and {@link #join(ChunkedTree)}
+ * rebalance the nodes along the seam to keep it that way.
+ */
+public final class ChunkedTree<T, S> {
+
+    static final int MAX_WIDTH = 32;
+    private static final int MIN_WIDTH = MAX_WIDTH / 2;
+
+    private static abstract class Node<T, S> {
+        final int leafCount;
+        final S summary;
+
+        Node(int leafCount, S summary) {
+            this.leafCount = leafCount;
+            this.summary = summary;
+        }
+
+        abstract int height();
+        abstract int width();
+    }
+
+    private static final class Chunk<T, S> extends Node<T, S> {
+        final Object[] items;
+
+        Chunk(Object[] items, S summary) {
+            super(items.length, summary);
+            this.items = items;
+        }
+
+        @Override int height() { return 0; }
+        @Override int width() { return items.length; }
+
+        @SuppressWarnings("unchecked")
+        T get(int i) {
+            return (T) items[i];
+        }
+    }
+
+    private static final class Branch<T, S> extends Node<T, S> {
+        final Node<T, S>[] children;
+        final int[] offsets; // offsets[i] is the number of leafs before children[i]
+        final int height;
+
+        Branch(Node<T, S>[] children, int[] offsets, S summary) {
+            super(offsets[children.length - 1] + children[children.length - 1].leafCount, summary);
+            this.children = children;
+            this.offsets = offsets;
+            this.height = children[0].height() + 1;
+        }
+
+        @Override int height() { return height; }
+        @Override int width() { return children.length; }
+
+        /**
+         * Returns the index of the child that contains the given leaf.
+         */
+        int childIndex(int leaf) {
+            int i = Arrays.binarySearch(offsets, leaf);
+            return i >= 0 ? i : -i - 2;
+        }
+    }
+
+    public static <T, S> ChunkedTree<T, S> empty(
+            ToSemigroup<? super T, S> summaryProvider) {
+        return new ChunkedTree<>(summaryProvider, null);
+    }
+
+    public static <T> ChunkedTree<T, Void> mkTree(List<? extends T> items) {
+        return mkTree(items, new ToSemigroup<T, Void>() {
+            @Override public Void apply(T t) { return null; }
+            @Override public Void reduce(Void left, Void right) { return null; }
+        });
+    }
+
+    /**
+     * Builds a tree of the given items in O(n). All nodes of the resulting
+     * tree, except possibly the root, are at least half full.
+     */
+    public static <T, S> ChunkedTree<T, S> mkTree(
+            List<? extends T> items,
+            ToSemigroup<? super T, S> summaryProvider) {
+        ChunkedTree<T, S> empty = empty(summaryProvider);
+        int n = items.size();
+        if(n == 0) {
+            return empty;
+        }
+
+        int chunkCount = (n + MAX_WIDTH - 1) / MAX_WIDTH;
+        List<Node<T, S>> nodes = new ArrayList<>(chunkCount);
+        for(int i = 0; i < chunkCount; ++i) {
+            List<? extends T> chunk = items.subList(
+                    evenPart(n, chunkCount, i),
+                    evenPart(n, chunkCount, i + 1));
+            nodes.add(empty.chunk(chunk.toArray()));
+        }
+
+        while(nodes.size() > 1) {
+            int m = nodes.size();
+            int branchCount = (m + MAX_WIDTH - 1) / MAX_WIDTH;
+            List<Node<T, S>> parents = new ArrayList<>(branchCount);
+            for(int i = 0; i < branchCount; ++i) {
+                List<Node<T, S>> children = nodes.subList(
+                        evenPart(m, branchCount, i),
+                        evenPart(m, branchCount, i + 1));
+                parents.add(empty.branch(
+                        children.toArray(ChunkedTree.<T, S>newNodes(children.size()))));
+            }
+            nodes = parents;
+        }
+
+        return new ChunkedTree<>(summaryProvider, nodes.get(0));
+    }
+
+    private static int evenPart(int n, int parts, int i) {
+        return (int) ((long) n * i / parts);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, S> Node<T, S>[] newNodes(int n) {
+        return new Node[n];
+    }
+
+    private static <T, S> Node<T, S>[] nodes(Node<T, S> node) {
+        Node<T, S>[] res = newNodes(1);
+        res[0] = node;
+        return res;
+    }
+
+    private static <T, S> Node<T, S>[] nodes(Node<T, S> left, Node<T, S> right) {
+        Node<T, S>[] res = newNodes(2);
+        res[0] = left;
+        res[1] = right;
+        return res;
+    }
+
+    private final ToSemigroup<? super T, S> semigroup;
+    private final Node<T, S> root; // null when empty
+
+    private ChunkedTree(ToSemigroup<? super T, S> semigroup, Node<T, S> root) {
+        this.semigroup = semigroup;
+        this.root = root;
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public int getLeafCount() {
+        return root == null ? 0 : root.leafCount;
+    }
+
+    /**
+     * Returns the number of levels of this tree; 0 for an empty tree and 1
+     * for a tree that consists of a single chunk.
+     */
+    public int getDepth() {
+        return root == null ? 0 : root.height() + 1;
+    }
+
+    public Optional<S> getSummaryOpt() {
+        return root == null ? Optional.empty() : Optional.of(root.summary);
+    }
+
+    public S getSummary(S whenEmpty) {
+        return root == null ? whenEmpty : root.summary;
+    }
+
+    public T getLeaf(int index) {
+        Lists.checkIndex(index, getLeafCount());
+        Node<T, S> node = root;
+        while(node instanceof Branch) {
+            Branch<T, S> branch = (Branch<T, S>) node;
+            int c = branch.childIndex(index);
+            index -= branch.offsets[c];
+            node = branch.children[c];
+        }
+        return ((Chunk<T, S>) node).get(index);
+    }
+
+    public ChunkedTree<T, S> updateLeaf(int index, T data) {
+        Lists.checkIndex(index, getLeafCount());
+        return new ChunkedTree<>(semigroup, updateLeaf(root, index, data));
+    }
+
+    private Node<T, S> updateLeaf(Node<T, S> node, int index, T data) {
+        if(node instanceof Chunk) {
+            Object[] items = ((Chunk<T, S>) node).items.clone();
+            items[index] = data;
+            return chunk(items);
+        } else {
+            Branch<T, S> branch = (Branch<T, S>) node;
+            int c = branch.childIndex(index);
+            Node<T, S>[] children = branch.children.clone();
+            children[c] = updateLeaf(children[c], index - branch.offsets[c], data);
+            return new Branch<>(children, branch.offsets, summarize(children));
+        }
+    }
+
+    /**
+     * Navigates from the root towards a leaf, like
+     * {@link FingerTree#locate(BiFunction, int)}. At each level,
+     * {@code navigate} is applied to the summaries of the children from left
+     * to right, and then, within a chunk, to the summaries of the items,
+     * until it returns {@code left}.
+     */
+    public BiIndex locate(
+            BiFunction<? super S, Integer, Either<Integer, Integer>> navigate,
+            int position) {
+        if(root == null || navigate.apply(root.summary, position).isRight()) {
+            throw new IndexOutOfBoundsException("Position " + position + " is out of bounds");
+        }
+
+        Node<T, S> node = root;
+        int major = 0;
+        while(node instanceof Branch) {
+            Branch<T, S> branch = (Branch<T, S>) node;
+            int c = 0;
+            Either<Integer, Integer> e = navigate.apply(branch.children[0].summary, position);
+            while(e.isRight()) {
+                position = e.getRight();
+                e = navigate.apply(branch.children[++c].summary, position);
+            }
+            position = e.getLeft();
+            major += branch.offsets[c];
+            node = branch.children[c];
+        }
+
+        Chunk<T, S> chunk = (Chunk<T, S>) node;
+        int i = 0;
+        Either<Integer, Integer> e = navigate.apply(semigroup.apply(chunk.get(0)), position);
+        while(e.isRight()) {
+            position = e.getRight();
+            e = navigate.apply(semigroup.apply(chunk.get(++i)), position);
+        }
+        return new BiIndex(major + i, e.getLeft());
+    }
+
+    public BiIndex locateProgressively(
+            ToIntFunction<? super S> metric,
+            int position) {
+        return locateByMetric(metric, position, true);
+    }
+
+    public BiIndex locateRegressively(
+            ToIntFunction<? super S> metric,
+            int position) {
+        return locateByMetric(metric, position, false);
+    }
+
+    private BiIndex locateByMetric(
+            ToIntFunction<? super S> metric,
+            int position,
+            boolean progressive) {
+        if(root == null) {
+            throw new IndexOutOfBoundsException("Position " + position + " is out of bounds");
+        }
+        Lists.checkPosition(position, metric.applyAsInt(root.summary));
+
+        Node<T, S> node = root;
+        int major = 0;
+        while(node instanceof Branch) {
+            Branch<T, S> branch = (Branch<T, S>) node;
+            int last = branch.children.length - 1;
+            int c = 0;
+            for(; c < last; ++c) {
+                int len = metric.applyAsInt(branch.children[c].summary);
+                if(progressive ? position < len : position <= len) {
+                    break;
+                }
+                position -= len;
+            }
+            major += branch.offsets[c];
+            node = branch.children[c];
+        }
+
+        Chunk<T, S> chunk = (Chunk<T, S>) node;
+        int last = chunk.items.length - 1;
+        int i = 0;
+        for(; i < last; ++i) {
+            int len = metric.applyAsInt(semigroup.apply(chunk.get(i)));
+            if(progressive ? position < len : position <= len) {
+                break;
+            }
+            position -= len;
+        }
+        return new BiIndex(major + i, position);
+    }
+
+    public <R> R fold(
+            R acc,
+            BiFunction<? super R, ? super T, ? extends R> reduction) {
+        return foldBetween(acc, reduction, 0, getLeafCount());
+    }
+
+    public <R> R foldBetween(
+            R acc,
+            BiFunction<? super R, ? super T, ? extends R> reduction,
+            int startLeaf,
+            int endLeaf) {
+        Lists.checkRange(startLeaf, endLeaf, getLeafCount());
+        return startLeaf == endLeaf
+                ? acc
+                : foldBetween(root, acc, reduction, startLeaf, endLeaf);
+    }
+
+    private static <T, S, R> R foldBetween(
+            Node<T, S> node,
+            R acc,
+            BiFunction<? super R, ? super T, ? extends R> reduction,
+            int startLeaf,
+            int endLeaf) {
+        if(node instanceof Chunk) {
+            Chunk<T, S> chunk = (Chunk<T, S>) node;
+            for(int i = startLeaf; i < endLeaf; ++i) {
+                acc = reduction.apply(acc, chunk.get(i));
+            }
+            return acc;
+        } else {
+            Branch<T, S> branch = (Branch<T, S>) node;
+            for(int c = branch.childIndex(startLeaf); c < branch.children.length; ++c) {
+                int offset = branch.offsets[c];
+                if(offset >= endLeaf) {
+                    break;
+                }
+                Node<T, S> child = branch.children[c];
+                acc = foldBetween(
+                        child, acc, reduction,
+                        Math.max(startLeaf - offset, 0),
+                        Math.min(endLeaf - offset, child.leafCount));
+            }
+            return acc;
+        }
+    }
+
+    public Optional<S> getSummaryBetween(int startLeaf, int endLeaf) {
+        Lists.checkRange(startLeaf, endLeaf, getLeafCount());
+        return startLeaf == endLeaf
+                ? Optional.empty()
+                : Optional.of(getSummaryBetween(root, startLeaf, endLeaf));
+    }
+
+    private S getSummaryBetween(Node<T, S> node, int startLeaf, int endLeaf) {
+        assert Lists.isNonEmptyRange(startLeaf, endLeaf, node.leafCount);
+        if(startLeaf == 0 && endLeaf == node.leafCount) {
+            return node.summary;
+        } else if(node instanceof Chunk) {
+            return summarize(((Chunk<T, S>) node).items, startLeaf, endLeaf);
+        } else {
+            Branch<T, S> branch = (Branch<T, S>) node;
+            int c = branch.childIndex(startLeaf);
+            int offset = branch.offsets[c];
+            Node<T, S> child = branch.children[c];
+            S acc = getSummaryBetween(
+                    child,
+                    startLeaf - offset,
+                    Math.min(endLeaf - offset, child.leafCount));
+            for(++c; c < branch.children.length; ++c) {
+                offset = branch.offsets[c];
+                if(offset >= endLeaf) {
+                    break;
+                }
+                child = branch.children[c];
+                acc = semigroup.reduce(acc, getSummaryBetween(
+                        child, 0, Math.min(endLeaf - offset, child.leafCount)));
+            }
+            return acc;
+        }
+    }
+
+    public Tuple2<ChunkedTree<T, S>, ChunkedTree<T, S>> split(int beforeLeaf) {
+        Lists.checkPosition(beforeLeaf, getLeafCount());
+        if(beforeLeaf == 0) {
+            return t(empty(semigroup), this);
+        } else if(beforeLeaf == root.leafCount) {
+            return t(this, empty(semigroup));
+        } else {
+            return split(root, beforeLeaf).map((l, r) -> t(withRoot(l), withRoot(r)));
+        }
+    }
+
+    /**
+     * Splits a node into two parts, each made of one or two nodes of the
+     * height of the split node. The nodes along the cut are merged with
+     * their neighbours, so that none of them except the returned ones ends
+     * up less than half full.
+     */
+    private Tuple2<Node<T, S>[], Node<T, S>[]> split(Node<T, S> node, int beforeLeaf) {
+        assert 0 < beforeLeaf && beforeLeaf < node.leafCount;
+        if(node instanceof Chunk) {
+            Object[] items = ((Chunk<T, S>) node).items;
+            return t(
+                    nodes(chunk(Arrays.copyOfRange(items, 0, beforeLeaf))),
+                    nodes(chunk(Arrays.copyOfRange(items, beforeLeaf, items.length))));
+        } else {
+            Branch<T, S> branch = (Branch<T, S>) node;
+            Node<T, S>[] children = branch.children;
+            int c = branch.childIndex(beforeLeaf);
+            int inChild = beforeLeaf - branch.offsets[c];
+            if(inChild == 0) {
+                return t(
+                        nodes(branch(Arrays.copyOfRange(children, 0, c))),
+                        nodes(branch(Arrays.copyOfRange(children, c, children.length))));
+            } else {
+                Tuple2<Node<T, S>[], Node<T, S>[]> lr = split(children[c], inChild);
+                return t(
+                        rebalance(Arrays.copyOf(children, c), lr._1, newNodes(0)),
+                        rebalance(newNodes(0), lr._2, Arrays.copyOfRange(children, c + 1, children.length)));
+            }
+        }
+    }
+
+    public ChunkedTree<T, S> join(ChunkedTree<T, S> rightTree) {
+        if(root == null) {
+            return rightTree;
+        } else if(rightTree.root == null) {
+            return this;
+        } else {
+            return withRoot(concat(root, rightTree.root));
+        }
+    }
+
+    /**
+     * Concatenates two nodes into one or two nodes of the height of the
+     * higher of them. The nodes along the seam are merged with their
+     * neighbours or rebalanced, so that none of them except the returned
+     * ones ends up less than half full.
+     */
+    private Node<T, S>[] concat(Node<T, S> left, Node<T, S> right) {
+        int hl = left.height();
+        int hr = right.height();
+        if(hl > hr) {
+            Node<T, S>[] children = ((Branch<T, S>) left).children;
+            int n = children.length;
+            return rebalance(
+                    Arrays.copyOf(children, n - 1),
+                    concat(children[n - 1], right),
+                    newNodes(0));
+        } else if(hl < hr) {
+            Node<T, S>[] children = ((Branch<T, S>) right).children;
+            return rebalance(
+                    newNodes(0),
+                    concat(left, children[0]),
+                    Arrays.copyOfRange(children, 1, children.length));
+        } else if(left instanceof Chunk) {
+            Object[] l = ((Chunk<T, S>) left).items;
+            Object[] r = ((Chunk<T, S>) right).items;
+            int n = l.length + r.length;
+            if(l.length >= MIN_WIDTH && r.length >= MIN_WIDTH) {
+                return nodes(left, right);
+            }
+            Object[] items = Arrays.copyOf(l, n);
+            System.arraycopy(r, 0, items, l.length, r.length);
+            return n <= MAX_WIDTH
+                    ? nodes(chunk(items))
+                    : nodes(
+                            chunk(Arrays.copyOfRange(items, 0, n / 2)),
+                            chunk(Arrays.copyOfRange(items, n / 2, n)));
+        } else {
+            Node<T, S>[] l = ((Branch<T, S>) left).children;
+            Node<T, S>[] r = ((Branch<T, S>) right).children;
+            return rebalance(
+                    Arrays.copyOf(l, l.length - 1),
+                    concat(l[l.length - 1], r[0]),
+                    Arrays.copyOfRange(r, 1, r.length));
+        }
+    }
+
+    /**
+     * Makes one or two branches out of the given children. Only the one or
+     * two nodes in {@code middle} may be less than half full; a single such
+     * node is merged with a neighbour, if there is one.
+     */
+    private Node<T, S>[] rebalance(
+            Node<T, S>[] left,
+            Node<T, S>[] middle,
+            Node<T, S>[] right) {
+        if(middle.length == 1 && middle[0].width() < MIN_WIDTH) {
+            if(left.length > 0) {
+                middle = concat(left[left.length - 1], middle[0]);
+                left = Arrays.copyOf(left, left.length - 1);
+            } else if(right.length > 0) {
+                middle = concat(middle[0], right[0]);
+                right = Arrays.copyOfRange(right, 1, right.length);
+            }
+        }
+
+        int n = left.length + middle.length + right.length;
+        Node<T, S>[] children = Arrays.copyOf(left, n);
+        System.arraycopy(middle, 0, children, left.length, middle.length);
+        System.arraycopy(right, 0, children, left.length + middle.length, right.length);
+        return n <= MAX_WIDTH
+                ? nodes(branch(children))
+                : nodes(
+                        branch(Arrays.copyOfRange(children, 0, n / 2)),
+                        branch(Arrays.copyOfRange(children, n / 2, n)));
+    }
+
+    public ChunkedTree<T, S> removeLeafs(int fromLeaf, int toLeaf) {
+        Lists.checkRange(fromLeaf, toLeaf, getLeafCount());
+        if(fromLeaf == toLeaf) {
+            return this;
+        } else {
+            return replaceLeafs(fromLeaf, toLeaf, new Object[0]);
+        }
+    }
+
+    public ChunkedTree<T, S> insertLeaf(int position, T data) {
+        Lists.checkPosition(position, getLeafCount());
+        return replaceLeafs(position, position, new Object[] { data });
+    }
+
+    public ChunkedTree<T, S> insertLeafs(int position, List<? extends T> data) {
+        Lists.checkPosition(position, getLeafCount());
+        return replaceLeafs(position, position, data.toArray());
+    }
+
+    /**
+     * Replaces the leafs in the given range by {@code items}. If the range
+     * lies within a single chunk, and the chunk neither overflows nor
+     * becomes less full than it was or half full, only the path to that
+     * chunk is copied. Otherwise the tree is split and joined.
+     */
+    private ChunkedTree<T, S> replaceLeafs(int fromLeaf, int toLeaf, Object[] items) {
+        Node<T, S> replaced = root == null
+                ? null
+                : replaceInChunk(root, fromLeaf, toLeaf, items);
+        if(replaced != null) {
+            return new ChunkedTree<>(semigroup, replaced);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> middle = (List<T>) Arrays.asList(items);
+        return split(fromLeaf)._1
+                .join(mkTree(middle, semigroup))
+                .join(split(toLeaf)._2);
+    }
+
+    /**
+     * Returns the node with the leafs in the given range replaced by
+     * {@code items}, or {@code null} if that cannot be done within a single
+     * chunk.
+     */
+    private Node<T, S> replaceInChunk(Node<T, S> node, int fromLeaf, int toLeaf, Object[] items) {
+        if(node instanceof Chunk) {
+            Object[] old = ((Chunk<T, S>) node).items;
+            int n = old.length - (toLeaf - fromLeaf) + items.length;
+            if(n == 0 || n > MAX_WIDTH || n < Math.min(old.length, MIN_WIDTH)) {
+                return null;
+            }
+            Object[] res = new Object[n];
+            System.arraycopy(old, 0, res, 0, fromLeaf);
+            System.arraycopy(items, 0, res, fromLeaf, items.length);
+            System.arraycopy(old, toLeaf, res, fromLeaf + items.length, old.length - toLeaf);
+            return chunk(res);
+        } else {
+            Branch<T, S> branch = (Branch<T, S>) node;
+            int c = branch.childIndex(fromLeaf);
+            int offset = branch.offsets[c];
+            Node<T, S> child = branch.children[c];
+            if(toLeaf - offset > child.leafCount) {
+                return null;
+            }
+            Node<T, S> replaced = replaceInChunk(child, fromLeaf - offset, toLeaf - offset, items);
+            if(replaced == null) {
+                return null;
+            }
+            Node<T, S>[] children = branch.children.clone();
+            children[c] = replaced;
+            return branch(children);
+        }
+    }
+
+    public ChunkedTree<T, S> append(T data) {
+        return join(singleton(data));
+    }
+
+    public ChunkedTree<T, S> prepend(T data) {
+        return singleton(data).join(this);
+    }
+
+    /**
+     * Returns a list view of this tree. {@code size()} is O(1),
+     * {@code get} is O(log(n)), iteration is O(n).
+     */
+    public List<T> asList() {
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return getLeaf(index);
+            }
+
+            @Override
+            public int size() {
+                return getLeafCount();
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                return ChunkedTree.this.iterator(0, getLeafCount());
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the leafs in the given range. The tree is
+     * only descended once per chunk, so iterating over k leafs takes
+     * O(k + log(n)) time.
+     */
+    public Iterator<T> iterator(int startLeaf, int endLeaf) {
+        Lists.checkRange(startLeaf, endLeaf, getLeafCount());
+        return new Iterator<T>() {
+            private int next = startLeaf;
+            private Object[] chunk = new Object[0];
+            private int chunkStart = startLeaf;
+
+            @Override
+            public boolean hasNext() {
+                return next < endLeaf;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if(next - chunkStart == chunk.length) {
+                    Node<T, S> node = root;
+                    int index = next;
+                    while(node instanceof Branch) {
+                        Branch<T, S> branch = (Branch<T, S>) node;
+                        int c = branch.childIndex(index);
+                        index -= branch.offsets[c];
+                        node = branch.children[c];
+                    }
+                    chunk = ((Chunk<T, S>) node).items;
+                    chunkStart = next - index;
+                }
+                return (T) chunk[next++ - chunkStart];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkedTree" + asList();
+    }
+
+    private ChunkedTree<T, S> singleton(T data) {
+        return new ChunkedTree<>(semigroup, chunk(new Object[] { data }));
+    }
+
+    private ChunkedTree<T, S> withRoot(Node<T, S>[] nodes) {
+        Node<T, S> root = nodes.length == 1 ? nodes[0] : branch(nodes);
+        while(root instanceof Branch && root.width() == 1) {
+            root = ((Branch<T, S>) root).children[0];
+        }
+        return new ChunkedTree<>(semigroup, root);
+    }
+
+    private Chunk<T, S> chunk(Object[] items) {
+        return new Chunk<>(items, summarize(items, 0, items.length));
+    }
+
+    private Branch<T, S> branch(Node<T, S>[] children) {
+        int[] offsets = new int[children.length];
+        for(int i = 1; i < children.length; ++i) {
+            offsets[i] = offsets[i - 1] + children[i - 1].leafCount;
+        }
+        return new Branch<>(children, offsets, summarize(children));
+    }
+
+    @SuppressWarnings("unchecked")
+    private S summarize(Object[] items, int from, int to) {
+        S acc = semigroup.apply((T) items[from]);
+        for(int i = from + 1; i < to; ++i) {
+            acc = semigroup.reduce(acc, semigroup.apply((T) items[i]));
+        }
+        return acc;
+    }
+
+    private S summarize(Node<T, S>[] children) {
+        S acc = children[0].summary;
+        for(int i = 1; i < children.length; ++i) {
+            acc = semigroup.reduce(acc, children[i].summary);
+        }
+        return acc;
+    }
+}
@@ -6,6 +6,7 @@ import static org.reactfx.util.Tuples.*;
 
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -13,7 +14,10 @@ import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
 
@@ -908,6 +912,75 @@ public abstract class FingerTree<T, S> {
         }
     }
 
+    private static final class MkTreeTask<T, S> extends RecursiveTask<FingerTree<T, S>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends T> items;
+        private final ToSemigroup<? super T, S> summaryProvider;
+
+        MkTreeTask(List<? extends T> items, ToSemigroup<? super T, S> summaryProvider) {
+            this.items = items;
+            this.summaryProvider = summaryProvider;
+        }
+
+        @Override
+        protected FingerTree<T, S> compute() {
+            int n = items.size();
+            if(n < PARALLEL_THRESHOLD) {
+                return FingerTree.<T, S>mkTree(items, summaryProvider);
+            }
+            MkTreeTask<T, S> left = new MkTreeTask<T, S>(items.subList(0, n / 2), summaryProvider);
+            left.fork();
+            FingerTree<T, S> right = new MkTreeTask<T, S>(items.subList(n / 2, n), summaryProvider).compute();
+            return left.join().join(right);
+        }
+    }
+
+    private static final class FoldTask<T, R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+
+        private final FingerTree<T, ?> tree;
+        private final R identity;
+        private final BiFunction<? super R, ? super T, ? extends R> reduction;
+        private final BinaryOperator<R> combiner;
+        private final int startLeaf;
+        private final int endLeaf;
+
+        FoldTask(
+                FingerTree<T, ?> tree,
+                R identity,
+                BiFunction<? super R, ? super T, ? extends R> reduction,
+                BinaryOperator<R> combiner,
+                int startLeaf,
+                int endLeaf) {
+            this.tree = tree;
+            this.identity = identity;
+            this.reduction = reduction;
+            this.combiner = combiner;
+            this.startLeaf = startLeaf;
+            this.endLeaf = endLeaf;
+        }
+
+        @Override
+        protected R compute() {
+            if(endLeaf - startLeaf < PARALLEL_THRESHOLD) {
+                return tree.foldBetween(identity, reduction, startLeaf, endLeaf);
+            }
+            int mid = (startLeaf + endLeaf) >>> 1;
+            FoldTask<T, R> left = new FoldTask<>(tree, identity, reduction, combiner, startLeaf, mid);
+            left.fork();
+            R right = new FoldTask<>(tree, identity, reduction, combiner, mid, endLeaf).compute();
+            return combiner.apply(left.join(), right);
+        }
+    }
+
+    /**
+     * Inputs of fewer items than this are processed sequentially by
+     * {@link #mkTreeParallel(List, ToSemigroup)} and
+     * {@link #foldBetweenParallel(Object, BiFunction, BinaryOperator, int, int)}.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
     public static <T, S> FingerTree<T, S> empty(
             ToSemigroup<? super T, S> statisticsProvider) {
         return new Empty<>(statisticsProvider);
@@ -957,6 +1030,29 @@ public abstract class FingerTree<T, S> {
         return trees.get(0);
     }
 
+    /**
+     * Like {@link #mkTree(List, ToSemigroup)}, but builds subtrees of large
+     * inputs in parallel, in the common {@link ForkJoinPool}, and joins
+     * them. The calling thread takes part in the work and returns when the
+     * tree is complete.
+     *
+     * <p>{@code items} is first copied to an array on the calling thread,
+     * so it is only accessed from the calling thread and may be a lazy or
+     * thread-confined list. {@code summaryProvider}, on the other hand, is
+     * invoked from the threads of the pool, so it has to be thread-safe and
+     * must not access thread-confined state, such as JavaFX nodes.
+     */
+    public static <T, S> FingerTree<T, S> mkTreeParallel(
+            List<? extends T> items,
+            ToSemigroup<? super T, S> summaryProvider) {
+        if(items.size() < PARALLEL_THRESHOLD) {
+            return mkTree(items, summaryProvider);
+        }
+        @SuppressWarnings("unchecked")
+        List<T> copy = (List<T>) Arrays.asList(items.toArray());
+        return new MkTreeTask<T, S>(copy, summaryProvider).invoke();
+    }
+
     private static <T, S> Branch<T, S> branch(NonEmptyFingerTree<T, S> left, NonEmptyFingerTree<T, S> right) {
         return branch(LL.of(left, right));
     }
@@ -1083,6 +1179,31 @@ public abstract class FingerTree<T, S> {
             BiFunction<? super R, ? super T, ? extends R> reduction,
             int startLeaf, int endLeaf);
 
+    /**
+     * Folds the given range of leafs in parallel, in the common
+     * {@link ForkJoinPool}. The range is divided into parts, each part is
+     * folded starting from {@code identity}, and the results of adjacent
+     * parts are combined by {@code combiner}. The result is the same as that
+     * of {@link #foldBetween(Object, BiFunction, int, int)} provided that
+     * {@code combiner} is associative, {@code identity} is its identity and
+     * {@code combiner.apply(r, reduction.apply(identity, t))} equals
+     * {@code reduction.apply(r, t)}, as required by
+     * {@link java.util.stream.Stream#reduce(Object, BiFunction, BinaryOperator)}.
+     * {@code reduction} and {@code combiner} are invoked from multiple
+     * threads.
+     */
+    public <R> R foldBetweenParallel(
+            R identity,
+            BiFunction<? super R, ? super T, ? extends R> reduction,
+            BinaryOperator<R> combiner,
+            int startLeaf,
+            int endLeaf) {
+        Lists.checkRange(startLeaf, endLeaf, getLeafCount());
+        return endLeaf - startLeaf < PARALLEL_THRESHOLD
+                ? foldBetween(identity, reduction, startLeaf, endLeaf)
+                : new FoldTask<>(this, identity, reduction, combiner, startLeaf, endLeaf).invoke();
+    }
+
     public <R> R foldBetween(
             R acc,
             BiFunction<? super R, ? super T, ? extends R> reduction,
@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -224,6 +225,58 @@ public final class Lists {
         return ListConcatenation.create(lists);
     }
 
+    /**
+     * Splits a tree of chunks, summarized by the number of elements, before
+     * the element at {@code position}. If {@code position} falls inside a
+     * chunk, the chunk is divided into two {@linkplain List#subList subList}
+     * views, so the chunks must not be modified afterwards.
+     * Takes O(log(n)) time.
+     */
+    public static <E> Tuple2<FingerTree<List<E>, Integer>, FingerTree<List<E>, Integer>> splitChunks(
+            FingerTree<List<E>, Integer> chunks,
+            int position) {
+        return chunks.caseEmpty().unify(
+                emptyTree -> t(emptyTree, emptyTree),
+                neTree -> neTree.split(Integer::intValue, position).map((l, m, r) -> m.map((chunk, offset) -> {
+                    FingerTree<List<E>, Integer> left = offset > 0
+                            ? l.append(chunk.subList(0, offset))
+                            : l;
+                    FingerTree<List<E>, Integer> right = offset < chunk.size()
+                            ? r.prepend(chunk.subList(offset, chunk.size()))
+                            : r;
+                    return t(left, right);
+                })));
+    }
+
+    /**
+     * Returns a read-only iterator over the elements of all the chunks of the
+     * given tree, in order. Unlike indexing into the tree, iterating over all
+     * elements takes O(n) time.
+     */
+    public static <E> Iterator<E> chunksIterator(
+            FingerTree<? extends List<? extends E>, ?> chunks) {
+        Iterator<? extends List<? extends E>> it = chunks.asList().iterator();
+        return new Iterator<E>() {
+            private Iterator<? extends E> chunk = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while(!chunk.hasNext() && it.hasNext()) {
+                    chunk = it.next().iterator();
+                }
+                return chunk.hasNext();
+            }
+
+            @Override
+            public E next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return chunk.next();
+            }
+        };
+    }
+
     public static int commonPrefixLength(List<?> l, List<?> m) {
         ListIterator<?> i = l.listIterator();
         ListIterator<?> j = m.listIterator();
@@ -372,29 +425,15 @@ class ListConcatenation<E> extends AbstractList<E> {
         return ft.getSummary(0);
     }
 
+    @Override
+    public Iterator<E> iterator() {
+        return Lists.chunksIterator(ft);
+    }
+
     @Override
     public List<E> subList(int from, int to) {
         Lists.checkRange(from, to, size());
-        return trim(to).drop(from);
-    }
-
-    private ListConcatenation<E> trim(int limit) {
-        return ft.caseEmpty().<ListConcatenation<E>>unify(
-                emptyTree -> this,
-                neTree -> neTree.split(Integer::intValue, limit).map((l, m, r) -> {
-                    FingerTree<List<E>, Integer> t =
-                            m.map((lst, i) -> i == 0 ? l : l.append(lst.subList(0, i)));
-                    return new ListConcatenation<>(t);
-                }));
-    }
-
-    private ListConcatenation<E> drop(int n) {
-        return ft.caseEmpty().<ListConcatenation<E>>unify(
-                emptyTree -> this,
-                neTree -> neTree.split(Integer::intValue, n).map((l, m, r) -> {
-                    FingerTree<List<E>, Integer> t =
-                            m.map((lst, i) -> i == lst.size() ? r : r.prepend(lst.subList(i, lst.size())));
-                    return new ListConcatenation<>(t);
-                }));
+        FingerTree<List<E>, Integer> t = Lists.splitChunks(ft, to)._1;
+        return new ListConcatenation<>(Lists.splitChunks(t, from)._2);
     }
 }
\ No newline at end of file
@@ -3,10 +3,14 @@ package org.reactfx.util;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 
 import org.reactfx.collection.ListModificationSequence;
 import org.reactfx.collection.LiveList;
@@ -50,6 +54,18 @@ public interface NotificationAccumulator<O, V, A> {
         return new NonAccumulativeStreamNotifications<>();
     }
 
+    static NotificationAccumulator<IntConsumer, Integer, Integer> nonAccumulativeIntStreamNotifications() {
+        return new NonAccumulativePrimitiveStreamNotifications<>(IntConsumer::accept);
+    }
+
+    static NotificationAccumulator<LongConsumer, Long, Long> nonAccumulativeLongStreamNotifications() {
+        return new NonAccumulativePrimitiveStreamNotifications<>(LongConsumer::accept);
+    }
+
+    static NotificationAccumulator<DoubleConsumer, Double, Double> nonAccumulativeDoubleStreamNotifications() {
+        return new NonAccumulativePrimitiveStreamNotifications<>(DoubleConsumer::accept);
+    }
+
     static <E> NotificationAccumulator<LiveList.Observer<? super E, ?>, QuasiListChange<? extends E>, ListModificationSequence<E>> listNotifications() {
         return new ListNotifications<>();
     }
@@ -62,6 +78,24 @@ public interface NotificationAccumulator<O, V, A> {
     void addAll(Iterator<O> observers, V value);
     void clear();
     AccumulationFacility<V, A> getAccumulationFacility();
+
+    /**
+     * Notifies {@code observer} of {@code value} directly, bypassing the
+     * accumulation, if that is equivalent to the sequence
+     * {@code addAll(singleObserverIterator, value)}, {@code takeOne().run()},
+     * ... until empty. This is used as an allocation-free fast path when
+     * there is a single observer and this accumulator is empty.
+     *
+     * <p>The default implementation does nothing and returns {@code false}.
+     *
+     * @return {@code true} if the observer has been notified,
+     * {@code false} if this accumulator does not support direct notification
+     * of {@code observer} about {@code value}, in which case the caller has
+     * to fall back to {@link #addAll(Iterator, Object)}.
+     */
+    default boolean notifyDirectly(O observer, V value) {
+        return false;
+    }
 }
 
 abstract class NotificationAccumulatorBase<O, V, A>
@@ -122,6 +156,12 @@ final class NonAccumulativeStreamNotifications<T>
 extends NotificationAccumulatorBase<Consumer<? super T>, T, T>
 implements AccumulationFacility.NoAccumulation<T> {
 
+    @Override
+    public boolean notifyDirectly(Consumer<? super T> observer, T value) {
+        observer.accept(value);
+        return true;
+    }
+
     @Override
     protected AccumulatorSize size(
             Consumer<? super T> observer,
@@ -141,6 +181,47 @@ implements AccumulationFacility.NoAccumulation<T> {
 }
 
 
+/* ************************************ *
+ * Non-recursive primitive value stream *
+ * ************************************ */
+
+/**
+ * Used only when a boxed value is passed to {@code notifyObservers} of a
+ * primitive stream. Primitive streams normally notify their observers
+ * directly, see e.g. {@link org.reactfx.IntEventStreamBase}.
+ */
+final class NonAccumulativePrimitiveStreamNotifications<O, T>
+extends NotificationAccumulatorBase<O, T, T>
+implements AccumulationFacility.NoAccumulation<T> {
+    private final BiConsumer<? super O, ? super T> notify;
+
+    NonAccumulativePrimitiveStreamNotifications(BiConsumer<? super O, ? super T> notify) {
+        this.notify = notify;
+    }
+
+    @Override
+    public boolean notifyDirectly(O observer, T value) {
+        notify.accept(observer, value);
+        return true;
+    }
+
+    @Override
+    protected AccumulatorSize size(O observer, T accumulatedValue) {
+        return AccumulatorSize.ONE;
+    }
+
+    @Override
+    protected Runnable head(O observer, T accumulatedValue) {
+        return () -> notify.accept(observer, accumulatedValue);
+    }
+
+    @Override
+    protected T tail(O observer, T accumulatedValue) {
+        throw new NoSuchElementException();
+    }
+}
+
+
 /* ******************* *
  * Accumulative stream *
  * ******************* */
@@ -202,6 +283,13 @@ final class QueuingStreamNotifications<T>
 extends NotificationAccumulatorBase<Consumer<? super T>, T, Deque<T>>
 implements AccumulationFacility.Queuing<T> {
 
+    @Override
+    public boolean notifyDirectly(Consumer<? super T> observer, T value) {
+        // the initial accumulator is a queue holding just the value
+        observer.accept(value);
+        return true;
+    }
+
     @Override
     protected AccumulatorSize size(
             Consumer<? super T> observer,
@@ -236,6 +324,12 @@ abstract class AbstractReducingStreamNotifications<T>
 extends NotificationAccumulatorBase<Consumer<? super T>, T, T>
 implements AccumulationFacility.HomotypicAccumulation<T> {
 
+    @Override
+    public final boolean notifyDirectly(Consumer<? super T> observer, T value) {
+        observer.accept(value);
+        return true;
+    }
+
     @Override
     protected final AccumulatorSize size(
             Consumer<? super T> observer,
@@ -296,6 +390,24 @@ final class ListNotifications<E>
 extends NotificationAccumulatorBase<LiveList.Observer<? super E, ?>, QuasiListChange<? extends E>, ListModificationSequence<E>>
 implements AccumulationFacility.ListChangeAccumulation<E> {
 
+    @Override
+    public boolean notifyDirectly(
+            Observer<? super E, ?> observer,
+            QuasiListChange<? extends E> value) {
+        ListModificationSequence<E> mods = initialAccumulator(value);
+        switch(observer.sizeOf(mods)) {
+            case ZERO: return true;
+            case ONE: notifyOfHead(observer, mods); return true;
+            default: return false; // multiple notifications
+        }
+    }
+
+    private final <O> void notifyOfHead(
+            Observer<? super E, O> observer,
+            ListModificationSequence<E> mods) {
+        observer.onChange(observer.headOf(mods));
+    }
+
     @Override
     protected AccumulatorSize size(
             Observer<? super E, ?> observer,
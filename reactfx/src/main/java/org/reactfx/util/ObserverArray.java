@@ -0,0 +1,356 @@
+package org.reactfx.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Array-backed list of observers, optimized for frequent iteration
+ * interleaved with frequent additions and removals.
+ *
+ * <p>Iteration, via {@link #forEach(Consumer)} or {@link #iterator()}, sees
+ * a snapshot of the observers at the time the iteration started: observers
+ * added or removed during iteration do not affect it. Starting an iteration
+ * does not copy anything. Instead, the backing array is copied on the first
+ * modification made while an iteration is in progress (copy-on-write).
+ * {@link #forEach(Consumer)} does not allocate at all.
+ *
+ * <p>Adding an observer is amortized O(1). Removing an observer replaces it
+ * by a tombstone, instead of shifting the subsequent observers. Tombstones
+ * are purged when they outnumber the live observers. The observer to remove
+ * is located by linear search while there are few observers, and by a hash
+ * index (based on {@code equals}) when there are many, so removal is
+ * amortized O(1) as well. The exception is when some observer is registered
+ * more than once, in which case removal degrades to linear time.
+ *
+ * <p>Duplicates are allowed. {@link #remove(Object)} removes the first
+ * occurrence, as in {@link List#remove(Object)}.
+ *
+ * @param <T> observer type
+ */
+public final class ObserverArray<T> {
+    private static final Object TOMBSTONE = new Object();
+    private static final Object[] EMPTY = new Object[0];
+    private static final int MIN_CAPACITY = 4;
+
+    // hash index is built when size goes above INDEX_THRESHOLD
+    // and discarded when it drops below INDEX_THRESHOLD / 2
+    private static final int INDEX_THRESHOLD = 16;
+
+    // live elements and tombstones
+    private Object[] elems = EMPTY;
+
+    // number of used slots in elems, including tombstones
+    private int end = 0;
+
+    // number of live elements
+    private int size = 0;
+
+    // number of unfinished iterations over the current elems array;
+    // when > 0, elems must not be modified in place
+    private int iterating = 0;
+
+    // maps each element to the slot of its first occurrence
+    private Map<Object, Integer> index = null;
+
+    // number of elements equal to an earlier element (tracked only with index)
+    private int duplicates = 0;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int i) {
+        Lists.checkIndex(i, size);
+        if(end == size) { // no tombstones
+            return (T) elems[i];
+        }
+        for(int j = 0; j < end; ++j) {
+            Object elem = elems[j];
+            if(elem != TOMBSTONE && i-- == 0) {
+                return (T) elem;
+            }
+        }
+        throw new AssertionError("unreachable code");
+    }
+
+    public void add(T elem) {
+        if(iterating > 0) {
+            reallocate(Math.max(elems.length, grownCapacity(size)));
+        } else if(end == elems.length) {
+            if(end - size > end / 2) {
+                compact();
+            } else {
+                reallocate(grownCapacity(end));
+            }
+        }
+
+        int slot = end++;
+        elems[slot] = elem;
+        ++size;
+
+        if(index != null) {
+            indexAdd(elem, slot);
+        } else if(size > INDEX_THRESHOLD) {
+            buildIndex();
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the given element, if present.
+     * @return {@code true} if the element was found and removed.
+     */
+    public boolean remove(Object elem) {
+        int slot = indexOf(elem);
+        if(slot == -1) {
+            return false;
+        }
+
+        if(size == 1) {
+            clear();
+            return true;
+        }
+
+        if(iterating > 0) {
+            // slots stay the same, so the index remains valid
+            elems = Arrays.copyOf(elems, elems.length);
+            iterating = 0;
+        }
+
+        elems[slot] = TOMBSTONE;
+        --size;
+        if(index != null) {
+            indexRemove(elem, slot);
+        }
+
+        // trim trailing tombstones, which makes LIFO removal cheap
+        while(elems[end - 1] == TOMBSTONE) {
+            elems[--end] = null;
+        }
+
+        if(index != null && size < INDEX_THRESHOLD / 2) {
+            index = null;
+            duplicates = 0;
+        }
+        if(end - size > size) {
+            compact();
+        }
+        return true;
+    }
+
+    public void clear() {
+        if(iterating > 0) {
+            elems = EMPTY;
+            iterating = 0;
+        } else {
+            Arrays.fill(elems, 0, end, null);
+        }
+        end = 0;
+        size = 0;
+        index = null;
+        duplicates = 0;
+    }
+
+    /**
+     * Calls {@code f} for each element of the snapshot of this list
+     * taken at the time of invocation. Does not allocate.
+     * If {@code f} throws an exception, it will not be called for any
+     * subsequent elements and the exception will be propagated.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> f) {
+        Object[] snapshot = elems;
+        int n = end;
+        ++iterating;
+        try {
+            for(int i = 0; i < n; ++i) {
+                Object elem = snapshot[i];
+                if(elem != TOMBSTONE) {
+                    f.accept((T) elem);
+                }
+            }
+        } finally {
+            release(snapshot);
+        }
+    }
+
+    /**
+     * Returns an iterator over the snapshot of this list taken at the time
+     * of invocation. The snapshot is shared with this list (i.e. not copied)
+     * until either this list is modified or the iterator is exhausted.
+     */
+    public Iterator<T> iterator() {
+        if(size == 0) {
+            return Collections.emptyIterator();
+        } else {
+            ++iterating;
+            return new SnapshotIterator();
+        }
+    }
+
+    public T[] toArray(IntFunction<T[]> allocator) {
+        T[] res = allocator.apply(size);
+        int i = 0;
+        for(int j = 0; j < end; ++j) {
+            Object elem = elems[j];
+            if(elem != TOMBSTONE) {
+                @SuppressWarnings("unchecked")
+                T t = (T) elem;
+                res[i++] = t;
+            }
+        }
+        return res;
+    }
+
+    private void release(Object[] snapshot) {
+        // if the array has been replaced in the meantime,
+        // the counter already applies to the new array
+        if(snapshot == elems) {
+            --iterating;
+        }
+    }
+
+    private int indexOf(Object elem) {
+        if(index != null) {
+            Integer slot = index.get(elem);
+            return slot == null ? -1 : slot;
+        }
+        for(int i = 0; i < end; ++i) {
+            Object e = elems[i];
+            if(e != TOMBSTONE && Objects.equals(elem, e)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void buildIndex() {
+        index = new HashMap<>(end * 2);
+        duplicates = 0;
+        for(int i = 0; i < end; ++i) {
+            Object elem = elems[i];
+            if(elem != TOMBSTONE) {
+                indexAdd(elem, i);
+            }
+        }
+    }
+
+    private void indexAdd(Object elem, int slot) {
+        if(index.putIfAbsent(elem, slot) != null) {
+            ++duplicates;
+        }
+    }
+
+    private void indexRemove(Object elem, int slot) {
+        if(duplicates > 0) {
+            for(int i = slot + 1; i < end; ++i) {
+                Object e = elems[i];
+                if(e != TOMBSTONE && Objects.equals(elem, e)) {
+                    index.put(elem, i);
+                    --duplicates;
+                    return;
+                }
+            }
+        }
+        index.remove(elem);
+    }
+
+    /**
+     * Purges tombstones, in place unless an iteration is in progress.
+     */
+    private void compact() {
+        if(iterating > 0) {
+            reallocate(elems.length);
+        } else {
+            int j = 0;
+            for(int i = 0; i < end; ++i) {
+                Object elem = elems[i];
+                if(elem != TOMBSTONE) {
+                    elems[j++] = elem;
+                }
+            }
+            assert j == size;
+            Arrays.fill(elems, size, end, null);
+            end = size;
+            if(index != null) {
+                buildIndex();
+            }
+        }
+    }
+
+    /**
+     * Copies live elements to a new array of the given capacity,
+     * purging tombstones.
+     */
+    private void reallocate(int capacity) {
+        Object[] newElems = new Object[capacity];
+        int j = 0;
+        for(int i = 0; i < end; ++i) {
+            Object elem = elems[i];
+            if(elem != TOMBSTONE) {
+                newElems[j++] = elem;
+            }
+        }
+        assert j == size;
+        boolean purged = end != size;
+        elems = newElems;
+        end = size;
+        iterating = 0;
+        if(index != null && purged) {
+            buildIndex();
+        }
+    }
+
+    private static int grownCapacity(int n) {
+        return Math.max(MIN_CAPACITY, n + (n >> 1) + 1);
+    }
+
+    private final class SnapshotIterator implements Iterator<T> {
+        private Object[] snapshot = elems;
+        private final int to = end;
+        private int next = 0;
+
+        SnapshotIterator() {
+            skipTombstones();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < to;
+        }
+
+        @Override
+        public T next() {
+            if(next < to) {
+                @SuppressWarnings("unchecked")
+                T res = (T) snapshot[next++];
+                skipTombstones();
+                return res;
+            } else {
+                throw new NoSuchElementException();
+            }
+        }
+
+        private void skipTombstones() {
+            while(next < to && snapshot[next] == TOMBSTONE) {
+                ++next;
+            }
+            if(next == to && snapshot != null) {
+                release(snapshot);
+                snapshot = null;
+            }
+        }
+    }
+}
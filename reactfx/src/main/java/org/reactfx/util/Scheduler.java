@@ -0,0 +1,92 @@
+package org.reactfx.util;
+
+import java.time.Duration;
+
+/**
+ * Source of time and of {@link Timer}s for time-based operators, such as
+ * {@link org.reactfx.EventStream#reduceSuccessions(java.util.function.BinaryOperator, Duration, Scheduler)}
+ * or {@link org.reactfx.EventStreams#ticks(Duration, Scheduler)}.
+ *
+ * <p>{@link #fx()} is backed by the system clock and fires timers on the
+ * JavaFX application thread. {@link VirtualTimeScheduler} is backed by a
+ * clock that only moves when told to, which makes time-based pipelines
+ * testable without waiting and without the JavaFX toolkit.
+ *
+ * <p>As with {@link Timer}, a scheduler and its timers may only be used
+ * from the scheduler's associated thread.
+ */
+public interface Scheduler {
+
+    /**
+     * Returns the scheduler that uses the system clock and the shared
+     * {@link TimingWheel#fx() JavaFX timing wheel}.
+     */
+    static Scheduler fx() {
+        return FxScheduler.INSTANCE;
+    }
+
+    /**
+     * Returns the current time of this scheduler's clock in nanoseconds,
+     * measured from an arbitrary origin, like {@link System#nanoTime()}.
+     */
+    long nanoTime();
+
+    /**
+     * Prepares a (stopped) timer that executes {@code action} when
+     * {@code delay} has elapsed after each {@link Timer#restart()}.
+     * A zero delay means as soon as possible, that is, on the next JavaFX
+     * pulse for {@link #fx()}, or on the next advance of the clock of a
+     * {@link VirtualTimeScheduler}.
+     */
+    Timer createTimer(Duration delay, Runnable action);
+
+    /**
+     * Prepares a (stopped) timer that executes {@code action} periodically,
+     * at the end of each {@code interval}.
+     */
+    Timer createPeriodicTimer(Duration interval, Runnable action);
+
+    /**
+     * Prepares a (stopped) timer that executes {@code action} periodically,
+     * at the start of each {@code interval}, that is, also as soon as
+     * possible after each {@link Timer#restart()}.
+     */
+    default Timer createPeriodicTimer0(Duration interval, Runnable action) {
+        Timer first = createTimer(Duration.ZERO, action);
+        Timer periodic = createPeriodicTimer(interval, action);
+        return new Timer() {
+            @Override
+            public void restart() {
+                first.restart();
+                periodic.restart();
+            }
+
+            @Override
+            public void stop() {
+                first.stop();
+                periodic.stop();
+            }
+        };
+    }
+}
+
+final class FxScheduler implements Scheduler {
+    static final FxScheduler INSTANCE = new FxScheduler();
+
+    private FxScheduler() {}
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public Timer createTimer(Duration delay, Runnable action) {
+        return TimingWheel.fx().create(delay, action);
+    }
+
+    @Override
+    public Timer createPeriodicTimer(Duration interval, Runnable action) {
+        return TimingWheel.fx().createPeriodic(interval, action);
+    }
+}
@@ -0,0 +1,344 @@
+package org.reactfx.util;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Hashed timing wheel that drives any number of {@link Timer}s from a single
+ * source of ticks: the JavaFX pulse (see {@link #fx()}) or a single
+ * scheduler thread (see {@link #create(Duration, int,
+ * ScheduledExecutorService, Executor)}). Compared to {@link FxTimer}, which
+ * keeps a {@link javafx.animation.Timeline} per timer, {@link Timer#restart()}
+ * and {@link Timer#stop()} of a wheel's timer are O(1) and allocate nothing,
+ * which matters for operators that restart a timer on every event, such as
+ * {@link org.reactfx.EventStream#reduceSuccessions(java.util.function.BinaryOperator, Duration)}.
+ *
+ * <p>Time is divided into ticks; a timer fires on the first tick at which
+ * its delay has elapsed, so delays are rounded up to whole ticks. A timer
+ * with zero delay fires on the next tick, which for {@link #fx()} is the
+ * next JavaFX pulse. Pending
+ * timers are kept in buckets by their deadline tick, modulo the number of
+ * buckets; timers whose deadline is more than one revolution of the wheel
+ * away stay in their bucket until it comes around again. The wheel only
+ * receives ticks while some timer is pending.
+ *
+ * <p>Like all timers, the wheel and its timers may only be accessed from
+ * its associated thread, on which the timers' actions are executed.
+ */
+public final class TimingWheel {
+
+    interface Driver {
+        /**
+         * Starts calling {@link TimingWheel#advance()} on the wheel's thread
+         * at least once per tick.
+         */
+        void start(TimingWheel wheel);
+
+        void stop();
+    }
+
+    private static class Entry {
+        Entry prev;
+        Entry next;
+
+        boolean isLinked() {
+            return next != null;
+        }
+
+        void linkBefore(Entry e) {
+            prev = e.prev;
+            next = e;
+            prev.next = this;
+            e.prev = this;
+        }
+
+        void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+
+    private static Entry sentinel() {
+        Entry e = new Entry();
+        e.prev = e;
+        e.next = e;
+        return e;
+    }
+
+    private final class WheelTimer extends Entry implements Timer {
+        private final long delayTicks;
+        private final long periodTicks; // 0 for one-shot timers
+        private final Runnable action;
+        private long deadline;
+
+        WheelTimer(long delayTicks, long periodTicks, Runnable action) {
+            this.delayTicks = delayTicks;
+            this.periodTicks = periodTicks;
+            this.action = action;
+        }
+
+        @Override
+        public void restart() {
+            stop();
+            if(delayTicks == 0) {
+                scheduleNextTick(this);
+            } else {
+                schedule(this, Math.max(nowTick(), currentTick) + delayTicks);
+            }
+        }
+
+        @Override
+        public void stop() {
+            if(isLinked()) {
+                unlink();
+                --pending;
+            }
+        }
+
+        void fire() {
+            if(periodTicks > 0) {
+                deadline += periodTicks;
+                if(deadline <= currentTick) { // skip missed periods
+                    deadline = currentTick + periodTicks;
+                }
+                schedule(this, deadline);
+            }
+            action.run();
+        }
+    }
+
+    private static final class FxDriver extends AnimationTimer implements Driver {
+        private TimingWheel wheel;
+
+        @Override
+        public void start(TimingWheel wheel) {
+            this.wheel = wheel;
+            start();
+        }
+
+        @Override
+        public void handle(long now) {
+            wheel.advance();
+        }
+    }
+
+    private static final class ExecutorDriver implements Driver {
+        private final ScheduledExecutorService scheduler;
+        private final Executor eventThreadExecutor;
+        private final long tickNanos;
+        private Runnable tick = null;
+        private ScheduledFuture<?> future = null;
+
+        ExecutorDriver(
+                ScheduledExecutorService scheduler,
+                Executor eventThreadExecutor,
+                long tickNanos) {
+            this.scheduler = scheduler;
+            this.eventThreadExecutor = eventThreadExecutor;
+            this.tickNanos = tickNanos;
+        }
+
+        @Override
+        public void start(TimingWheel wheel) {
+            if(tick == null) {
+                Runnable advance = wheel::advance;
+                tick = () -> eventThreadExecutor.execute(advance);
+            }
+            future = scheduler.scheduleAtFixedRate(
+                    tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void stop() {
+            future.cancel(false);
+            future = null;
+        }
+    }
+
+    private static TimingWheel fxWheel = null;
+
+    /**
+     * Returns the timing wheel shared by all users on the JavaFX application
+     * thread. It has a resolution of 1 millisecond, but since it is driven
+     * by the JavaFX pulse, timers fire on the first pulse after their delay
+     * has elapsed, just like {@link FxTimer}s.
+     */
+    public static synchronized TimingWheel fx() {
+        if(fxWheel == null) {
+            fxWheel = new TimingWheel(
+                    TimeUnit.MILLISECONDS.toNanos(1), 1024,
+                    System::nanoTime, new FxDriver());
+        }
+        return fxWheel;
+    }
+
+    /**
+     * Creates a timing wheel whose timers execute on the thread of
+     * {@code eventThreadExecutor}. While some timer is pending,
+     * {@code scheduler} submits one task per {@code tick} to
+     * {@code eventThreadExecutor}.
+     *
+     * @param tick the resolution of the wheel.
+     * @param buckets number of buckets. Timers are spread among buckets by
+     * their deadline, so a wheel covers {@code buckets * tick} time in one
+     * revolution.
+     */
+    public static TimingWheel create(
+            Duration tick,
+            int buckets,
+            ScheduledExecutorService scheduler,
+            Executor eventThreadExecutor) {
+        long tickNanos = tick.toNanos();
+        return new TimingWheel(
+                tickNanos, buckets, System::nanoTime,
+                new ExecutorDriver(scheduler, eventThreadExecutor, tickNanos));
+    }
+
+    private final long tickNanos;
+    private final LongSupplier nanoTime;
+    private final Driver driver;
+    private final long origin;
+    private final Entry[] buckets;
+    private final int mask;
+    private final Entry expired = sentinel();
+    private final Entry nextTick = sentinel(); // timers with zero delay
+
+    private long currentTick = 0;
+    private int pending = 0; // number of linked timers
+    private boolean driving = false;
+
+    TimingWheel(long tickNanos, int buckets, LongSupplier nanoTime, Driver driver) {
+        if(tickNanos <= 0) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+        if(buckets <= 0) {
+            throw new IllegalArgumentException("buckets must be positive");
+        }
+        int n = Integer.highestOneBit(buckets);
+        if(n < buckets) {
+            n <<= 1; // round up to a power of 2
+        }
+        this.tickNanos = tickNanos;
+        this.nanoTime = nanoTime;
+        this.driver = driver;
+        this.origin = nanoTime.getAsLong();
+        this.buckets = new Entry[n];
+        for(int i = 0; i < n; ++i) {
+            this.buckets[i] = sentinel();
+        }
+        this.mask = n - 1;
+    }
+
+    /**
+     * Prepares a (stopped) timer that executes {@code action} when
+     * {@code delay} has elapsed after each {@link Timer#restart()}.
+     */
+    public Timer create(Duration delay, Runnable action) {
+        return new WheelTimer(toTicks(delay), 0, action);
+    }
+
+    /**
+     * Equivalent to {@code create(delay, action).restart()}.
+     */
+    public Timer runLater(Duration delay, Runnable action) {
+        Timer timer = create(delay, action);
+        timer.restart();
+        return timer;
+    }
+
+    /**
+     * Prepares a (stopped) timer that executes {@code action} periodically,
+     * at the end of each {@code interval}.
+     */
+    public Timer createPeriodic(Duration interval, Runnable action) {
+        long ticks = Math.max(1, toTicks(interval));
+        return new WheelTimer(ticks, ticks, action);
+    }
+
+    /**
+     * Fires all timers whose deadline has passed. Called by the driver.
+     */
+    void advance() {
+        if(!driving) {
+            return; // stale tick submitted before the driver stopped
+        }
+
+        long target = nowTick();
+        long steps = Math.min(target - currentTick, buckets.length);
+        for(long i = 1; i <= steps; ++i) {
+            collectExpired(buckets[(int) (currentTick + i) & mask], target);
+        }
+        currentTick = Math.max(currentTick, target);
+
+        // timers restarted with zero delay by the actions below
+        // wait for the next tick
+        while(nextTick.next != nextTick) {
+            Entry e = nextTick.next;
+            e.unlink();
+            e.linkBefore(expired);
+        }
+
+        while(expired.next != expired) {
+            WheelTimer timer = (WheelTimer) expired.next;
+            timer.unlink();
+            --pending;
+            timer.fire();
+        }
+
+        if(pending == 0) {
+            driving = false;
+            driver.stop();
+        }
+    }
+
+    private void collectExpired(Entry bucket, long target) {
+        Entry e = bucket.next;
+        while(e != bucket) {
+            Entry next = e.next;
+            if(((WheelTimer) e).deadline <= target) {
+                e.unlink();
+                e.linkBefore(expired);
+            }
+            e = next;
+        }
+    }
+
+    private void schedule(WheelTimer timer, long deadline) {
+        ensureDriving();
+        timer.deadline = deadline;
+        timer.linkBefore(buckets[(int) deadline & mask]);
+        ++pending;
+    }
+
+    private void scheduleNextTick(WheelTimer timer) {
+        ensureDriving();
+        timer.deadline = currentTick;
+        timer.linkBefore(nextTick);
+        ++pending;
+    }
+
+    private void ensureDriving() {
+        if(!driving) {
+            currentTick = Math.max(currentTick, nowTick());
+            driving = true;
+            driver.start(this);
+        }
+    }
+
+    private long nowTick() {
+        return (nanoTime.getAsLong() - origin) / tickNanos;
+    }
+
+    private long toTicks(Duration duration) {
+        long nanos = duration.toNanos();
+        return nanos <= 0 ? 0 : (nanos + tickNanos - 1) / tickNanos;
+    }
+}
@@ -0,0 +1,157 @@
+package org.reactfx.util;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.TreeSet;
+
+/**
+ * {@link Scheduler} with a virtual clock that stands still until it is
+ * advanced by {@link #advanceBy(Duration)} or {@link #advanceTo(long)}.
+ * Advancing the clock executes, on the calling thread, the actions of all
+ * timers that become due, in the order of their deadlines, with the clock
+ * set to each timer's deadline while its action runs. Hours of virtual time
+ * thus pass as fast as the actions can be executed, which makes it possible
+ * to test time-based pipelines deterministically and headlessly:
+ *
+ * <pre>
+ * {@code
+ * VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+ * EventSource<Integer> source = new EventSource<>();
+ * List<Integer> emitted = new ArrayList<>();
+ * source.successionEnds(Duration.ofMillis(100), scheduler).subscribe(emitted::add);
+ *
+ * source.push(1);
+ * scheduler.advanceBy(Duration.ofMillis(50));
+ * source.push(2);
+ * scheduler.advanceBy(Duration.ofMillis(100));
+ * // emitted is [2]
+ * }
+ * </pre>
+ *
+ * <p>This class is not thread-safe; it is meant to be used from a single
+ * thread, which becomes the associated thread of all its timers.
+ */
+public final class VirtualTimeScheduler implements Scheduler {
+
+    private final class VirtualTimer implements Timer {
+        private final long delay;
+        private final long period; // 0 for one-shot timers
+        private final Runnable action;
+        private long deadline;
+        private long seq;
+        private boolean scheduled = false;
+
+        VirtualTimer(Duration delay, Duration period, Runnable action) {
+            this.delay = delay.toNanos();
+            this.period = period.toNanos();
+            this.action = action;
+        }
+
+        @Override
+        public void restart() {
+            stop();
+            schedule(this, now + delay);
+        }
+
+        @Override
+        public void stop() {
+            if(scheduled) {
+                queue.remove(this);
+                scheduled = false;
+            }
+        }
+    }
+
+    private final TreeSet<VirtualTimer> queue = new TreeSet<>(
+            Comparator.<VirtualTimer>comparingLong(t -> t.deadline)
+                    .thenComparingLong(t -> t.seq));
+
+    private long now;
+    private long nextSeq = 0;
+
+    /**
+     * Creates a scheduler whose clock starts at 0.
+     */
+    public VirtualTimeScheduler() {
+        this(0);
+    }
+
+    /**
+     * Creates a scheduler whose clock starts at {@code startNanos}.
+     */
+    public VirtualTimeScheduler(long startNanos) {
+        this.now = startNanos;
+    }
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    @Override
+    public Timer createTimer(Duration delay, Runnable action) {
+        return new VirtualTimer(delay, Duration.ZERO, action);
+    }
+
+    @Override
+    public Timer createPeriodicTimer(Duration interval, Runnable action) {
+        if(interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("interval must be positive: " + interval);
+        }
+        return new VirtualTimer(interval, interval, action);
+    }
+
+    /**
+     * Returns the number of timers that are currently scheduled.
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Advances the clock by {@code duration}, executing the actions of all
+     * timers that become due, including those scheduled by the actions.
+     */
+    public void advanceBy(Duration duration) {
+        if(duration.isNegative()) {
+            throw new IllegalArgumentException("Cannot go back in time: " + duration);
+        }
+        advanceTo(now + duration.toNanos());
+    }
+
+    /**
+     * Advances the clock to {@code nanos}, executing the actions of all
+     * timers that become due, including those scheduled by the actions.
+     */
+    public void advanceTo(long nanos) {
+        if(nanos < now) {
+            throw new IllegalArgumentException(
+                    "Cannot go back in time from " + now + " to " + nanos);
+        }
+        while(!queue.isEmpty() && queue.first().deadline <= nanos) {
+            VirtualTimer timer = queue.pollFirst();
+            timer.scheduled = false;
+            now = timer.deadline;
+            if(timer.period > 0) {
+                schedule(timer, timer.deadline + timer.period);
+            }
+            timer.action.run();
+        }
+        now = nanos;
+    }
+
+    /**
+     * Executes the actions of the timers that are due at the current time,
+     * such as those restarted with a zero delay.
+     */
+    public void runDue() {
+        advanceTo(now);
+    }
+
+    private void schedule(VirtualTimer timer, long deadline) {
+        timer.deadline = deadline;
+        timer.seq = nextSeq++;
+        timer.scheduled = true;
+        queue.add(timer);
+    }
+}
@@ -0,0 +1,63 @@
+package org.reactfx.value;
+
+import static javafx.animation.Interpolator.*;
+
+import java.time.Duration;
+
+import javafx.animation.Transition;
+
+import org.reactfx.Subscription;
+
+class AnimatedDoubleVal extends DoubleValBase {
+    private final class FractionTransition extends Transition {
+
+        @Override
+        protected void interpolate(double frac) {
+            fraction = frac;
+            invalidate();
+        }
+
+        void setDuration(Duration d) {
+            setCycleDuration(javafx.util.Duration.millis(d.toMillis()));
+        }
+    }
+
+    private final DoubleVal src;
+    private final FractionTransition transition = new FractionTransition();
+
+    private double fraction = 1.0;
+    private double oldValue = 0.0;
+    private double targetValue = 0.0;
+
+    AnimatedDoubleVal(DoubleVal src, Duration duration) {
+        this.src = src;
+        transition.setDuration(duration);
+    }
+
+    @Override
+    protected Subscription connect() {
+        oldValue = targetValue = src.getAsDouble();
+        // ignores the invalidated value, so that src does not box it
+        ValueIgnoringObserver<Double> observer = oldVal -> {
+            double newValue = src.getAsDouble();
+            if(Double.compare(newValue, targetValue) != 0) {
+                oldValue = getAsDouble();
+                targetValue = newValue;
+                transition.playFromStart();
+            }
+        };
+        return src.observeInvalidations(observer).and(() -> {
+            // skip to the end of a running animation, so that its timer
+            // does not keep running after the last observer is gone
+            transition.stop();
+            fraction = 1.0;
+        });
+    }
+
+    @Override
+    protected double computeValue() {
+        return fraction == 1.0
+                ? src.getAsDouble()
+                : LINEAR.interpolate(oldValue, targetValue, fraction);
+    }
+}
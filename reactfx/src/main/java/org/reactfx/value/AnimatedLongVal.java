@@ -0,0 +1,63 @@
+package org.reactfx.value;
+
+import static javafx.animation.Interpolator.*;
+
+import java.time.Duration;
+
+import javafx.animation.Transition;
+
+import org.reactfx.Subscription;
+
+class AnimatedLongVal extends LongValBase {
+    private final class FractionTransition extends Transition {
+
+        @Override
+        protected void interpolate(double frac) {
+            fraction = frac;
+            invalidate();
+        }
+
+        void setDuration(Duration d) {
+            setCycleDuration(javafx.util.Duration.millis(d.toMillis()));
+        }
+    }
+
+    private final LongVal src;
+    private final FractionTransition transition = new FractionTransition();
+
+    private double fraction = 1.0;
+    private long oldValue = 0L;
+    private long targetValue = 0L;
+
+    AnimatedLongVal(LongVal src, Duration duration) {
+        this.src = src;
+        transition.setDuration(duration);
+    }
+
+    @Override
+    protected Subscription connect() {
+        oldValue = targetValue = src.getAsLong();
+        // ignores the invalidated value, so that src does not box it
+        ValueIgnoringObserver<Long> observer = oldVal -> {
+            long newValue = src.getAsLong();
+            if(Long.compare(newValue, targetValue) != 0) {
+                oldValue = getAsLong();
+                targetValue = newValue;
+                transition.playFromStart();
+            }
+        };
+        return src.observeInvalidations(observer).and(() -> {
+            // skip to the end of a running animation, so that its timer
+            // does not keep running after the last observer is gone
+            transition.stop();
+            fraction = 1.0;
+        });
+    }
+
+    @Override
+    protected long computeValue() {
+        return fraction == 1.0
+                ? src.getAsLong()
+                : LINEAR.interpolate(oldValue, targetValue, fraction);
+    }
+}
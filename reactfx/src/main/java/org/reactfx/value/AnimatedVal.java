@@ -8,9 +8,17 @@ import javafx.beans.value.ObservableValue;
 
 import org.reactfx.Subscription;
 import org.reactfx.util.Interpolator;
+import org.reactfx.util.Scheduler;
+import org.reactfx.util.Timer;
 
 class AnimatedVal<T> extends ValBase<T> {
-    private final class FractionTransition extends Transition {
+
+    private interface Animation {
+        void playFromStart(Duration duration);
+        void stop();
+    }
+
+    private final class FractionTransition extends Transition implements Animation {
 
         @Override
         protected void interpolate(double frac) {
@@ -18,15 +26,60 @@ class AnimatedVal<T> extends ValBase<T> {
             invalidate();
         }
 
-        void setDuration(Duration d) {
+        @Override
+        public void playFromStart(Duration d) {
             setCycleDuration(javafx.util.Duration.millis(d.toMillis()));
+            playFromStart();
         }
     }
 
+    /**
+     * Animation driven by a {@link Scheduler}, which updates the fraction on
+     * each frame from the scheduler's clock.
+     */
+    private final class ScheduledAnimation implements Animation {
+        private final Scheduler scheduler;
+        private final Timer frames;
+        private long start;
+        private long durationNanos;
+
+        ScheduledAnimation(Scheduler scheduler) {
+            this.scheduler = scheduler;
+            this.frames = scheduler.createPeriodicTimer(FRAME, this::frame);
+        }
+
+        @Override
+        public void playFromStart(Duration d) {
+            start = scheduler.nanoTime();
+            durationNanos = d.toNanos();
+            fraction = 0.0;
+            invalidate();
+            frames.restart();
+        }
+
+        @Override
+        public void stop() {
+            frames.stop();
+        }
+
+        private void frame() {
+            long elapsed = scheduler.nanoTime() - start;
+            if(elapsed >= durationNanos) {
+                fraction = 1.0;
+                frames.stop();
+            } else {
+                fraction = (double) elapsed / durationNanos;
+            }
+            invalidate();
+        }
+    }
+
+    private static final Duration FRAME = Duration.ofNanos(1_000_000_000L / 60);
+
     private final ObservableValue<T> src;
     private final BiFunction<? super T, ? super T, Duration> duration;
     private final Interpolator<T> interpolator;
-    private final FractionTransition transition = new FractionTransition();
+    private final Animation animation;
 
     private double fraction = 1.0;
     private T oldValue = null;
@@ -38,6 +91,18 @@ class AnimatedVal<T> extends ValBase<T> {
         this.src = src;
         this.duration = duration;
         this.interpolator = interpolator;
+        this.animation = new FractionTransition();
+    }
+
+    AnimatedVal(
+            ObservableValue<T> src,
+            BiFunction<? super T, ? super T, Duration> duration,
+            Interpolator<T> interpolator,
+            Scheduler scheduler) {
+        this.src = src;
+        this.duration = duration;
+        this.interpolator = interpolator;
+        this.animation = new ScheduledAnimation(scheduler);
     }
 
     @Override
@@ -45,9 +110,12 @@ class AnimatedVal<T> extends ValBase<T> {
         oldValue = src.getValue();
         return Val.observeChanges(src, (obs, oldVal, newVal) -> {
             oldValue = getValue();
-            Duration d = duration.apply(oldValue, newVal);
-            transition.setDuration(d);
-            transition.playFromStart();
+            animation.playFromStart(duration.apply(oldValue, newVal));
+        }).and(() -> {
+            // skip to the end of a running animation, so that its timer
+            // does not keep running after the last observer is gone
+            animation.stop();
+            fraction = 1.0;
         });
     }
 
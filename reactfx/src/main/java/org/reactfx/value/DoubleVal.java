@@ -0,0 +1,140 @@
+package org.reactfx.value;
+
+import java.time.Duration;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableDoubleValue;
+
+import org.reactfx.Subscription;
+
+/**
+ * Observable {@code double} value. This is a primitive specialization of
+ * {@link Val}: the value can be obtained by {@link #getAsDouble()}, and
+ * {@linkplain DoubleVal}s derived by the methods of this interface compute
+ * their values, without boxing. The boxed {@link #getValue()} and the
+ * operations inherited from {@linkplain Val} remain available.
+ *
+ * <p>Like other {@linkplain Val}s, primitive values are lazily bound
+ * to their inputs, i.e. they observe their inputs only while they are
+ * themselves observed.
+ *
+ * @see DoubleValBase
+ * @see DoubleVar
+ */
+public interface DoubleVal extends Val<Double>, DoubleSupplier {
+
+    /**
+     * Returns a {@linkplain DoubleVal} that holds the result of applying
+     * the given function to the value of this {@linkplain DoubleVal}.
+     */
+    default DoubleVal mapToDouble(DoubleUnaryOperator f) {
+        return create(() -> f.applyAsDouble(getAsDouble()), this);
+    }
+
+    /**
+     * Returns a {@linkplain IntVal} that holds the result of applying
+     * the given function to the value of this {@linkplain DoubleVal}.
+     */
+    default IntVal mapToInt(DoubleToIntFunction f) {
+        return IntVal.create(() -> f.applyAsInt(getAsDouble()), this);
+    }
+
+    /**
+     * Returns a {@linkplain LongVal} that holds the result of applying
+     * the given function to the value of this {@linkplain DoubleVal}.
+     */
+    default LongVal mapToLong(DoubleToLongFunction f) {
+        return LongVal.create(() -> f.applyAsLong(getAsDouble()), this);
+    }
+
+    /**
+     * Like {@link #map(java.util.function.Function)}, but the value of this
+     * {@linkplain DoubleVal} is passed to {@code f} unboxed.
+     */
+    default <U> Val<U> mapToObj(DoubleFunction<? extends U> f) {
+        return Val.create(() -> f.apply(getAsDouble()), this);
+    }
+
+    /**
+     * Returns a new {@linkplain DoubleVal} that gradually transitions to the
+     * value of this {@linkplain DoubleVal} every time this
+     * {@linkplain DoubleVal} changes, using linear interpolation.
+     *
+     * <p>As with {@link #animate(Duration, org.reactfx.util.Interpolator)},
+     * there is no animation running when the returned {@linkplain DoubleVal}
+     * has no observer.
+     *
+     * @param duration the desired duration of the transition
+     */
+    default DoubleVal animate(Duration duration) {
+        return new AnimatedDoubleVal(this, duration);
+    }
+
+    /**
+     * Creates a {@linkplain DoubleVal} whose value is computed by
+     * {@code computeValue} and that is invalidated whenever any of the
+     * {@code dependencies} is invalidated.
+     */
+    static DoubleVal create(
+            DoubleSupplier computeValue,
+            javafx.beans.Observable... dependencies) {
+        return new DoubleValBase() {
+
+            @Override
+            protected Subscription connect() {
+                InvalidationListener listener = obs -> invalidate();
+                for(javafx.beans.Observable dep: dependencies) {
+                    dep.addListener(listener);
+                }
+
+                return () -> {
+                    for(javafx.beans.Observable dep: dependencies) {
+                        dep.removeListener(listener);
+                    }
+                };
+            }
+
+            @Override
+            protected double computeValue() {
+                return computeValue.getAsDouble();
+            }
+        };
+    }
+
+    /**
+     * Returns a {@linkplain DoubleVal} that holds the result of applying
+     * {@code f} to the values of {@code src1} and {@code src2}. Unlike
+     * {@link Val#combine(javafx.beans.value.ObservableValue,
+     * javafx.beans.value.ObservableValue, java.util.function.BiFunction)},
+     * the operands are neither boxed nor null-checked on recomputation.
+     */
+    static DoubleVal combine(
+            DoubleVal src1,
+            DoubleVal src2,
+            DoubleBinaryOperator f) {
+        return create(
+                () -> f.applyAsDouble(src1.getAsDouble(), src2.getAsDouble()),
+                src1, src2);
+    }
+
+    /**
+     * Wraps the JavaFX {@code double} value, so that its value can be
+     * accessed and derived from without boxing.
+     */
+    static DoubleVal wrap(ObservableDoubleValue obs) {
+        return create(obs::get, obs);
+    }
+
+    /**
+     * Returns a constant {@linkplain DoubleVal} that holds the given value.
+     */
+    static DoubleVal constant(double value) {
+        return create(() -> value);
+    }
+}
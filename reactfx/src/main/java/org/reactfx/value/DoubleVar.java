@@ -0,0 +1,17 @@
+package org.reactfx.value;
+
+/**
+ * Writable {@code double} value, primitive specialization of {@link Var}.
+ */
+public interface DoubleVar extends DoubleVal, Var<Double> {
+
+    static DoubleVar newSimpleVar(double initialValue) {
+        return new SimpleDoubleVar(initialValue);
+    }
+
+    /**
+     * Sets the value without boxing. Setting a {@code null} value via
+     * {@link #setValue(Object)} is equivalent to setting {@code 0.0}.
+     */
+    void set(double value);
+}
@@ -0,0 +1,203 @@
+package org.reactfx.value;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.reactfx.Guard;
+import org.reactfx.Subscription;
+
+/**
+ * Opt-in glitch-free propagation of invalidations through graphs of
+ * {@linkplain Val}s.
+ *
+ * <p>By default, {@link ValBase#invalidate()} notifies observers immediately,
+ * depth-first. When a value depends on a source via multiple paths
+ * (a <em>diamond</em>), such as
+ * {@code Val.combine(src.map(f), src.map(g), h)}, a change of the source
+ * notifies observers of the combined value once per path, and the first
+ * notification happens while only some of the paths have been invalidated,
+ * so the observer may see an inconsistent intermediate value.
+ *
+ * <p>While glitch-free propagation is enabled, each value is assigned a
+ * <em>rank</em> greater than the ranks of its inputs. Invalidating a value
+ * marks it invalid right away, but only schedules the notification of its
+ * observers. Scheduled notifications are then delivered in the order of
+ * increasing rank, once per source change. By the time observers of a value
+ * are notified, all values between it and the source have been invalidated,
+ * so each derived value is recomputed at most once and never from stale
+ * inputs.
+ *
+ * <p>Ranks are assigned when a value starts observing its inputs, and are
+ * refined as invalidations propagate. A value whose inputs change
+ * dynamically (such as one returned by {@link Val#flatMap}), or that was
+ * already observing its inputs when glitch-free propagation was enabled,
+ * may therefore be notified redundantly before its rank settles.
+ *
+ * <p>This applies to {@link ValBase} and its primitive counterparts, such as
+ * {@link DoubleValBase}. Glitch-free propagation is enabled per thread, and
+ * the scheduled notifications are kept per thread, so that values used on
+ * different threads do not interfere. A value and all values it depends on
+ * must still be used from a single thread, like the rest of ReactFX.
+ */
+public final class GlitchFreePropagation {
+
+    private static final class State {
+        final PriorityQueue<PropagationNode> queue = new PriorityQueue<>(
+                Comparator.<PropagationNode>comparingInt(n -> n.rank)
+                        .thenComparingLong(n -> n.seq));
+
+        int enablers = 0;
+        long nextSeq = 0;
+
+        // node whose observers are being notified
+        PropagationNode current = null;
+
+        // node that is starting to observe its inputs
+        PropagationNode connecting = null;
+    }
+
+    private static final ThreadLocal<State> STATE =
+            ThreadLocal.withInitial(State::new);
+
+    // number of threads that have glitch-free propagation enabled,
+    // so that isEnabled() does not hit the thread-local when there are none
+    private static final AtomicInteger ENABLED_THREADS = new AtomicInteger();
+
+    private GlitchFreePropagation() {}
+
+    /**
+     * Enables glitch-free propagation on the current thread until the
+     * returned guard is closed. Calls can be nested; glitch-free propagation
+     * is disabled when all the returned guards have been closed. The guard
+     * has to be closed on the thread that obtained it.
+     */
+    public static Guard enable() {
+        State state = STATE.get();
+        if(state.enablers++ == 0) {
+            ENABLED_THREADS.incrementAndGet();
+        }
+        return ((Guard) () -> {
+            if(--state.enablers == 0) {
+                ENABLED_THREADS.decrementAndGet();
+            }
+        }).closeableOnce();
+    }
+
+    /**
+     * Runs the given action with glitch-free propagation enabled on the
+     * current thread.
+     */
+    public static void runGlitchFree(Runnable action) {
+        try(Guard g = enable()) {
+            action.run();
+        }
+    }
+
+    /**
+     * Returns whether glitch-free propagation is enabled on the current
+     * thread.
+     */
+    public static boolean isEnabled() {
+        return ENABLED_THREADS.get() > 0 && STATE.get().enablers > 0;
+    }
+
+    /**
+     * Calls {@code connect} with {@code node} registered as the node being
+     * connected, so that the inputs it starts observing can raise its rank.
+     */
+    static Subscription connect(
+            PropagationNode node,
+            Supplier<Subscription> connect) {
+        State state = STATE.get();
+        PropagationNode outer = state.connecting;
+        state.connecting = node;
+        try {
+            return connect.get();
+        } finally {
+            state.connecting = outer;
+        }
+    }
+
+    /**
+     * Called when an observer is added to {@code input}.
+     */
+    static void observerAdded(PropagationNode input) {
+        State state = STATE.get();
+        if(state.connecting != null && state.connecting != input) {
+            rankAbove(state, state.connecting, input);
+        }
+    }
+
+    /**
+     * Called when {@code node} is invalidated, regardless of whether it has
+     * already been invalid.
+     */
+    static void invalidated(PropagationNode node) {
+        State state = STATE.get();
+        if(state.current != null && state.current != node) {
+            rankAbove(state, node, state.current);
+        }
+    }
+
+    /**
+     * Schedules notification of the observers of {@code node}. If no
+     * propagation is in progress, delivers the scheduled notifications.
+     */
+    static void schedule(PropagationNode node) {
+        State state = STATE.get();
+        if(!node.scheduled) {
+            node.scheduled = true;
+            node.seq = state.nextSeq++;
+            state.queue.add(node);
+        }
+        if(state.current == null) {
+            flush(state);
+        }
+    }
+
+    private static void flush(State state) {
+        try {
+            while((state.current = state.queue.poll()) != null) {
+                state.current.scheduled = false;
+                state.current.notifyScheduled(); // may throw
+            }
+        } finally {
+            state.current = null;
+            for(PropagationNode node: state.queue) {
+                node.scheduled = false;
+            }
+            state.queue.clear();
+        }
+    }
+
+    private static void rankAbove(
+            State state,
+            PropagationNode node,
+            PropagationNode input) {
+        if(node.rank <= input.rank) {
+            if(node.scheduled) {
+                state.queue.remove(node);
+                node.rank = input.rank + 1;
+                state.queue.add(node);
+            } else {
+                node.rank = input.rank + 1;
+            }
+        }
+    }
+}
+
+/**
+ * Per-value state of glitch-free propagation.
+ */
+abstract class PropagationNode {
+    int rank = 0;
+    long seq;
+    boolean scheduled = false;
+
+    /**
+     * Notifies observers of the invalidation that has been scheduled.
+     */
+    abstract void notifyScheduled();
+}
@@ -0,0 +1,140 @@
+package org.reactfx.value;
+
+import java.time.Duration;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableIntegerValue;
+
+import org.reactfx.Subscription;
+
+/**
+ * Observable {@code int} value. This is a primitive specialization of
+ * {@link Val}: the value can be obtained by {@link #getAsInt()}, and
+ * {@linkplain IntVal}s derived by the methods of this interface compute
+ * their values, without boxing. The boxed {@link #getValue()} and the
+ * operations inherited from {@linkplain Val} remain available.
+ *
+ * <p>Like other {@linkplain Val}s, primitive values are lazily bound
+ * to their inputs, i.e. they observe their inputs only while they are
+ * themselves observed.
+ *
+ * @see IntValBase
+ * @see IntVar
+ */
+public interface IntVal extends Val<Integer>, IntSupplier {
+
+    /**
+     * Returns a {@linkplain IntVal} that holds the result of applying
+     * the given function to the value of this {@linkplain IntVal}.
+     */
+    default IntVal mapToInt(IntUnaryOperator f) {
+        return create(() -> f.applyAsInt(getAsInt()), this);
+    }
+
+    /**
+     * Returns a {@linkplain LongVal} that holds the result of applying
+     * the given function to the value of this {@linkplain IntVal}.
+     */
+    default LongVal mapToLong(IntToLongFunction f) {
+        return LongVal.create(() -> f.applyAsLong(getAsInt()), this);
+    }
+
+    /**
+     * Returns a {@linkplain DoubleVal} that holds the result of applying
+     * the given function to the value of this {@linkplain IntVal}.
+     */
+    default DoubleVal mapToDouble(IntToDoubleFunction f) {
+        return DoubleVal.create(() -> f.applyAsDouble(getAsInt()), this);
+    }
+
+    /**
+     * Like {@link #map(java.util.function.Function)}, but the value of this
+     * {@linkplain IntVal} is passed to {@code f} unboxed.
+     */
+    default <U> Val<U> mapToObj(IntFunction<? extends U> f) {
+        return Val.create(() -> f.apply(getAsInt()), this);
+    }
+
+    /**
+     * Returns a new {@linkplain IntVal} that gradually transitions to the
+     * value of this {@linkplain IntVal} every time this
+     * {@linkplain IntVal} changes, using linear interpolation.
+     *
+     * <p>As with {@link #animate(Duration, org.reactfx.util.Interpolator)},
+     * there is no animation running when the returned {@linkplain IntVal}
+     * has no observer.
+     *
+     * @param duration the desired duration of the transition
+     */
+    default IntVal animate(Duration duration) {
+        return new AnimatedIntVal(this, duration);
+    }
+
+    /**
+     * Creates a {@linkplain IntVal} whose value is computed by
+     * {@code computeValue} and that is invalidated whenever any of the
+     * {@code dependencies} is invalidated.
+     */
+    static IntVal create(
+            IntSupplier computeValue,
+            javafx.beans.Observable... dependencies) {
+        return new IntValBase() {
+
+            @Override
+            protected Subscription connect() {
+                InvalidationListener listener = obs -> invalidate();
+                for(javafx.beans.Observable dep: dependencies) {
+                    dep.addListener(listener);
+                }
+
+                return () -> {
+                    for(javafx.beans.Observable dep: dependencies) {
+                        dep.removeListener(listener);
+                    }
+                };
+            }
+
+            @Override
+            protected int computeValue() {
+                return computeValue.getAsInt();
+            }
+        };
+    }
+
+    /**
+     * Returns a {@linkplain IntVal} that holds the result of applying
+     * {@code f} to the values of {@code src1} and {@code src2}. Unlike
+     * {@link Val#combine(javafx.beans.value.ObservableValue,
+     * javafx.beans.value.ObservableValue, java.util.function.BiFunction)},
+     * the operands are neither boxed nor null-checked on recomputation.
+     */
+    static IntVal combine(
+            IntVal src1,
+            IntVal src2,
+            IntBinaryOperator f) {
+        return create(
+                () -> f.applyAsInt(src1.getAsInt(), src2.getAsInt()),
+                src1, src2);
+    }
+
+    /**
+     * Wraps the JavaFX {@code int} value, so that its value can be
+     * accessed and derived from without boxing.
+     */
+    static IntVal wrap(ObservableIntegerValue obs) {
+        return create(obs::get, obs);
+    }
+
+    /**
+     * Returns a constant {@linkplain IntVal} that holds the given value.
+     */
+    static IntVal constant(int value) {
+        return create(() -> value);
+    }
+}
@@ -0,0 +1,114 @@
+package org.reactfx.value;
+
+import java.util.function.Consumer;
+
+import org.reactfx.ObservableBase;
+import org.reactfx.Subscription;
+
+/**
+ * Base class for {@code int} values, counterpart of {@link ValBase}.
+ * The value is cached unboxed.
+ *
+ * <p>Invalidation observers are passed the invalidated value, as with any
+ * {@linkplain Val}. However, the value is boxed only if there is an observer
+ * that uses it. Observers that merely react to the invalidation, namely
+ * {@linkplain javafx.beans.InvalidationListener}s and the values derived by
+ * the methods of {@link IntVal}, are passed {@code null} instead.
+ */
+public abstract class IntValBase
+extends ObservableBase<Consumer<? super Integer>, Integer>
+implements ProperVal<Integer>, IntVal {
+    private boolean valid = false; // irrelevant when not isObservingInputs()
+    private int value = 0;
+
+    // number of observers that use the invalidated value
+    private int valueObservers = 0;
+
+    // created on first use by glitch-free propagation
+    private Node node = null;
+
+    @Override
+    public final int getAsInt() {
+        if(!valid || !isObservingInputs()) {
+            value = computeValue();
+            valid = true;
+        }
+        return value;
+    }
+
+    @Override
+    public final Integer getValue() {
+        return getAsInt();
+    }
+
+    @Override
+    protected final Subscription observeInputs() {
+        valid = false;
+        return GlitchFreePropagation.isEnabled()
+                ? GlitchFreePropagation.connect(node(), this::connect)
+                : connect();
+    }
+
+    protected final void invalidate() {
+        if(GlitchFreePropagation.isEnabled()) {
+            Node node = node();
+            GlitchFreePropagation.invalidated(node);
+            if(valid) {
+                valid = false;
+                if(!node.scheduled) {
+                    node.oldValue = valueObservers > 0 ? Integer.valueOf(value) : null;
+                }
+                GlitchFreePropagation.schedule(node);
+            }
+        } else if(valid) {
+            valid = false;
+            notifyObservers(valueObservers > 0 ? Integer.valueOf(value) : null);
+        }
+    }
+
+    @Override
+    protected final void newObserver(Consumer<? super Integer> oldValueObserver) {
+        if(!(oldValueObserver instanceof ValueIgnoringObserver)) {
+            ++valueObservers;
+        }
+
+        // make sure the current value is valid, so that the observer
+        // does not miss any invalidations or changes
+        getAsInt();
+
+        if(GlitchFreePropagation.isEnabled()) {
+            GlitchFreePropagation.observerAdded(node());
+        }
+    }
+
+    private Node node() {
+        if(node == null) {
+            node = new Node();
+        }
+        return node;
+    }
+
+    @Override
+    protected final void observerRemoved(Consumer<? super Integer> oldValueObserver) {
+        if(!(oldValueObserver instanceof ValueIgnoringObserver)) {
+            --valueObservers;
+        }
+    }
+
+    /**
+     * See {@link ValBase#connect()}.
+     */
+    protected abstract Subscription connect();
+    protected abstract int computeValue();
+
+    private final class Node extends PropagationNode {
+        private Integer oldValue = null;
+
+        @Override
+        void notifyScheduled() {
+            Integer old = oldValue;
+            oldValue = null;
+            notifyObservers(old);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.reactfx.value;
+
+/**
+ * Writable {@code int} value, primitive specialization of {@link Var}.
+ */
+public interface IntVar extends IntVal, Var<Integer> {
+
+    static IntVar newSimpleVar(int initialValue) {
+        return new SimpleIntVar(initialValue);
+    }
+
+    /**
+     * Sets the value without boxing. Setting a {@code null} value via
+     * {@link #setValue(Object)} is equivalent to setting {@code 0}.
+     */
+    void set(int value);
+}
@@ -0,0 +1,140 @@
+package org.reactfx.value;
+
+import java.time.Duration;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableLongValue;
+
+import org.reactfx.Subscription;
+
+/**
+ * Observable {@code long} value. This is a primitive specialization of
+ * {@link Val}: the value can be obtained by {@link #getAsLong()}, and
+ * {@linkplain LongVal}s derived by the methods of this interface compute
+ * their values, without boxing. The boxed {@link #getValue()} and the
+ * operations inherited from {@linkplain Val} remain available.
+ *
+ * <p>Like other {@linkplain Val}s, primitive values are lazily bound
+ * to their inputs, i.e. they observe their inputs only while they are
+ * themselves observed.
+ *
+ * @see LongValBase
+ * @see LongVar
+ */
+public interface LongVal extends Val<Long>, LongSupplier {
+
+    /**
+     * Returns a {@linkplain LongVal} that holds the result of applying
+     * the given function to the value of this {@linkplain LongVal}.
+     */
+    default LongVal mapToLong(LongUnaryOperator f) {
+        return create(() -> f.applyAsLong(getAsLong()), this);
+    }
+
+    /**
+     * Returns a {@linkplain IntVal} that holds the result of applying
+     * the given function to the value of this {@linkplain LongVal}.
+     */
+    default IntVal mapToInt(LongToIntFunction f) {
+        return IntVal.create(() -> f.applyAsInt(getAsLong()), this);
+    }
+
+    /**
+     * Returns a {@linkplain DoubleVal} that holds the result of applying
+     * the given function to the value of this {@linkplain LongVal}.
+     */
+    default DoubleVal mapToDouble(LongToDoubleFunction f) {
+        return DoubleVal.create(() -> f.applyAsDouble(getAsLong()), this);
+    }
+
+    /**
+     * Like {@link #map(java.util.function.Function)}, but the value of this
+     * {@linkplain LongVal} is passed to {@code f} unboxed.
+     */
+    default <U> Val<U> mapToObj(LongFunction<? extends U> f) {
+        return Val.create(() -> f.apply(getAsLong()), this);
+    }
+
+    /**
+     * Returns a new {@linkplain LongVal} that gradually transitions to the
+     * value of this {@linkplain LongVal} every time this
+     * {@linkplain LongVal} changes, using linear interpolation.
+     *
+     * <p>As with {@link #animate(Duration, org.reactfx.util.Interpolator)},
+     * there is no animation running when the returned {@linkplain LongVal}
+     * has no observer.
+     *
+     * @param duration the desired duration of the transition
+     */
+    default LongVal animate(Duration duration) {
+        return new AnimatedLongVal(this, duration);
+    }
+
+    /**
+     * Creates a {@linkplain LongVal} whose value is computed by
+     * {@code computeValue} and that is invalidated whenever any of the
+     * {@code dependencies} is invalidated.
+     */
+    static LongVal create(
+            LongSupplier computeValue,
+            javafx.beans.Observable... dependencies) {
+        return new LongValBase() {
+
+            @Override
+            protected Subscription connect() {
+                InvalidationListener listener = obs -> invalidate();
+                for(javafx.beans.Observable dep: dependencies) {
+                    dep.addListener(listener);
+                }
+
+                return () -> {
+                    for(javafx.beans.Observable dep: dependencies) {
+                        dep.removeListener(listener);
+                    }
+                };
+            }
+
+            @Override
+            protected long computeValue() {
+                return computeValue.getAsLong();
+            }
+        };
+    }
+
+    /**
+     * Returns a {@linkplain LongVal} that holds the result of applying
+     * {@code f} to the values of {@code src1} and {@code src2}. Unlike
+     * {@link Val#combine(javafx.beans.value.ObservableValue,
+     * javafx.beans.value.ObservableValue, java.util.function.BiFunction)},
+     * the operands are neither boxed nor null-checked on recomputation.
+     */
+    static LongVal combine(
+            LongVal src1,
+            LongVal src2,
+            LongBinaryOperator f) {
+        return create(
+                () -> f.applyAsLong(src1.getAsLong(), src2.getAsLong()),
+                src1, src2);
+    }
+
+    /**
+     * Wraps the JavaFX {@code long} value, so that its value can be
+     * accessed and derived from without boxing.
+     */
+    static LongVal wrap(ObservableLongValue obs) {
+        return create(obs::get, obs);
+    }
+
+    /**
+     * Returns a constant {@linkplain LongVal} that holds the given value.
+     */
+    static LongVal constant(long value) {
+        return create(() -> value);
+    }
+}
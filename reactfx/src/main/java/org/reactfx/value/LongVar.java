@@ -0,0 +1,17 @@
+package org.reactfx.value;
+
+/**
+ * Writable {@code long} value, primitive specialization of {@link Var}.
+ */
+public interface LongVar extends LongVal, Var<Long> {
+
+    static LongVar newSimpleVar(long initialValue) {
+        return new SimpleLongVar(initialValue);
+    }
+
+    /**
+     * Sets the value without boxing. Setting a {@code null} value via
+     * {@link #setValue(Object)} is equivalent to setting {@code 0L}.
+     */
+    void set(long value);
+}
@@ -0,0 +1,90 @@
+package org.reactfx.value;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
+
+import org.reactfx.Subscription;
+
+class SimpleDoubleVar extends DoubleValBase implements DoubleVar {
+    private final InvalidationListener boundToListener = obs -> invalidate();
+
+    private double value;
+    private ObservableValue<? extends Double> boundTo = null;
+
+    public SimpleDoubleVar(double initialValue) {
+        this.value = initialValue;
+    }
+
+    @Override
+    public void bind(ObservableValue<? extends Double> other) {
+        if(other == null) {
+            throw new IllegalArgumentException("Cannot bind to null");
+        }
+
+        if(boundTo != null) {
+            boundTo.removeListener(boundToListener);
+        }
+
+        boundTo = other;
+
+        if(isObservingInputs()) {
+            boundTo.addListener(boundToListener);
+        }
+
+        invalidate();
+    }
+
+    @Override
+    public void unbind() {
+        if(boundTo != null) {
+            boundTo.removeListener(boundToListener);
+            boundTo = null;
+        }
+    }
+
+    @Override
+    public boolean isBound() {
+        return boundTo != null;
+    }
+
+    @Override
+    public void setValue(Double value) {
+        set(value == null ? 0.0 : value);
+    }
+
+    @Override
+    public void set(double value) {
+        if(isBound()) {
+            throw new IllegalStateException("Cannot set a bound property");
+        } else {
+            if(Double.compare(value, this.value) != 0) {
+                this.value = value;
+                invalidate();
+            }
+        }
+    }
+
+    @Override
+    protected Subscription connect() {
+        if(boundTo != null) {
+            boundTo.addListener(boundToListener);
+        }
+
+        return () -> {
+            if(boundTo != null) {
+                boundTo.removeListener(boundToListener);
+            }
+        };
+    }
+
+    @Override
+    protected double computeValue() {
+        if(boundTo instanceof DoubleVal) {
+            value = ((DoubleVal) boundTo).getAsDouble();
+        } else if(boundTo != null) {
+            Double v = boundTo.getValue();
+            value = v == null ? 0.0 : v;
+        }
+        return value;
+    }
+}
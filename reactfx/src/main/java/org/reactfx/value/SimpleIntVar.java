@@ -0,0 +1,90 @@
+package org.reactfx.value;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
+
+import org.reactfx.Subscription;
+
+class SimpleIntVar extends IntValBase implements IntVar {
+    private final InvalidationListener boundToListener = obs -> invalidate();
+
+    private int value;
+    private ObservableValue<? extends Integer> boundTo = null;
+
+    public SimpleIntVar(int initialValue) {
+        this.value = initialValue;
+    }
+
+    @Override
+    public void bind(ObservableValue<? extends Integer> other) {
+        if(other == null) {
+            throw new IllegalArgumentException("Cannot bind to null");
+        }
+
+        if(boundTo != null) {
+            boundTo.removeListener(boundToListener);
+        }
+
+        boundTo = other;
+
+        if(isObservingInputs()) {
+            boundTo.addListener(boundToListener);
+        }
+
+        invalidate();
+    }
+
+    @Override
+    public void unbind() {
+        if(boundTo != null) {
+            boundTo.removeListener(boundToListener);
+            boundTo = null;
+        }
+    }
+
+    @Override
+    public boolean isBound() {
+        return boundTo != null;
+    }
+
+    @Override
+    public void setValue(Integer value) {
+        set(value == null ? 0 : value);
+    }
+
+    @Override
+    public void set(int value) {
+        if(isBound()) {
+            throw new IllegalStateException("Cannot set a bound property");
+        } else {
+            if(Integer.compare(value, this.value) != 0) {
+                this.value = value;
+                invalidate();
+            }
+        }
+    }
+
+    @Override
+    protected Subscription connect() {
+        if(boundTo != null) {
+            boundTo.addListener(boundToListener);
+        }
+
+        return () -> {
+            if(boundTo != null) {
+                boundTo.removeListener(boundToListener);
+            }
+        };
+    }
+
+    @Override
+    protected int computeValue() {
+        if(boundTo instanceof IntVal) {
+            value = ((IntVal) boundTo).getAsInt();
+        } else if(boundTo != null) {
+            Integer v = boundTo.getValue();
+            value = v == null ? 0 : v;
+        }
+        return value;
+    }
+}
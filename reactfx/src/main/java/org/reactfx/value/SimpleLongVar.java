@@ -0,0 +1,90 @@
+package org.reactfx.value;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
+
+import org.reactfx.Subscription;
+
+class SimpleLongVar extends LongValBase implements LongVar {
+    private final InvalidationListener boundToListener = obs -> invalidate();
+
+    private long value;
+    private ObservableValue<? extends Long> boundTo = null;
+
+    public SimpleLongVar(long initialValue) {
+        this.value = initialValue;
+    }
+
+    @Override
+    public void bind(ObservableValue<? extends Long> other) {
+        if(other == null) {
+            throw new IllegalArgumentException("Cannot bind to null");
+        }
+
+        if(boundTo != null) {
+            boundTo.removeListener(boundToListener);
+        }
+
+        boundTo = other;
+
+        if(isObservingInputs()) {
+            boundTo.addListener(boundToListener);
+        }
+
+        invalidate();
+    }
+
+    @Override
+    public void unbind() {
+        if(boundTo != null) {
+            boundTo.removeListener(boundToListener);
+            boundTo = null;
+        }
+    }
+
+    @Override
+    public boolean isBound() {
+        return boundTo != null;
+    }
+
+    @Override
+    public void setValue(Long value) {
+        set(value == null ? 0L : value);
+    }
+
+    @Override
+    public void set(long value) {
+        if(isBound()) {
+            throw new IllegalStateException("Cannot set a bound property");
+        } else {
+            if(Long.compare(value, this.value) != 0) {
+                this.value = value;
+                invalidate();
+            }
+        }
+    }
+
+    @Override
+    protected Subscription connect() {
+        if(boundTo != null) {
+            boundTo.addListener(boundToListener);
+        }
+
+        return () -> {
+            if(boundTo != null) {
+                boundTo.removeListener(boundToListener);
+            }
+        };
+    }
+
+    @Override
+    protected long computeValue() {
+        if(boundTo instanceof LongVal) {
+            value = ((LongVal) boundTo).getAsLong();
+        } else if(boundTo != null) {
+            Long v = boundTo.getValue();
+            value = v == null ? 0L : v;
+        }
+        return value;
+    }
+}
@@ -29,6 +29,7 @@ import org.reactfx.collection.LiveList;
 import org.reactfx.util.HexaFunction;
 import org.reactfx.util.Interpolator;
 import org.reactfx.util.PentaFunction;
+import org.reactfx.util.Scheduler;
 import org.reactfx.util.TetraFunction;
 import org.reactfx.util.TriFunction;
 import org.reactfx.util.WrapperBase;
@@ -368,6 +369,18 @@ extends ObservableValue<T>, Observable<Consumer<? super T>> {
         return animate(this, duration, interpolator);
     }
 
+    /**
+     * Like {@link #animate(Duration, Interpolator)}, but the transition is
+     * driven by the given {@link Scheduler} instead of the JavaFX animation
+     * timer.
+     */
+    default Val<T> animate(
+            Duration duration,
+            Interpolator<T> interpolator,
+            Scheduler scheduler) {
+        return animate(this, duration, interpolator, scheduler);
+    }
+
     /**
      * Let's this {@linkplain Val} be viewed as a {@linkplain Var}, with the
      * given {@code setValue} function serving the purpose of
@@ -561,6 +574,36 @@ extends ObservableValue<T>, Observable<Consumer<? super T>> {
         return animate(obs, (a, b) -> duration, interpolator);
     }
 
+    /**
+     * Like {@link #animate(ObservableValue, BiFunction, Interpolator)}, but
+     * the transition is driven by the given {@link Scheduler} instead of the
+     * JavaFX animation timer: the interpolated value is updated at about 60
+     * frames per second of the scheduler's clock. With a
+     * {@link org.reactfx.util.VirtualTimeScheduler}, the animation can be
+     * stepped through without the JavaFX toolkit.
+     */
+    static <T> Val<T> animate(
+            ObservableValue<T> obs,
+            BiFunction<? super T, ? super T, Duration> duration,
+            Interpolator<T> interpolator,
+            Scheduler scheduler) {
+        return new AnimatedVal<>(obs, duration, interpolator, scheduler);
+    }
+
+    /**
+     * Like {@link #animate(ObservableValue, Duration, Interpolator)}, but
+     * the transition is driven by the given {@link Scheduler}.
+     *
+     * @see #animate(ObservableValue, BiFunction, Interpolator, Scheduler)
+     */
+    static <T> Val<T> animate(
+            ObservableValue<T> obs,
+            Duration duration,
+            Interpolator<T> interpolator,
+            Scheduler scheduler) {
+        return animate(obs, (a, b) -> duration, interpolator, scheduler);
+    }
+
     /**
      * Like {@link #animate(ObservableValue, BiFunction, Interpolator)}, but
      * uses the interpolation defined by the {@linkplain Interpolatable} type
@@ -759,7 +802,7 @@ extends ObservableValue<T>, Observable<Consumer<? super T>> {
 
 class InvalidationListenerWrapper<T>
 extends WrapperBase<InvalidationListener>
-implements Consumer<T> {
+implements ValueIgnoringObserver<T> {
     private final ObservableValue<T> obs;
 
     public InvalidationListenerWrapper(
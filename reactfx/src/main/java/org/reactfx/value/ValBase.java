@@ -11,6 +11,9 @@ implements ProperVal<T> {
     private boolean valid = false; // irrelevant when not isObservingInputs()
     private T value = null;
 
+    // created on first use by glitch-free propagation
+    private Node node = null;
+
     @Override
     public final T getValue() {
         if(!valid || !isObservingInputs()) {
@@ -23,11 +26,23 @@ implements ProperVal<T> {
     @Override
     protected final Subscription observeInputs() {
         valid = false;
-        return connect();
+        return GlitchFreePropagation.isEnabled()
+                ? GlitchFreePropagation.connect(node(), this::connect)
+                : connect();
     }
 
     protected final void invalidate() {
-        if(valid) {
+        if(GlitchFreePropagation.isEnabled()) {
+            Node node = node();
+            GlitchFreePropagation.invalidated(node);
+            if(valid) {
+                valid = false;
+                if(!node.scheduled) {
+                    node.oldValue = value;
+                }
+                GlitchFreePropagation.schedule(node);
+            }
+        } else if(valid) {
             valid = false;
             notifyObservers(value);
         }
@@ -38,6 +53,17 @@ implements ProperVal<T> {
         // make sure the current value is valid, so that the observer
         // does not miss any invalidations or changes
         getValue();
+
+        if(GlitchFreePropagation.isEnabled()) {
+            GlitchFreePropagation.observerAdded(node());
+        }
+    }
+
+    private Node node() {
+        if(node == null) {
+            node = new Node();
+        }
+        return node;
     }
 
     /**
@@ -52,4 +78,15 @@ implements ProperVal<T> {
      */
     protected abstract Subscription connect();
     protected abstract T computeValue();
+
+    private final class Node extends PropagationNode {
+        private T oldValue = null;
+
+        @Override
+        void notifyScheduled() {
+            T old = oldValue;
+            oldValue = null;
+            notifyObservers(old);
+        }
+    }
 }
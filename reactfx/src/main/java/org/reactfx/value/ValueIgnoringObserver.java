@@ -0,0 +1,11 @@
+package org.reactfx.value;
+
+import java.util.function.Consumer;
+
+/**
+ * Marker for invalidation observers that do not use the invalidated value.
+ * Primitive values, such as {@link DoubleValBase}, pass {@code null} instead
+ * of boxing the invalidated value when all their observers are of this type.
+ */
+@FunctionalInterface
+interface ValueIgnoringObserver<T> extends Consumer<T> {}
@@ -0,0 +1,107 @@
+package org.reactfx;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Test;
+
+public class BatchedThreadBridgeTest {
+
+    private static class QueueingExecutor implements Executor {
+        final Queue<Runnable> tasks = new LinkedList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        int runAll() {
+            int n = 0;
+            while(!tasks.isEmpty()) {
+                tasks.remove().run();
+                ++n;
+            }
+            return n;
+        }
+    }
+
+    @Test
+    public void eventsAreHandedOverInOneTask() {
+        QueueingExecutor target = new QueueingExecutor();
+        EventSource<Integer> src = new EventSource<>();
+        EventStream<Integer> bridged = src.batchedThreadBridge(Runnable::run, target);
+
+        List<Integer> emitted = new ArrayList<>();
+        bridged.subscribe(emitted::add);
+
+        src.push(1);
+        src.push(null);
+        src.push(3);
+        assertEquals(1, target.tasks.size());
+        assertEquals(0, emitted.size());
+
+        assertEquals(1, target.runAll());
+        assertEquals(Arrays.asList(1, null, 3), emitted);
+
+        src.push(4);
+        assertEquals(1, target.runAll());
+        assertEquals(Arrays.asList(1, null, 3, 4), emitted);
+    }
+
+    @Test
+    public void batchSizeIsLimited() {
+        QueueingExecutor target = new QueueingExecutor();
+        EventSource<Integer> src = new EventSource<>();
+        EventStream<Integer> bridged = src.batchedThreadBridge(Runnable::run, target, 2);
+
+        List<Integer> emitted = new ArrayList<>();
+        bridged.subscribe(emitted::add);
+
+        for(int i = 0; i < 5; ++i) {
+            src.push(i);
+        }
+
+        assertEquals(1, target.tasks.size());
+        target.tasks.remove().run();
+        assertEquals(Arrays.asList(0, 1), emitted);
+
+        assertEquals(2, target.runAll());
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), emitted);
+    }
+
+    @Test
+    public void rejectedDrainIsRescheduledByNextEvent() {
+        QueueingExecutor target = new QueueingExecutor();
+        boolean[] reject = { true };
+        Executor rejecting = task -> {
+            if(reject[0]) {
+                throw new RejectedExecutionException();
+            }
+            target.execute(task);
+        };
+        EventSource<Integer> src = new EventSource<>();
+        EventStream<Integer> bridged = src.batchedThreadBridge(Runnable::run, rejecting);
+
+        List<Integer> emitted = new ArrayList<>();
+        bridged.subscribe(emitted::add);
+
+        try {
+            src.push(1);
+            fail("expected RejectedExecutionException");
+        } catch(RejectedExecutionException e) {
+            // expected
+        }
+
+        reject[0] = false;
+        src.push(2);
+        assertEquals(1, target.runAll());
+        assertEquals(Arrays.asList(1, 2), emitted);
+    }
+}
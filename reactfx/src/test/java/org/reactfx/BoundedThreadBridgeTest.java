@@ -0,0 +1,220 @@
+package org.reactfx;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class BoundedThreadBridgeTest {
+
+    private static class QueueingExecutor implements Executor {
+        final Queue<Runnable> tasks = new LinkedList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while(!tasks.isEmpty()) {
+                tasks.remove().run();
+            }
+        }
+    }
+
+    private List<Integer> pushFiveThroughBufferOfThree(OverflowPolicy policy) {
+        QueueingExecutor target = new QueueingExecutor();
+        EventSource<Integer> src = new EventSource<>();
+        BufferedEventStream<Integer> bridged =
+                src.boundedThreadBridge(Runnable::run, target, 3, policy);
+
+        List<Integer> emitted = new ArrayList<>();
+        bridged.subscribe(emitted::add);
+
+        for(int i = 1; i <= 5; ++i) {
+            src.push(i);
+        }
+        assertEquals(3, bridged.bufferDepth().getAsInt());
+
+        target.runAll();
+        assertEquals(0, bridged.bufferDepth().getAsInt());
+        return emitted;
+    }
+
+    @Test
+    public void dropOldest() {
+        assertEquals(Arrays.asList(3, 4, 5),
+                pushFiveThroughBufferOfThree(OverflowPolicy.DROP_OLDEST));
+    }
+
+    @Test
+    public void dropNewest() {
+        assertEquals(Arrays.asList(1, 2, 3),
+                pushFiveThroughBufferOfThree(OverflowPolicy.DROP_NEWEST));
+    }
+
+    @Test
+    public void coalesce() {
+        QueueingExecutor target = new QueueingExecutor();
+        EventSource<Integer> src = new EventSource<>();
+        EventStream<Integer> bridged =
+                src.boundedThreadBridge(Runnable::run, target, 3, Integer::sum);
+
+        List<Integer> emitted = new ArrayList<>();
+        bridged.subscribe(emitted::add);
+
+        for(int i = 1; i <= 5; ++i) {
+            src.push(i);
+        }
+        target.runAll();
+
+        assertEquals(Arrays.asList(1, 2, 12), emitted);
+    }
+
+    @Test
+    public void depthIsInvalidatedOnDrain() {
+        QueueingExecutor target = new QueueingExecutor();
+        EventSource<Integer> src = new EventSource<>();
+        BufferedEventStream<Integer> bridged = src.boundedThreadBridge(
+                Runnable::run, target, 3, OverflowPolicy.DROP_NEWEST);
+        bridged.subscribe(i -> {});
+
+        Counter invalidations = new Counter();
+        bridged.bufferDepth().addListener(obs -> invalidations.inc());
+
+        src.push(1);
+        src.push(2);
+        assertEquals(0, invalidations.get());
+
+        target.runAll();
+        assertEquals(1, invalidations.get());
+        assertEquals(0, bridged.bufferDepth().getAsInt());
+    }
+
+    @Test
+    public void drainEmitsOneBatchAtATime() {
+        QueueingExecutor target = new QueueingExecutor();
+        EventSource<Integer> src = new EventSource<>();
+        BufferedEventStream<Integer> bridged = src.boundedThreadBridge(
+                Runnable::run, target, 3, OverflowPolicy.DROP_NEWEST);
+
+        // a producer that is always faster than the consumer
+        List<Integer> emitted = new ArrayList<>();
+        bridged.subscribe(i -> {
+            emitted.add(i);
+            src.push(i + 1);
+        });
+
+        src.push(0);
+        target.tasks.remove().run();
+        assertEquals(Arrays.asList(0), emitted);
+        assertEquals(1, bridged.bufferDepth().getAsInt());
+        assertEquals(1, target.tasks.size());
+
+        target.tasks.remove().run();
+        assertEquals(Arrays.asList(0, 1), emitted);
+        assertEquals(1, bridged.bufferDepth().getAsInt());
+        assertEquals(1, target.tasks.size());
+    }
+
+    @Test
+    public void depthIsInvalidatedWhenEventsArrive() {
+        QueueingExecutor target = new QueueingExecutor();
+        EventSource<Integer> src = new EventSource<>();
+        BufferedEventStream<Integer> bridged = src.boundedThreadBridge(
+                Runnable::run, target, 10, OverflowPolicy.DROP_NEWEST);
+        List<Integer> emitted = new ArrayList<>();
+        bridged.subscribe(i -> {
+            emitted.add(i);
+            if(i == 1) {
+                src.push(2); // arrives while the drain is running
+                src.push(3);
+            }
+        });
+
+        Counter invalidations = new Counter();
+        bridged.bufferDepth().addListener(obs -> invalidations.inc());
+        assertEquals(0, bridged.bufferDepth().getAsInt());
+
+        src.push(1);
+        target.tasks.remove().run(); // emits 1
+        assertEquals(1, invalidations.get());
+        assertEquals(2, bridged.bufferDepth().getAsInt());
+        assertEquals(1, target.tasks.size()); // the next drain
+
+        // an event that arrives while a drain is pending schedules a depth update
+        src.push(4);
+        assertEquals(2, target.tasks.size());
+        src.push(5);
+        assertEquals(2, target.tasks.size());
+
+        target.runAll();
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), emitted);
+        assertEquals(0, bridged.bufferDepth().getAsInt());
+    }
+
+    @Test
+    public void blockedProducerResumesWhenBufferIsDrained() throws InterruptedException {
+        ExecutorService producer = Executors.newSingleThreadExecutor();
+        BlockingQueue<Runnable> targetTasks = new LinkedBlockingQueue<>();
+        EventSource<Integer> src = new EventSource<>();
+        EventStream<Integer> bridged = src.boundedThreadBridge(
+                producer, targetTasks::add, 1, OverflowPolicy.BLOCK);
+
+        List<Integer> emitted = new ArrayList<>();
+        bridged.subscribe(emitted::add);
+
+        producer.execute(() -> {
+            src.push(1);
+            src.push(2); // blocks until 1 is taken from the buffer
+            src.push(3);
+        });
+
+        while(emitted.size() < 3) {
+            targetTasks.poll(1, TimeUnit.SECONDS).run();
+        }
+
+        assertEquals(Arrays.asList(1, 2, 3), emitted);
+        producer.shutdown();
+    }
+
+    @Test
+    public void blockedProducerIsReleasedOnUnsubscribe() throws InterruptedException {
+        QueueingExecutor target = new QueueingExecutor();
+        EventSource<Integer> src = new EventSource<>();
+        EventStream<Integer> bridged = src.boundedThreadBridge(
+                Runnable::run, target, 1, OverflowPolicy.BLOCK);
+
+        List<Integer> emitted = new ArrayList<>();
+        Subscription sub = bridged.subscribe(emitted::add);
+
+        Thread producer = new Thread(() -> {
+            src.push(1);
+            src.push(2); // blocks, nobody drains the buffer
+            src.push(3);
+        });
+        producer.start();
+        while(producer.getState() != Thread.State.WAITING) {
+            assertTrue(producer.isAlive());
+            Thread.sleep(1);
+        }
+
+        sub.unsubscribe();
+        producer.join(1000);
+        assertFalse(producer.isAlive());
+
+        target.runAll();
+        assertEquals(0, emitted.size());
+    }
+}
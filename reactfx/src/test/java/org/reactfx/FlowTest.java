@@ -0,0 +1,102 @@
+package org.reactfx;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+import org.junit.Test;
+import org.reactfx.util.Try;
+
+public class FlowTest {
+
+    private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        final List<T> received = new ArrayList<>();
+        Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            fail(throwable.toString());
+        }
+
+        @Override
+        public void onComplete() {
+            fail("event streams never complete");
+        }
+    }
+
+    @Test
+    public void publisherDeliversOnlyWhatIsRequested() {
+        EventSource<Integer> src = new EventSource<>();
+        Flow.Publisher<Integer> publisher =
+                src.toPublisher(Runnable::run, 2, OverflowPolicy.DROP_OLDEST);
+
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        src.push(1);
+        src.push(2);
+        src.push(3);
+        assertEquals(Arrays.asList(), subscriber.received);
+
+        subscriber.subscription.request(1);
+        assertEquals(Arrays.asList(2), subscriber.received);
+
+        subscriber.subscription.request(5);
+        assertEquals(Arrays.asList(2, 3), subscriber.received);
+
+        src.push(4);
+        assertEquals(Arrays.asList(2, 3, 4), subscriber.received);
+    }
+
+    @Test
+    public void cancellationUnsubscribesFromStream() {
+        EventSource<Integer> src = new EventSource<>();
+        Flow.Publisher<Integer> publisher =
+                src.toPublisher(Runnable::run, 2, OverflowPolicy.DROP_NEWEST);
+
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        src.push(1);
+        subscriber.subscription.cancel();
+        src.push(2);
+
+        assertEquals(Arrays.asList(1), subscriber.received);
+    }
+
+    @Test
+    public void streamRequestsAsItEmits() throws InterruptedException {
+        List<Try<Integer>> emitted = new ArrayList<>();
+        try(SubmissionPublisher<Integer> publisher =
+                new SubmissionPublisher<>(Runnable::run, 16)) {
+            EventStream<Try<Integer>> stream =
+                    EventStreams.fromPublisher(publisher, 4, Runnable::run);
+            Subscription sub = stream.subscribe(emitted::add);
+
+            for(int i = 0; i < 10; ++i) {
+                publisher.submit(i);
+            }
+            assertEquals(10, emitted.size());
+            assertEquals(Try.success(9), emitted.get(9));
+
+            sub.unsubscribe();
+            publisher.submit(10);
+            assertEquals(10, emitted.size());
+        }
+    }
+}
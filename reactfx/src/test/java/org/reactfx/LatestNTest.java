@@ -4,6 +4,8 @@ import static org.junit.Assert.*;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
 
 import org.junit.Test;
@@ -45,4 +47,67 @@ public class LatestNTest {
         src.push(4);
         assertEquals(Arrays.asList(4), emitted.get(0));
     }
+
+    @Test
+    public void testView() {
+        EventSource<Integer> src = new EventSource<>();
+        EventStream<LatestNView<Integer>> latest3 = src.latestNView(3);
+        List<List<Integer>> contents = new ArrayList<>();
+        List<List<Integer>> snapshots = new ArrayList<>();
+        List<LatestNView<Integer>> views = new ArrayList<>();
+        latest3.subscribe(view -> {
+            contents.add(new ArrayList<>(view));
+            snapshots.add(view.snapshot());
+            views.add(view);
+        });
+        for(int i = 1; i <= 7; ++i) {
+            src.push(i);
+        }
+        List<List<Integer>> expected = Arrays.asList(
+                Arrays.asList(1),
+                Arrays.asList(1, 2),
+                Arrays.asList(1, 2, 3),
+                Arrays.asList(2, 3, 4),
+                Arrays.asList(3, 4, 5),
+                Arrays.asList(4, 5, 6),
+                Arrays.asList(5, 6, 7));
+        assertEquals(expected, contents);
+        assertEquals(expected, snapshots);
+
+        // the same view is emitted every time
+        for(LatestNView<Integer> view: views) {
+            assertSame(views.get(0), view);
+        }
+        assertEquals(Arrays.asList(5, 6, 7), views.get(0));
+    }
+
+    @Test
+    public void testViewIteratorFailsAfterNextEvent() {
+        EventSource<Integer> src = new EventSource<>();
+        List<Iterator<Integer>> iterators = new ArrayList<>();
+        src.latestNView(2).subscribe(view -> iterators.add(view.iterator()));
+        src.push(1);
+        src.push(2);
+        try {
+            iterators.get(0).next();
+            fail("Expected ConcurrentModificationException");
+        } catch(ConcurrentModificationException e) {
+            // expected
+        }
+        assertEquals(1, iterators.get(1).next().intValue());
+    }
+
+    @Test
+    public void testViewResetOnUnsubscribe() {
+        EventSource<Integer> src = new EventSource<>();
+        EventStream<LatestNView<Integer>> latest3 = src.latestNView(3);
+        Subscription sub = latest3.pin();
+        src.push(1);
+        src.push(2);
+        sub.unsubscribe();
+        List<List<Integer>> emitted = new ArrayList<>();
+        latest3.subscribe(view -> emitted.add(view.snapshot()));
+        src.push(3);
+        assertEquals(Arrays.asList(Arrays.asList(3)), emitted);
+    }
 }
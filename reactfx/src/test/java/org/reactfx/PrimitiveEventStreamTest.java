@@ -0,0 +1,147 @@
+package org.reactfx;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.Test;
+
+public class PrimitiveEventStreamTest {
+
+    @Test
+    public void testMapFilterAccumulate() {
+        IntEventSource source = new IntEventSource();
+        List<Integer> emitted = new ArrayList<>();
+        source.map(i -> i * 2)
+                .filter(i -> i % 3 != 0)
+                .accumulate(Integer::sum)
+                .subscribe(emitted::add);
+
+        source.push(1);
+        source.push(3);
+        source.push(5);
+        source.push(2);
+        assertEquals(Arrays.asList(2, 12, 16), emitted);
+    }
+
+    @Test
+    public void testAccumulateWithUnit() {
+        LongEventSource source = new LongEventSource();
+        List<Long> emitted = new ArrayList<>();
+        source.accumulate(100L, (a, b) -> a - b).subscribe(emitted::add);
+
+        source.push(1);
+        source.push(2);
+        assertEquals(Arrays.asList(99L, 97L), emitted);
+    }
+
+    @Test
+    public void testConversions() {
+        EventSource<String> source = new EventSource<>();
+        List<Double> doubles = new ArrayList<>();
+        List<String> strings = new ArrayList<>();
+        IntEventStream lengths = source.mapToInt(String::length);
+        lengths.mapToDouble(i -> i / 2.0).subscribe(doubles::add);
+        lengths.mapToLong(i -> i * 10L).mapToObj(l -> "#" + l).subscribe(strings::add);
+
+        source.push("abc");
+        source.push("");
+        assertEquals(Arrays.asList(1.5, 0.0), doubles);
+        assertEquals(Arrays.asList("#30", "#0"), strings);
+    }
+
+    @Test
+    public void testMerge() {
+        DoubleEventSource a = new DoubleEventSource();
+        DoubleEventSource b = new DoubleEventSource();
+        List<Double> emitted = new ArrayList<>();
+        EventStreams.mergeDoubles(a, b).boxed().subscribe(emitted::add);
+
+        a.push(1.0);
+        b.push(2.0);
+        a.push(3.0);
+        assertEquals(Arrays.asList(1.0, 2.0, 3.0), emitted);
+    }
+
+    @Test
+    public void testLazyBinding() {
+        IntEventSource source = new IntEventSource();
+        IntEventStream mapped = source.map(i -> i + 1);
+        assertFalse(source.isObservingInputs());
+
+        Subscription sub = mapped.subscribe(i -> {});
+        assertTrue(source.isObservingInputs());
+        sub.unsubscribe();
+        assertFalse(source.isObservingInputs());
+    }
+
+    @Test
+    public void allowRecursionWithOneSubscriber() {
+        List<Integer> emitted = new ArrayList<>();
+        IntEventSource source = new IntEventSource();
+        source.subscribe(i -> {
+            emitted.add(i);
+            if(i > 0) source.push(i - 1);
+        });
+        source.push(3);
+        assertEquals(Arrays.asList(3, 2, 1, 0), emitted);
+    }
+
+    @Test
+    public void allowRecursionFromLastSubscriber() {
+        List<Integer> emitted = new ArrayList<>();
+        IntEventSource source = new IntEventSource();
+        source.subscribe(emitted::add);
+        source.subscribe(i -> { if(i > 0) source.push(i - 1); });
+        source.push(3);
+        assertEquals(Arrays.asList(3, 2, 1, 0), emitted);
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void preventRecursionWithTwoSubscribers() {
+        IntEventSource source = new IntEventSource();
+        source.subscribe(i -> { if(i > 0) source.push(i - 1); });
+        source.subscribe(i -> {});
+        source.push(5);
+    }
+
+    @Test
+    public void testReduceSuccessions() throws InterruptedException, ExecutionException {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        IntEventSource source = new IntEventSource();
+        IntEventStream reducing = source.reduceSuccessions(
+                Integer::sum, Duration.ofMillis(200), scheduler, executor);
+
+        CompletableFuture<List<Integer>> emitted = new CompletableFuture<>();
+        executor.execute(() -> {
+            List<Integer> res = new ArrayList<>();
+            reducing.subscribe(res::add);
+            source.push(1);
+            source.push(2);
+            source.push(3);
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(400);
+                } catch(InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                executor.execute(() -> emitted.complete(res));
+            });
+        });
+
+        assertEquals(Arrays.asList(6), emitted.get());
+
+        scheduler.shutdown();
+        executor.shutdown();
+    }
+}
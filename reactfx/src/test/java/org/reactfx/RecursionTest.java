@@ -20,6 +20,37 @@ public class RecursionTest {
         assertEquals(Arrays.asList(5, 4, 3, 2, 1, 0), emitted);
     }
 
+    @Test
+    public void allowRecursionWithOneSubscriberOnRecurseQueue() {
+        List<Integer> emitted = new ArrayList<>();
+        EventSource<Integer> source = new EventSource<>();
+        source.onRecurseQueue().subscribe(i -> {
+            emitted.add(i);
+            if(i > 0) source.push(i-1);
+            emitted.add(-i);
+        });
+        source.push(2);
+        assertEquals(Arrays.asList(2, 1, 0, 0, -1, -2), emitted);
+    }
+
+    @Test
+    public void subscriberAddedDuringNotificationOfSoleSubscriber() {
+        List<Integer> emitted1 = new ArrayList<>();
+        List<Integer> emitted2 = new ArrayList<>();
+        EventSource<Integer> source = new EventSource<>();
+        source.subscribe(i -> {
+            emitted1.add(i);
+            if(i == 1) {
+                source.subscribe(emitted2::add);
+                source.push(0);
+            }
+        });
+        source.push(1);
+        source.push(2);
+        assertEquals(Arrays.asList(1, 0, 2), emitted1);
+        assertEquals(Arrays.asList(0, 2), emitted2);
+    }
+
     @Test(expected=IllegalStateException.class)
     public void preventRecursionWithTwoSubscribers() {
         EventSource<Integer> source = new EventSource<>();
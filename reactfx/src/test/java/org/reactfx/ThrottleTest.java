@@ -0,0 +1,78 @@
+package org.reactfx;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.reactfx.util.VirtualTimeScheduler;
+
+public class ThrottleTest {
+
+    private final VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+
+    private void advance(long millis) {
+        scheduler.advanceBy(Duration.ofMillis(millis));
+    }
+
+    @Test
+    public void testThrottleFirst() {
+        EventSource<Integer> source = new EventSource<>();
+        List<Integer> emitted = new ArrayList<>();
+        source.throttleFirst(Duration.ofMillis(100), scheduler).subscribe(emitted::add);
+
+        source.push(1);
+        advance(50);
+        source.push(2);
+        advance(100);
+        source.push(3);
+        source.push(4);
+
+        assertEquals(Arrays.asList(1, 3), emitted);
+    }
+
+    @Test
+    public void testThrottleLast() {
+        EventSource<Integer> source = new EventSource<>();
+        List<Integer> emitted = new ArrayList<>();
+        source.throttleLast(Duration.ofMillis(100), scheduler).subscribe(emitted::add);
+
+        source.push(1);
+        advance(50);
+        source.push(2);
+        advance(100);
+        source.push(3);
+        advance(50);
+        source.push(4);
+        advance(100);
+        source.push(5);
+        advance(100);
+
+        assertEquals(Arrays.asList(2, 4, 5), emitted);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void testThrottleLastWithZeroDelayEmitsOncePerTick() {
+        EventSource<Integer> source = new EventSource<>();
+        List<Integer> emitted = new ArrayList<>();
+        Subscription sub = source.throttleLast(Duration.ZERO, scheduler)
+                .subscribe(emitted::add);
+
+        source.push(1);
+        source.push(2);
+        source.push(3);
+        assertEquals(Arrays.asList(), emitted);
+        scheduler.runDue();
+        assertEquals(Arrays.asList(3), emitted);
+
+        source.push(4);
+        sub.unsubscribe();
+        assertEquals(0, scheduler.getPendingCount());
+        scheduler.runDue();
+        assertEquals(Arrays.asList(3), emitted);
+    }
+}
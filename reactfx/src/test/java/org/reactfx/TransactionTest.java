@@ -0,0 +1,121 @@
+package org.reactfx;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.reactfx.collection.LiveArrayList;
+import org.reactfx.collection.SuspendableList;
+import org.reactfx.value.SuspendableVar;
+import org.reactfx.value.Var;
+
+public class TransactionTest {
+
+    @Test
+    public void touchedParticipantsAreResumedTogetherOnCommit() {
+        SuspendableVar<Integer> a = Var.newSimpleVar(0).suspendable();
+        SuspendableVar<Integer> b = Var.newSimpleVar(0).suspendable();
+        SuspendableList<Integer> list = new LiveArrayList<Integer>().suspendable();
+        EventSource<Integer> src = new EventSource<>();
+        EventStream<Integer> sum = src.reducible((x, y) -> x + y);
+
+        Counter aChanges = new Counter();
+        Counter bChanges = new Counter();
+        Counter listChanges = new Counter();
+        List<Integer> sums = new ArrayList<>();
+        a.addListener((obs, oldVal, newVal) -> aChanges.inc());
+        b.addListener((obs, oldVal, newVal) -> bChanges.inc());
+        list.observeChanges(ch -> listChanges.inc());
+        sum.subscribe(sums::add);
+
+        try(Guard tx = Transaction.begin()) {
+            for(int i = 1; i <= 10; ++i) {
+                a.setValue(i);
+                b.setValue(-i);
+                list.add(i);
+                src.push(i);
+            }
+            assertEquals(0, aChanges.get());
+            assertEquals(0, bChanges.get());
+            assertEquals(0, listChanges.get());
+            assertEquals(0, sums.size());
+        }
+
+        assertEquals(1, aChanges.get());
+        assertEquals(1, bChanges.get());
+        assertEquals(1, listChanges.get());
+        assertEquals(Arrays.asList(55), sums);
+    }
+
+    @Test
+    public void onlyOutermostTransactionCommits() {
+        SuspendableVar<Integer> a = Var.newSimpleVar(0).suspendable();
+        Counter changes = new Counter();
+        a.addListener((obs, oldVal, newVal) -> changes.inc());
+
+        Transaction.run(() -> {
+            Transaction.run(() -> a.setValue(1));
+            assertEquals(0, changes.get());
+            a.setValue(2);
+        });
+
+        assertEquals(1, changes.get());
+        assertFalse(Transaction.isOpen());
+
+        a.setValue(3);
+        assertEquals(2, changes.get());
+    }
+
+    @Test
+    public void failingParticipantDoesNotPreventOthersFromResuming() {
+        SuspendableVar<Integer> a = Var.newSimpleVar(0).suspendable();
+        SuspendableVar<Integer> b = Var.newSimpleVar(0).suspendable();
+        Counter aChanges = new Counter();
+        a.addListener((obs, oldVal, newVal) -> aChanges.inc());
+        b.addListener((obs, oldVal, newVal) -> { throw new IllegalStateException("b"); });
+
+        List<Throwable> reported = new ArrayList<>();
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((t, e) -> reported.add(e));
+        try {
+            Transaction.run(() -> {
+                a.setValue(1);
+                b.setValue(1); // enlisted last, resumed first
+            });
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+
+        assertEquals(1, reported.size());
+        assertEquals("b", reported.get(0).getMessage());
+        assertEquals(1, aChanges.get());
+        assertFalse(Transaction.isOpen());
+
+        a.setValue(2);
+        assertEquals(2, aChanges.get());
+    }
+
+    @Test
+    public void transactionIsConfinedToItsThread() throws InterruptedException {
+        SuspendableVar<Integer> a = Var.newSimpleVar(0).suspendable();
+        Counter changes = new Counter();
+        a.addListener((obs, oldVal, newVal) -> changes.inc());
+
+        boolean[] openOnOtherThread = { true };
+        try(Guard tx = Transaction.begin()) {
+            Thread t = new Thread(() -> {
+                openOnOtherThread[0] = Transaction.isOpen();
+                a.setValue(1);
+            });
+            t.start();
+            t.join();
+            assertFalse(openOnOtherThread[0]);
+            assertEquals(1, changes.get());
+        }
+        assertEquals(1, changes.get());
+    }
+}
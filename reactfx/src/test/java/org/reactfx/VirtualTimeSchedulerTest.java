@@ -0,0 +1,135 @@
+package org.reactfx;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.reactfx.util.Interpolator;
+import org.reactfx.util.VirtualTimeScheduler;
+import org.reactfx.value.Val;
+import org.reactfx.value.Var;
+
+public class VirtualTimeSchedulerTest {
+
+    private final VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+
+    private void advance(long millis) {
+        scheduler.advanceBy(Duration.ofMillis(millis));
+    }
+
+    @Test
+    public void testReduceSuccessions() {
+        EventSource<Integer> source = new EventSource<>();
+        AwaitingEventStream<Integer> reducing =
+                source.reduceSuccessions((a, b) -> a + b, Duration.ofMillis(200), scheduler);
+        List<Object> emitted = new ArrayList<>();
+        EventStreams.merge(reducing, EventStreams.valuesOf(reducing.pendingProperty()))
+                .subscribe(emitted::add);
+
+        source.push(1);
+        source.push(2);
+        advance(50);
+        source.push(3);
+        advance(250);
+        source.push(4);
+        advance(50);
+        source.push(5);
+        advance(250);
+
+        assertEquals(Arrays.asList(false, true, 6, false, true, 9, false), emitted);
+    }
+
+    @Test
+    public void testDebounceSoak() {
+        // an hour of edits every 10ms, in bursts of 1s separated by 1s pauses
+        EventSource<Integer> source = new EventSource<>();
+        List<Integer> emitted = new ArrayList<>();
+        source.successionEnds(Duration.ofMillis(100), scheduler).subscribe(emitted::add);
+
+        int bursts = 1800;
+        for(int b = 0; b < bursts; ++b) {
+            for(int i = 0; i < 100; ++i) {
+                source.push(b);
+                advance(10);
+            }
+            advance(1000);
+        }
+
+        assertEquals(bursts, emitted.size());
+        assertEquals(bursts - 1, emitted.get(bursts - 1).intValue());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void testThenIgnoreFor() {
+        EventSource<Integer> source = new EventSource<>();
+        List<Integer> emitted = new ArrayList<>();
+        source.thenIgnoreFor(Duration.ofMillis(100), scheduler).subscribe(emitted::add);
+
+        source.push(1);
+        advance(50);
+        source.push(2);
+        advance(60);
+        source.push(3);
+
+        assertEquals(Arrays.asList(1, 3), emitted);
+    }
+
+    @Test
+    public void testTicks() {
+        List<Long> ticks = new ArrayList<>();
+        Subscription sub = EventStreams.ticks(Duration.ofSeconds(1), scheduler)
+                .subscribe(t -> ticks.add(scheduler.nanoTime() / 1_000_000_000L));
+        advance(3500);
+        sub.unsubscribe();
+        advance(3000);
+        assertEquals(Arrays.asList(1L, 2L, 3L), ticks);
+
+        List<Long> ticks0 = new ArrayList<>();
+        EventSource<Void> impulse = new EventSource<>();
+        long start = scheduler.nanoTime();
+        EventStreams.restartableTicks0(Duration.ofSeconds(1), impulse, scheduler)
+                .subscribe(t -> ticks0.add((scheduler.nanoTime() - start) / 1_000_000));
+        advance(1500);
+        impulse.push(null);
+        advance(1200);
+        assertEquals(Arrays.asList(0L, 1000L, 1500L, 2500L), ticks0);
+    }
+
+    @Test
+    public void testAnimate() {
+        Var<Double> target = Var.newSimpleVar(0.0);
+        Val<Double> animated = Val.animate(
+                target, Duration.ofMillis(100), Interpolator.LINEAR_DOUBLE, scheduler);
+        List<Double> values = new ArrayList<>();
+        animated.values().subscribe(values::add);
+
+        target.setValue(10.0);
+        assertEquals(0.0, animated.getValue(), 0.0);
+        advance(50);
+        assertEquals(5.0, animated.getValue(), 1.0);
+        advance(100);
+        assertEquals(10.0, animated.getValue(), 0.0);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void testAnimationStopsWhenUnobserved() {
+        Var<Double> target = Var.newSimpleVar(0.0);
+        Val<Double> animated = Val.animate(
+                target, Duration.ofMillis(100), Interpolator.LINEAR_DOUBLE, scheduler);
+        Subscription sub = animated.pin();
+
+        target.setValue(10.0);
+        advance(50);
+        assertEquals(1, scheduler.getPendingCount());
+
+        sub.unsubscribe();
+        assertEquals(0, scheduler.getPendingCount());
+        assertEquals(10.0, animated.getValue(), 0.0);
+    }
+}
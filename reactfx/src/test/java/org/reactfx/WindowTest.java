@@ -0,0 +1,135 @@
+package org.reactfx;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.reactfx.util.VirtualTimeScheduler;
+
+public class WindowTest {
+
+    @Test
+    public void testSlidingAggregatorPreservesOrder() {
+        SlidingAggregator<String> agg = new SlidingAggregator<>(String::concat);
+        Deque<String> expected = new ArrayDeque<>();
+        Random random = new Random(0xCAFE);
+        for(int i = 0; i < 10000; ++i) {
+            if(expected.isEmpty() || random.nextInt(3) > 0) {
+                String s = Integer.toString(i, 36);
+                agg.push(s, i);
+                expected.addLast(s);
+            } else {
+                agg.pop();
+                expected.removeFirst();
+            }
+            assertEquals(expected.size(), agg.size());
+            if(!expected.isEmpty() && expected.size() < 50) {
+                assertEquals(String.join("", expected), agg.aggregate());
+            }
+        }
+    }
+
+    @Test
+    public void testWindowCount() {
+        EventSource<Integer> source = new EventSource<>();
+        List<Integer> emitted = new ArrayList<>();
+        source.windowCount(2, (a, b) -> a + b).subscribe(emitted::add);
+        for(int i = 1; i <= 7; ++i) {
+            source.push(i);
+        }
+        assertEquals(Arrays.asList(3, 7, 11), emitted);
+    }
+
+    @Test
+    public void testSlidingCount() {
+        EventSource<String> source = new EventSource<>();
+        List<String> emitted = new ArrayList<>();
+        source.slidingCount(3, 2, String::concat).subscribe(emitted::add);
+        for(String s: "abcdefgh".split("")) {
+            source.push(s);
+        }
+        assertEquals(Arrays.asList("abc", "cde", "efg"), emitted);
+
+        // step larger than the window skips events
+        List<String> sparse = new ArrayList<>();
+        EventSource<String> source2 = new EventSource<>();
+        source2.slidingCount(2, 3, String::concat).subscribe(sparse::add);
+        for(String s: "abcdefgh".split("")) {
+            source2.push(s);
+        }
+        assertEquals(Arrays.asList("ab", "de", "gh"), sparse);
+    }
+
+    @Test
+    public void testSlidingCountWithSummaries() {
+        // volume-weighted average price of the last 2 trades
+        EventSource<double[]> trades = new EventSource<>();
+        List<Double> vwap = new ArrayList<>();
+        trades.slidingCount(2, 1,
+                t -> new double[] { t[0] * t[1], t[1] },
+                (a, b) -> new double[] { a[0] + b[0], a[1] + b[1] })
+            .map(s -> s[0] / s[1])
+            .subscribe(vwap::add);
+        trades.push(new double[] { 10.0, 1.0 });
+        trades.push(new double[] { 20.0, 3.0 });
+        trades.push(new double[] { 30.0, 1.0 });
+        assertEquals(Arrays.asList(17.5, 22.5), vwap);
+    }
+
+    @Test
+    public void testWindow() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        EventSource<Integer> source = new EventSource<>();
+        List<Integer> emitted = new ArrayList<>();
+        source.window(Duration.ofMillis(100), (a, b) -> a + b, scheduler)
+                .subscribe(emitted::add);
+
+        source.push(1);
+        scheduler.advanceBy(Duration.ofMillis(50));
+        source.push(2);
+        scheduler.advanceBy(Duration.ofMillis(100));
+        source.push(3);
+        scheduler.advanceBy(Duration.ofMillis(100));
+        source.push(4);
+        scheduler.advanceBy(Duration.ofMillis(200));
+        assertEquals(Arrays.asList(3, 3, 4), emitted);
+        assertEquals(0, scheduler.getPendingCount());
+
+        source.push(5);
+        scheduler.advanceBy(Duration.ofMillis(99));
+        assertEquals(Arrays.asList(3, 3, 4), emitted);
+        scheduler.advanceBy(Duration.ofMillis(1));
+        assertEquals(Arrays.asList(3, 3, 4, 5), emitted);
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        EventSource<Integer> source = new EventSource<>();
+        List<Integer> emitted = new ArrayList<>();
+        Subscription sub = source.slidingWindow(
+                Duration.ofMillis(200), Duration.ofMillis(100), (a, b) -> a + b, scheduler)
+                .subscribe(emitted::add);
+
+        source.push(1);
+        scheduler.advanceBy(Duration.ofMillis(50));
+        source.push(2);
+        scheduler.advanceBy(Duration.ofMillis(100));
+        source.push(3);
+        scheduler.advanceBy(Duration.ofMillis(300));
+        assertEquals(Arrays.asList(3, 5, 3), emitted);
+        assertEquals(0, scheduler.getPendingCount());
+
+        source.push(4);
+        assertEquals(1, scheduler.getPendingCount());
+        sub.unsubscribe();
+        assertEquals(0, scheduler.getPendingCount());
+    }
+}
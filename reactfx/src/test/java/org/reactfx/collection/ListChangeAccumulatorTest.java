@@ -0,0 +1,95 @@
+package org.reactfx.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ListChangeAccumulatorTest {
+
+    /**
+     * Applies random modifications to a list, accumulates them and checks
+     * that the accumulated change transforms the original list into the
+     * modified one.
+     */
+    @Test
+    public void accumulatedChangeReproducesModifications() {
+        Random random = new Random(42);
+        for(int round = 0; round < 100; ++round) {
+            List<Integer> original = new ArrayList<>();
+            for(int i = 0; i < 50; ++i) {
+                original.add(i);
+            }
+            List<Integer> list = new ArrayList<>(original);
+            ListChangeAccumulator<Integer> acc = new ListChangeAccumulator<>();
+            int next = 1000;
+
+            for(int k = 0; k < 30; ++k) {
+                int from = random.nextInt(list.size() + 1);
+                int removedSize = random.nextInt(Math.min(5, list.size() - from) + 1);
+                int addedSize = random.nextInt(5);
+
+                List<Integer> range = list.subList(from, from + removedSize);
+                List<Integer> removed = new ArrayList<>(range);
+                range.clear();
+                for(int i = 0; i < addedSize; ++i) {
+                    range.add(next++);
+                }
+
+                acc.add(QuasiListModification.create(from, removed, addedSize));
+            }
+
+            assertEquals(list, apply(acc.fetch(), original, list));
+            assertTrue(acc.isEmpty());
+        }
+    }
+
+    @Test
+    public void dropKeepsPositionsOfRemainingModifications() {
+        ListChangeAccumulator<Integer> acc = new ListChangeAccumulator<>();
+        acc.add(QuasiListModification.create(2, new ArrayList<>(), 3));
+        acc.add(QuasiListModification.create(10, new ArrayList<>(), 1));
+        acc.add(QuasiListModification.create(20, new ArrayList<>(), 1));
+
+        assertEquals(3, acc.getModificationCount());
+        assertEquals(10, acc.getModifications().get(1).getFrom());
+
+        acc.drop(1);
+        assertEquals(2, acc.getModificationCount());
+        assertEquals(10, acc.getModifications().get(0).getFrom());
+        assertEquals(20, acc.getModifications().get(1).getFrom());
+    }
+
+    @Test
+    public void manyScatteredModifications() {
+        int n = 100000;
+        ListChangeAccumulator<Integer> acc = new ListChangeAccumulator<>();
+        for(int i = n - 1; i >= 0; --i) {
+            acc.add(QuasiListModification.create(2 * i, new ArrayList<>(), 1));
+        }
+
+        QuasiListChange<Integer> change = acc.fetch();
+        assertEquals(n, change.getModificationCount());
+        for(int i = 0; i < n; ++i) {
+            assertEquals(3 * i, change.getModifications().get(i).getFrom());
+        }
+    }
+
+    private static List<Integer> apply(
+            QuasiListChange<Integer> change,
+            List<Integer> original,
+            List<Integer> target) {
+        List<Integer> list = new ArrayList<>(original);
+        for(QuasiListModification<? extends Integer> mod: change) {
+            List<Integer> range = list.subList(
+                    mod.getFrom(), mod.getFrom() + mod.getRemovedSize());
+            assertEquals(range, mod.getRemoved());
+            range.clear();
+            range.addAll(target.subList(mod.getFrom(), mod.getTo()));
+        }
+        return list;
+    }
+}
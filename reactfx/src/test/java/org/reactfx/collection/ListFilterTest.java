@@ -0,0 +1,129 @@
+package org.reactfx.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+import org.reactfx.value.Var;
+
+public class ListFilterTest {
+
+    private static <E> List<E> mirror(LiveList<E> list) {
+        List<E> mirror = new ArrayList<>(list);
+        list.observeChanges(ch -> {
+            for(ListModification<? extends E> mod: ch.getModifications()) {
+                mirror.subList(mod.getFrom(), mod.getFrom() + mod.getRemovedSize()).clear();
+                mirror.addAll(mod.getFrom(), mod.getAddedSubList());
+            }
+        });
+        return mirror;
+    }
+
+    @Test
+    public void testGet() {
+        ObservableList<Integer> ints = FXCollections.observableArrayList(1, 2, 3, 4, 5, 6);
+        LiveList<Integer> even = LiveList.filter(ints, i -> i % 2 == 0);
+
+        assertEquals(Arrays.asList(2, 4, 6), even);
+
+        even.pin();
+        assertEquals(Arrays.asList(2, 4, 6), even);
+        assertEquals(3, even.size());
+        assertEquals(6, even.get(2).intValue());
+    }
+
+    @Test
+    public void testChanges() {
+        ObservableList<Integer> ints = FXCollections.observableArrayList(1, 2, 3, 4, 5, 6);
+        LiveList<Integer> even = LiveList.filter(ints, i -> i % 2 == 0);
+        List<Integer> mirror = mirror(even);
+
+        List<Integer> removed = new ArrayList<>();
+        List<Integer> added = new ArrayList<>();
+        even.observeChanges(ch -> {
+            for(ListModification<? extends Integer> mod: ch.getModifications()) {
+                removed.addAll(mod.getRemoved());
+                added.addAll(mod.getAddedSubList());
+            }
+        });
+
+        ints.set(2, 8);
+        assertEquals(Arrays.asList(), removed);
+        assertEquals(Arrays.asList(8), added);
+        assertEquals(Arrays.asList(2, 8, 4, 6), even);
+
+        ints.remove(0, 4);
+        assertEquals(Arrays.asList(2, 8, 4), removed);
+        assertEquals(Arrays.asList(6), even);
+
+        ints.addAll(0, Arrays.asList(10, 11, 12));
+        assertEquals(Arrays.asList(10, 12, 6), even);
+
+        ints.removeIf(i -> i % 3 == 0);
+        assertEquals(Arrays.asList(10), even);
+        assertEquals(even, mirror);
+    }
+
+    @Test
+    public void testOddChangesAreIgnored() {
+        ObservableList<Integer> ints = FXCollections.observableArrayList(1, 2, 3);
+        LiveList<Integer> even = LiveList.filter(ints, i -> i % 2 == 0);
+
+        List<ListChange<? extends Integer>> changes = new ArrayList<>();
+        even.observeChanges(changes::add);
+
+        ints.add(5);
+        ints.set(0, 7);
+        assertEquals(0, changes.size());
+    }
+
+    @Test
+    public void testDynamicPredicate() {
+        ObservableList<Integer> ints = FXCollections.observableArrayList(1, 2, 3, 4, 5, 6, 7, 8);
+        Var<Predicate<Integer>> predicate = Var.newSimpleVar(i -> i % 2 == 0);
+        LiveList<Integer> filtered = LiveList.filterDynamic(ints, predicate);
+        List<Integer> mirror = mirror(filtered);
+
+        List<ListChange<? extends Integer>> changes = new ArrayList<>();
+        filtered.observeChanges(changes::add);
+
+        predicate.setValue(i -> i % 3 == 0);
+        assertEquals(Arrays.asList(3, 6), filtered);
+        assertEquals(filtered, mirror);
+        assertEquals(1, changes.size());
+
+        predicate.setValue(i -> i > 4);
+        assertEquals(Arrays.asList(5, 6, 7, 8), filtered);
+        assertEquals(filtered, mirror);
+
+        ints.add(0, 9);
+        assertEquals(Arrays.asList(9, 5, 6, 7, 8), filtered);
+        assertEquals(filtered, mirror);
+    }
+
+    @Test
+    public void testLaziness() {
+        ObservableList<Integer> ints = FXCollections.observableArrayList(1, 2, 3);
+        int[] evaluations = { 0 };
+        LiveList<Integer> even = LiveList.filter(ints, i -> {
+            evaluations[0] += 1;
+            return i % 2 == 0;
+        });
+
+        even.pin();
+        assertEquals(3, evaluations[0]);
+
+        ints.add(4);
+        assertEquals(4, evaluations[0]);
+
+        ints.remove(0);
+        assertEquals(4, evaluations[0]);
+    }
+}
@@ -0,0 +1,106 @@
+package org.reactfx.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+import org.reactfx.util.ToSemigroup;
+import org.reactfx.value.Val;
+
+public class ListGroupByTest {
+
+    private static <T, U> ToSemigroup<T, U> semigroup(
+            Function<? super T, ? extends U> f,
+            BinaryOperator<U> reduction) {
+        return new ToSemigroup<T, U>() {
+            @Override public U apply(T t) { return f.apply(t); }
+            @Override public U reduce(U left, U right) { return reduction.apply(left, right); }
+        };
+    }
+
+    private static final ToSemigroup<String, String> CONCAT =
+            semigroup(s -> s, String::concat);
+
+    @Test
+    public void testAggregatesWhenNotObserved() {
+        ObservableList<String> strings = FXCollections.observableArrayList("a1", "b1", "a2", "b2", "c1");
+        LiveMap<Character, Val<String>> groups = LiveList.groupBy(strings, s -> s.charAt(0), CONCAT);
+
+        assertEquals(3, groups.size());
+        assertEquals("a1a2", groups.get('a').getValue());
+        assertEquals("b1b2", groups.get('b').getValue());
+        assertNull(groups.get('d'));
+    }
+
+    @Test
+    public void testOnlyAffectedGroupsAreRecomputed() {
+        ObservableList<String> strings = FXCollections.observableArrayList("a1", "b1", "a2", "b2");
+        LiveMap<Character, Val<String>> groups = LiveList.groupBy(strings, s -> s.charAt(0), CONCAT);
+        Val<String> a = groups.get('a');
+        Val<String> b = groups.get('b');
+
+        List<String> aValues = new ArrayList<>();
+        List<String> bValues = new ArrayList<>();
+        a.values().subscribe(aValues::add);
+        b.values().subscribe(bValues::add);
+
+        strings.add(1, "a0");
+        strings.remove("b2");
+        strings.set(0, "a3");
+
+        assertEquals(Arrays.asList("a1a2", "a1a0a2", "a3a0a2"), aValues);
+        assertEquals(Arrays.asList("b1b2", "b1"), bValues);
+    }
+
+    @Test
+    public void testGroupsAppearAndDisappear() {
+        ObservableList<String> strings = FXCollections.observableArrayList("a1", "b1");
+        LiveMap<Character, Val<String>> groups = LiveList.groupBy(strings, s -> s.charAt(0), CONCAT);
+        List<MapChange<? extends Character, ? extends Val<String>>> changes = new ArrayList<>();
+        groups.observeChanges(changes::add);
+
+        strings.add("c1");
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList('c'), new ArrayList<>(changes.get(0).getAdded().keySet()));
+        assertEquals("c1", groups.get('c').getValue());
+
+        strings.remove("b1");
+        assertEquals(2, changes.size());
+        assertEquals(Arrays.asList('b'), new ArrayList<>(changes.get(1).getRemoved().keySet()));
+        assertFalse(groups.containsKey('b'));
+
+        // emptied and refilled by the same change
+        strings.set(0, "a2");
+        assertEquals(2, changes.size());
+        assertEquals("a2", groups.get('a').getValue());
+    }
+
+    @Test
+    public void testSum() {
+        ObservableList<Integer> ints = FXCollections.observableArrayList();
+        for(int i = 0; i < 1000; ++i) {
+            ints.add(i);
+        }
+        ToSemigroup<Integer, Integer> sum = semigroup(i -> i, Integer::sum);
+        LiveMap<Integer, Val<Integer>> sums = LiveList.groupBy(ints, i -> i % 3, sum);
+        Val<Integer> zero = sums.get(0);
+        zero.pin();
+
+        ints.remove(0, 500);
+        int expected = 0;
+        for(int i = 500; i < 1000; ++i) {
+            if(i % 3 == 0) {
+                expected += i;
+            }
+        }
+        assertEquals(expected, zero.getValue().intValue());
+    }
+}
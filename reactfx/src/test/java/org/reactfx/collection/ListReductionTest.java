@@ -63,6 +63,28 @@ public class ListReductionTest {
         assertEquals(31, lastObserved.getValue().intValue());
     }
 
+    @Test
+    public void testModificationsAppliedOnDemand() {
+        LiveList<Integer> list = new LiveArrayList<>(1, 2, 3, 4, 5);
+        Val<Integer> sum = list.reduce((a, b) -> a + b);
+        int[] invalidations = { 0 };
+        sum.observeInvalidations(oldVal -> ++invalidations[0]);
+        assertEquals(15, sum.getValue().intValue());
+
+        // several modifications between two reads
+        list.set(0, 10);
+        list.add(2, 7);
+        list.remove(4);
+        list.addAll(1, Arrays.asList(1, 1, 1));
+        list.set(5, 0);
+        assertEquals(1, invalidations[0]);
+        assertEquals(Arrays.asList(10, 1, 1, 1, 2, 0, 3, 5), list);
+        assertEquals(23, sum.getValue().intValue());
+
+        list.remove(0, 4);
+        assertEquals(10, sum.getValue().intValue());
+    }
+
     @Test
     public void testRecursion() {
         SuspendableList<Integer> list = new LiveArrayList<>(1, 1, 1, 1, 1).suspendable();
@@ -90,4 +112,26 @@ public class ListReductionTest {
         list.set(2, 0);
         assertThat(lastObserved.getValue().intValue(), greaterThanOrEqualTo(1000));
     }
+
+    @Test
+    public void testParallelReductionOfLargeList() {
+        LiveList<Long> list = new LiveArrayList<>();
+        for(long i = 0; i < 100000; ++i) {
+            list.add(i);
+        }
+        Val<Long> sum = list.reduceParallel(Long::sum);
+        assertEquals(4999950000L, sum.getValue().longValue());
+
+        Var<Long> lastObserved = Var.newSimpleVar(null);
+        sum.observeChanges((obs, oldVal, newVal) -> lastObserved.setValue(newVal));
+        assertEquals(4999950000L, sum.getValue().longValue());
+
+        Long[] ones = new Long[50000];
+        Arrays.fill(ones, 1L);
+        list.addAll(10, Arrays.asList(ones));
+        assertEquals(4999950000L + 50000, lastObserved.getValue().longValue());
+
+        list.remove(0, 100000);
+        assertEquals(sum.getValue(), list.stream().reduce(Long::sum).get());
+    }
 }
@@ -0,0 +1,179 @@
+package org.reactfx.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+import org.reactfx.ObservableBase;
+import org.reactfx.value.Var;
+
+public class ListSortTest {
+
+    private static <E> List<E> mirror(LiveList<E> list) {
+        List<E> mirror = new ArrayList<>(list);
+        list.observeChanges(ch -> {
+            for(ListModification<? extends E> mod: ch.getModifications()) {
+                mirror.subList(mod.getFrom(), mod.getFrom() + mod.getRemovedSize()).clear();
+                mirror.addAll(mod.getFrom(), mod.getAddedSubList());
+            }
+        });
+        return mirror;
+    }
+
+    private static <E> List<E> sortedCopy(List<E> list, Comparator<? super E> cmp) {
+        List<E> copy = new ArrayList<>(list);
+        copy.sort(cmp);
+        return copy;
+    }
+
+    @Test
+    public void testGet() {
+        ObservableList<Integer> ints = FXCollections.observableArrayList(3, 1, 2);
+        LiveList<Integer> sorted = LiveList.sortedBy(ints, Comparator.naturalOrder());
+
+        assertEquals(Arrays.asList(1, 2, 3), sorted);
+
+        sorted.pin();
+        assertEquals(Arrays.asList(1, 2, 3), sorted);
+    }
+
+    @Test
+    public void testSingleElementChanges() {
+        ObservableList<Integer> ints = FXCollections.observableArrayList(5, 1, 9, 3);
+        LiveList<Integer> sorted = LiveList.sortedBy(ints, Comparator.naturalOrder());
+
+        List<ListModification<? extends Integer>> mods = new ArrayList<>();
+        sorted.observeChanges(ch -> mods.addAll(ch.getModifications()));
+
+        ints.add(4);
+        assertEquals(Arrays.asList(1, 3, 4, 5, 9), sorted);
+        assertEquals(1, mods.size());
+        assertEquals(2, mods.get(0).getFrom());
+        assertEquals(0, mods.get(0).getRemovedSize());
+        assertEquals(1, mods.get(0).getAddedSize());
+
+        mods.clear();
+        ints.remove(Integer.valueOf(9));
+        assertEquals(Arrays.asList(1, 3, 4, 5), sorted);
+        assertEquals(1, mods.size());
+        assertEquals(4, mods.get(0).getFrom());
+        assertEquals(Arrays.asList(9), mods.get(0).getRemoved());
+        assertEquals(0, mods.get(0).getAddedSize());
+
+        // replacement that keeps the sorted position
+        mods.clear();
+        ints.set(ints.indexOf(3), 2);
+        assertEquals(Arrays.asList(1, 2, 4, 5), sorted);
+        assertEquals(1, mods.size());
+        assertEquals(1, mods.get(0).getFrom());
+        assertEquals(Arrays.asList(3), mods.get(0).getRemoved());
+        assertEquals(1, mods.get(0).getAddedSize());
+    }
+
+    @Test
+    public void testStability() {
+        ObservableList<String> strings = FXCollections.observableArrayList("bb", "a", "cc", "d");
+        LiveList<String> sorted = LiveList.sortedBy(strings, Comparator.comparingInt(String::length));
+        sorted.pin();
+
+        assertEquals(Arrays.asList("a", "d", "bb", "cc"), sorted);
+
+        strings.add(2, "e");
+        assertEquals(Arrays.asList("a", "e", "d", "bb", "cc"), sorted);
+
+        strings.add(0, "ff");
+        assertEquals(Arrays.asList("a", "e", "d", "ff", "bb", "cc"), sorted);
+    }
+
+    @Test
+    public void testRandomChanges() {
+        Random random = new Random(42);
+        ObservableList<Integer> ints = FXCollections.observableArrayList();
+        LiveList<Integer> sorted = LiveList.sortedBy(ints, Comparator.comparingInt(i -> i / 10));
+        List<Integer> mirror = mirror(sorted);
+
+        for(int k = 0; k < 1000; ++k) {
+            int size = ints.size();
+            if(size > 0 && random.nextInt(3) == 0) {
+                int from = random.nextInt(size);
+                int to = from + random.nextInt(Math.min(size - from, 5) + 1);
+                ints.remove(from, to);
+            } else {
+                List<Integer> added = new ArrayList<>();
+                for(int j = random.nextInt(5); j >= 0; --j) {
+                    added.add(random.nextInt(100));
+                }
+                ints.addAll(random.nextInt(size + 1), added);
+            }
+            List<Integer> expected = sortedCopy(ints, Comparator.comparingInt(i -> i / 10));
+            assertEquals(expected, sorted);
+            assertEquals(expected, mirror);
+        }
+    }
+
+    @Test
+    public void testDynamicComparator() {
+        ObservableList<Integer> ints = FXCollections.observableArrayList(1, 2, 3, 4, 5);
+        Var<Comparator<Integer>> comparator = Var.newSimpleVar(Comparator.naturalOrder());
+        LiveList<Integer> sorted = LiveList.sortedByDynamic(ints, comparator);
+        List<Integer> mirror = mirror(sorted);
+
+        List<ListModification<? extends Integer>> mods = new ArrayList<>();
+        sorted.observeChanges(ch -> mods.addAll(ch.getModifications()));
+
+        // moves 1 to the end; 2, 3, 4, 5 keep their relative order
+        comparator.setValue(Comparator.comparing(i -> i == 1));
+        assertEquals(Arrays.asList(2, 3, 4, 5, 1), sorted);
+        assertEquals(sorted, mirror);
+
+        mods.clear();
+        // swaps 3 and 4 only
+        comparator.setValue(Comparator.comparing((Integer i) -> i == 1).thenComparing(i -> i == 3));
+        assertEquals(Arrays.asList(2, 4, 5, 3, 1), sorted);
+        assertEquals(sorted, mirror);
+        assertEquals(1, mods.size());
+        assertEquals(1, mods.get(0).getFrom());
+        assertEquals(3, mods.get(0).getAddedSize());
+    }
+
+    @Test
+    public void testRepeatedInsertionsAtTheSamePosition() {
+        // all elements compare equal, so the sorted order is the source order,
+        // maintained by the labels alone
+        ObservableList<Integer> ints = FXCollections.observableArrayList(0, 1);
+        LiveList<Integer> sorted = LiveList.sortedBy(ints, (a, b) -> 0);
+        List<Integer> mirror = mirror(sorted);
+
+        for(int i = 2; i < 1000; ++i) {
+            ints.add(1, i); // exhausts the gap between the first two labels
+            ints.add(0, -i); // exhausts the space before the first label
+            ints.add(i); // and after the last label
+        }
+        assertEquals(ints, sorted);
+        assertEquals(ints, mirror);
+    }
+
+    @Test
+    public void testUnobservedViewDoesNotObserveItsInputs() {
+        LiveList<Integer> ints = new LiveArrayList<>(3, 1, 2);
+        LiveList<Integer> source = ints.map(i -> i);
+        Var<Comparator<Integer>> cmp = Var.newSimpleVar(Comparator.naturalOrder());
+        LiveList<Integer> sorted = LiveList.sortedByDynamic(source, cmp);
+
+        assertEquals(Arrays.asList(1, 2, 3), sorted);
+        assertFalse(((ObservableBase<?, ?>) source).isObservingInputs());
+
+        ints.add(0);
+        assertEquals(Arrays.asList(0, 1, 2, 3), sorted);
+        cmp.setValue(Comparator.reverseOrder());
+        assertEquals(Arrays.asList(3, 2, 1, 0), sorted);
+    }
+}
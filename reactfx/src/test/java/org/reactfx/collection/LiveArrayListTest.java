@@ -0,0 +1,61 @@
+package org.reactfx.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class LiveArrayListTest {
+
+    @Test
+    public void removeAllEmitsOneChangeWithRanges() {
+        LiveList<Integer> list = new LiveArrayList<>(1, 2, 3, 4, 5, 6, 7, 3);
+        List<QuasiListChange<? extends Integer>> changes = new ArrayList<>();
+        list.observeQuasiChanges(changes::add);
+
+        assertTrue(list.removeAll(Arrays.asList(2, 3, 6, 7)));
+
+        assertEquals(Arrays.asList(1, 4, 5), list);
+        assertEquals(1, changes.size());
+        List<? extends QuasiListModification<? extends Integer>> mods =
+                changes.get(0).getModifications();
+        assertEquals(2, mods.size());
+        assertEquals(1, mods.get(0).getFrom());
+        assertEquals(Arrays.asList(2, 3), mods.get(0).getRemoved());
+        assertEquals(3, mods.get(1).getFrom());
+        assertEquals(Arrays.asList(6, 7, 3), mods.get(1).getRemoved());
+    }
+
+    @Test
+    public void retainAllEmitsOneChangeWithRanges() {
+        LiveList<Integer> list = new LiveArrayList<>(1, 2, 3, 4, 5, 6);
+        List<QuasiListChange<? extends Integer>> changes = new ArrayList<>();
+        list.observeQuasiChanges(changes::add);
+
+        assertTrue(list.retainAll(Arrays.asList(1, 4, 5, 9)));
+
+        assertEquals(Arrays.asList(1, 4, 5), list);
+        assertEquals(1, changes.size());
+        List<? extends QuasiListModification<? extends Integer>> mods =
+                changes.get(0).getModifications();
+        assertEquals(2, mods.size());
+        assertEquals(1, mods.get(0).getFrom());
+        assertEquals(Arrays.asList(2, 3), mods.get(0).getRemoved());
+        assertEquals(3, mods.get(1).getFrom());
+        assertEquals(Arrays.asList(6), mods.get(1).getRemoved());
+    }
+
+    @Test
+    public void noChangeWhenNothingIsRemoved() {
+        LiveList<Integer> list = new LiveArrayList<>(1, 2, 3);
+        List<QuasiListChange<? extends Integer>> changes = new ArrayList<>();
+        list.observeQuasiChanges(changes::add);
+
+        assertFalse(list.removeAll(Arrays.asList(4, 5)));
+        assertFalse(list.retainAll(Arrays.asList(1, 2, 3)));
+        assertEquals(0, changes.size());
+    }
+}
@@ -0,0 +1,137 @@
+package org.reactfx.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LiveChunkedListTest {
+
+    @Test
+    public void randomModificationsAreReflectedInNotifications() {
+        Random random = new Random(7);
+        LiveChunkedList<Integer> list = new LiveChunkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        List<Integer> mirror = new ArrayList<>();
+        list.observeChanges(ch -> {
+            for(ListModification<? extends Integer> mod: ch) {
+                List<Integer> range = mirror.subList(
+                        mod.getFrom(), mod.getFrom() + mod.getRemovedSize());
+                assertEquals(range, mod.getRemoved());
+                range.clear();
+                range.addAll(mod.getAddedSubList());
+            }
+        });
+
+        int next = 0;
+        for(int k = 0; k < 2000; ++k) {
+            int size = expected.size();
+            switch(random.nextInt(6)) {
+                case 0: {
+                    int i = random.nextInt(size + 1);
+                    list.add(i, next);
+                    expected.add(i, next++);
+                    break;
+                }
+                case 1: {
+                    int i = random.nextInt(size + 1);
+                    List<Integer> elems = new ArrayList<>();
+                    for(int j = random.nextInt(150); j > 0; --j) {
+                        elems.add(next++);
+                    }
+                    list.addAll(i, elems);
+                    expected.addAll(i, elems);
+                    break;
+                }
+                case 2: {
+                    if(size > 0) {
+                        int i = random.nextInt(size);
+                        assertEquals(expected.remove(i), list.remove(i));
+                    }
+                    break;
+                }
+                case 3: {
+                    int from = random.nextInt(size + 1);
+                    int to = from + random.nextInt(Math.min(200, size - from) + 1);
+                    list.remove(from, to);
+                    expected.subList(from, to).clear();
+                    break;
+                }
+                case 4: {
+                    if(size > 0) {
+                        int i = random.nextInt(size);
+                        assertEquals(expected.set(i, next), list.set(i, next));
+                        ++next;
+                    }
+                    break;
+                }
+                case 5: {
+                    int i = random.nextInt(size + 1);
+                    list.add(i, next);
+                    expected.add(i, next++);
+                    break;
+                }
+            }
+            assertEquals(expected.size(), list.size());
+        }
+
+        assertEquals(expected, new ArrayList<>(list));
+        assertEquals(expected, mirror);
+        for(int i = 0; i < expected.size(); ++i) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void headInsertion() {
+        LiveChunkedList<Integer> list = new LiveChunkedList<>();
+        for(int i = 0; i < 10000; ++i) {
+            list.add(0, i);
+        }
+        assertEquals(10000, list.size());
+        assertEquals(Integer.valueOf(9999), list.get(0));
+        assertEquals(Integer.valueOf(0), list.get(9999));
+    }
+
+    @Test
+    public void bulkRemoval() {
+        LiveChunkedList<Integer> list = new LiveChunkedList<>(1, 2, 3, 4, 5, 6);
+        List<QuasiListChange<? extends Integer>> changes = new ArrayList<>();
+        list.observeQuasiChanges(changes::add);
+
+        assertTrue(list.removeAll(Arrays.asList(2, 3, 6)));
+        assertEquals(Arrays.asList(1, 4, 5), list);
+        assertEquals(1, changes.size());
+        assertEquals(2, changes.get(0).getModificationCount());
+    }
+
+    @Test
+    public void subListView() {
+        List<Integer> elems = new ArrayList<>();
+        for(int i = 0; i < 1000; ++i) {
+            elems.add(i);
+        }
+        LiveChunkedList<Integer> list = new LiveChunkedList<>(elems);
+        List<QuasiListChange<? extends Integer>> changes = new ArrayList<>();
+        list.observeQuasiChanges(changes::add);
+
+        List<Integer> sub = list.subList(100, 900);
+        assertEquals(elems.subList(100, 900), sub);
+        assertEquals(elems.subList(200, 300), sub.subList(100, 200));
+
+        sub.subList(100, 700).clear();
+        assertEquals(1, changes.size());
+        assertEquals(200, sub.size());
+        assertEquals(400, list.size());
+
+        sub.add(0, -1);
+        sub.set(1, -2);
+        assertEquals(Arrays.asList(98, 99, -1, -2, 101), list.subList(98, 103));
+        assertEquals(Integer.valueOf(899), sub.get(sub.size() - 1));
+        assertEquals(Integer.valueOf(900), list.get(100 + sub.size()));
+    }
+}
@@ -0,0 +1,124 @@
+package org.reactfx.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.reactfx.Guard;
+
+public class LiveHashMapTest {
+
+    private static Map<String, Integer> mapOf(Object... keysAndValues) {
+        Map<String, Integer> map = new HashMap<>();
+        for(int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((String) keysAndValues[i], (Integer) keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    @Test
+    public void testPutAllIsReportedOnce() {
+        LiveHashMap<String, Integer> map = new LiveHashMap<>(mapOf("a", 1, "b", 2));
+        List<MapChange<? extends String, ? extends Integer>> changes = new ArrayList<>();
+        map.observeChanges(changes::add);
+
+        map.putAll(mapOf("b", 2, "c", 3, "a", 10));
+        assertEquals(1, changes.size());
+        assertEquals(mapOf("c", 3, "a", 10), changes.get(0).getAdded());
+        assertEquals(mapOf("a", 1), changes.get(0).getRemoved());
+
+        map.put("c", 3); // same value
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testSuspendedChangesAreNetted() {
+        LiveHashMap<String, Integer> base = new LiveHashMap<>(mapOf("a", 1, "b", 2));
+        SuspendableMap<String, Integer> map = base.suspendable();
+        List<MapChange<? extends String, ? extends Integer>> changes = new ArrayList<>();
+        map.observeChanges(changes::add);
+
+        try(Guard g = map.suspend()) {
+            base.put("a", 5);
+            base.put("a", 1);
+            base.remove("b");
+            base.put("b", 3);
+            base.put("c", 4);
+            base.remove("c");
+        }
+
+        assertEquals(1, changes.size());
+        assertEquals(mapOf("b", 3), changes.get(0).getAdded());
+        assertEquals(mapOf("b", 2), changes.get(0).getRemoved());
+    }
+
+    @Test
+    public void testManySuspendedChangesAreNetted() {
+        LiveHashMap<String, Integer> base = new LiveHashMap<>();
+        SuspendableMap<String, Integer> map = base.suspendable();
+        List<MapChange<? extends String, ? extends Integer>> changes = new ArrayList<>();
+        map.observeChanges(changes::add);
+
+        try(Guard g = map.suspend()) {
+            for(int i = 0; i < 10000; ++i) {
+                base.put("k" + i % 100, i);
+            }
+            for(int i = 0; i < 99; ++i) {
+                base.remove("k" + i);
+            }
+        }
+
+        assertEquals(1, changes.size());
+        assertEquals(mapOf("k99", 9999), changes.get(0).getAdded());
+        assertEquals(mapOf(), changes.get(0).getRemoved());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testEntrySetDoesNotAllowSetValue() {
+        LiveHashMap<String, Integer> map = new LiveHashMap<>(mapOf("a", 1));
+        map.entrySet().iterator().next().setValue(2);
+    }
+
+    @Test
+    public void testMapValues() {
+        LiveHashMap<String, Integer> map = new LiveHashMap<>(mapOf("a", 1));
+        LiveMap<String, String> strings = map.mapValues(i -> "#" + i);
+        List<MapChange<? extends String, ? extends String>> changes = new ArrayList<>();
+        strings.observeChanges(changes::add);
+
+        assertEquals("#1", strings.get("a"));
+
+        map.put("a", 2);
+        assertEquals(1, changes.size());
+        assertEquals(Collections.singletonMap("a", "#2"), changes.get(0).getAdded());
+        assertEquals(Collections.singletonMap("a", "#1"), changes.get(0).getRemoved());
+        assertEquals(Collections.singletonMap("a", "#2"), strings);
+    }
+
+    @Test
+    public void testFilterKeys() {
+        LiveHashMap<String, Integer> map = new LiveHashMap<>(mapOf("a", 1, "bb", 2));
+        LiveMap<String, Integer> shortKeys = map.filterKeys(k -> k.length() == 1);
+        List<MapChange<? extends String, ? extends Integer>> changes = new ArrayList<>();
+        shortKeys.observeChanges(changes::add);
+
+        assertEquals(mapOf("a", 1), shortKeys);
+
+        map.putAll(mapOf("c", 3, "dd", 4));
+        assertEquals(1, changes.size());
+        assertEquals(mapOf("c", 3), changes.get(0).getAdded());
+        assertEquals(2, shortKeys.size());
+
+        map.put("ee", 5);
+        assertEquals(1, changes.size());
+
+        map.remove("a");
+        assertEquals(mapOf("c", 3), shortKeys);
+        assertEquals(1, shortKeys.size());
+    }
+}
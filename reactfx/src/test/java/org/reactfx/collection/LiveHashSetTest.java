@@ -0,0 +1,93 @@
+package org.reactfx.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import javafx.collections.SetChangeListener;
+
+import org.junit.Test;
+import org.reactfx.Guard;
+
+public class LiveHashSetTest {
+
+    @SafeVarargs
+    private static <E> HashSet<E> setOf(E... elems) {
+        return new HashSet<>(Arrays.asList(elems));
+    }
+
+    @Test
+    public void testBulkChangeIsReportedOnce() {
+        LiveHashSet<Integer> set = new LiveHashSet<>(1, 2);
+        List<SetChange<? extends Integer>> changes = new ArrayList<>();
+        set.observeChanges(changes::add);
+
+        set.addAll(Arrays.asList(2, 3, 4, 5));
+        assertEquals(1, changes.size());
+        assertEquals(setOf(3, 4, 5), changes.get(0).getAdded());
+        assertEquals(setOf(), changes.get(0).getRemoved());
+
+        set.removeAll(Arrays.asList(1, 3, 7));
+        assertEquals(2, changes.size());
+        assertEquals(setOf(1, 3), changes.get(1).getRemoved());
+
+        set.add(2); // already present
+        set.remove(7); // not present
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void testSetChangeListenerGetsElementChanges() {
+        LiveHashSet<Integer> set = new LiveHashSet<>();
+        List<Integer> added = new ArrayList<>();
+        set.addListener((SetChangeListener<Integer>) ch -> {
+            if(ch.wasAdded()) {
+                added.add(ch.getElementAdded());
+            }
+        });
+
+        set.addAll(Arrays.asList(1, 2, 3));
+        assertEquals(setOf(1, 2, 3), new HashSet<>(added));
+    }
+
+    @Test
+    public void testSuspendedChangesAreNetted() {
+        LiveHashSet<Integer> base = new LiveHashSet<>(1, 2, 3);
+        SuspendableSet<Integer> set = base.suspendable();
+        List<SetChange<? extends Integer>> changes = new ArrayList<>();
+        set.observeChanges(changes::add);
+
+        try(Guard g = set.suspend()) {
+            base.add(4);
+            base.remove(4);
+            base.remove(1);
+            base.add(1);
+            base.remove(2);
+            base.add(5);
+        }
+
+        assertEquals(1, changes.size());
+        assertEquals(setOf(5), changes.get(0).getAdded());
+        assertEquals(setOf(2), changes.get(0).getRemoved());
+
+        try(Guard g = set.suspend()) {
+            base.add(6);
+            base.remove(6);
+        }
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testSize() {
+        LiveHashSet<Integer> set = new LiveHashSet<>(1, 2);
+        List<Integer> sizes = new ArrayList<>();
+        set.sizeProperty().values().subscribe(sizes::add);
+
+        set.addAll(Arrays.asList(3, 4));
+        set.clear();
+        assertEquals(Arrays.asList(2, 4, 0), sizes);
+    }
+}
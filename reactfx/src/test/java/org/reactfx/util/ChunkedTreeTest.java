@@ -0,0 +1,186 @@
+package org.reactfx.util;
+
+import static org.junit.Assert.*;
+import static org.reactfx.util.Either.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ChunkedTreeTest {
+
+    private static final ToSemigroup<Integer, Integer> SUM = new ToSemigroup<Integer, Integer>() {
+        @Override public Integer apply(Integer i) { return i; }
+        @Override public Integer reduce(Integer left, Integer right) { return left + right; }
+    };
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> list = new ArrayList<>(to - from);
+        for(int i = from; i < to; ++i) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static int sum(List<Integer> list) {
+        int sum = 0;
+        for(int i: list) {
+            sum += i;
+        }
+        return sum;
+    }
+
+    @Test
+    public void testMkTree() {
+        for(int n: new int[] { 0, 1, 31, 32, 33, 1000, 50000 }) {
+            List<Integer> list = range(0, n);
+            ChunkedTree<Integer, Integer> tree = ChunkedTree.mkTree(list, SUM);
+            assertEquals(n, tree.getLeafCount());
+            assertEquals(list, tree.asList());
+            assertEquals(sum(list), tree.getSummary(0).intValue());
+        }
+    }
+
+    @Test
+    public void testIteratorOverRange() {
+        List<Integer> list = range(0, 5000);
+        ChunkedTree<Integer, Integer> tree = ChunkedTree.mkTree(list, SUM);
+        Random random = new Random(0);
+        for(int k = 0; k < 100; ++k) {
+            int i = random.nextInt(list.size() + 1);
+            int j = random.nextInt(list.size() + 1);
+            List<Integer> collected = new ArrayList<>();
+            tree.iterator(Math.min(i, j), Math.max(i, j)).forEachRemaining(collected::add);
+            assertEquals(list.subList(Math.min(i, j), Math.max(i, j)), collected);
+        }
+    }
+
+    @Test
+    public void testDepthIsLogarithmic() {
+        ChunkedTree<Integer, Integer> tree = ChunkedTree.mkTree(range(0, 32 * 32 * 32), SUM);
+        assertEquals(3, tree.getDepth());
+
+        // build the same number of items one by one
+        ChunkedTree<Integer, Integer> appended = ChunkedTree.empty(SUM);
+        for(int i = 0; i < 32 * 32 * 32; ++i) {
+            appended = appended.append(i);
+        }
+        assertEquals(tree.asList(), appended.asList());
+        assertTrue(appended.getDepth() <= 4);
+    }
+
+    @Test
+    public void testRandomSplitsAndJoins() {
+        Random rnd = new Random(12345);
+        List<Integer> list = range(0, 5000);
+        ChunkedTree<Integer, Integer> tree = ChunkedTree.mkTree(list, SUM);
+
+        for(int k = 0; k < 500; ++k) {
+            int from = rnd.nextInt(list.size() + 1);
+            int to = from + rnd.nextInt(list.size() - from + 1);
+
+            // remove [from, to) and re-insert it at a random position
+            List<Integer> middle = new ArrayList<>(list.subList(from, to));
+            list.subList(from, to).clear();
+            int at = rnd.nextInt(list.size() + 1);
+            list.addAll(at, middle);
+
+            ChunkedTree<Integer, Integer> mid = tree.split(to)._1.split(from)._2;
+            ChunkedTree<Integer, Integer> rest = tree.removeLeafs(from, to);
+            tree = rest.split(at).map((l, r) -> l.join(mid).join(r));
+
+            assertEquals(list.size(), tree.getLeafCount());
+            int i = rnd.nextInt(list.size());
+            assertEquals(list.get(i), tree.getLeaf(i));
+        }
+
+        assertEquals(list, tree.asList());
+        assertTrue(tree.getDepth() <= 5);
+    }
+
+    @Test
+    public void testSummaryAndFoldBetween() {
+        List<Integer> list = range(0, 3000);
+        ChunkedTree<Integer, Integer> tree = ChunkedTree.mkTree(list, SUM)
+                .split(1234).map((l, r) -> l.join(r));
+        Random rnd = new Random(54321);
+        for(int k = 0; k < 200; ++k) {
+            int from = rnd.nextInt(list.size() + 1);
+            int to = from + rnd.nextInt(list.size() - from + 1);
+            int expected = sum(list.subList(from, to));
+            assertEquals(expected, tree.getSummaryBetween(from, to).orElse(0).intValue());
+            assertEquals(expected, tree.foldBetween(0, (acc, i) -> acc + i, from, to).intValue());
+        }
+        assertFalse(tree.getSummaryBetween(7, 7).isPresent());
+    }
+
+    @Test
+    public void testUpdateInsertRemove() {
+        List<Integer> list = range(0, 100);
+        ChunkedTree<Integer, Integer> tree = ChunkedTree.mkTree(list, SUM);
+
+        ChunkedTree<Integer, Integer> updated = tree.updateLeaf(50, 1000);
+        assertEquals(1000, updated.getLeaf(50).intValue());
+        assertEquals(50, tree.getLeaf(50).intValue()); // persistent
+        assertEquals(sum(list) + 950, updated.getSummary(0).intValue());
+
+        ChunkedTree<Integer, Integer> inserted = tree.insertLeaf(0, -1).insertLeaf(101, 100);
+        assertEquals(range(-1, 101), inserted.asList());
+
+        assertEquals(range(10, 100), tree.removeLeafs(0, 10).asList());
+        assertEquals(0, tree.removeLeafs(0, 100).getLeafCount());
+    }
+
+    @Test
+    public void testRandomSmallInsertionsAndRemovals() {
+        Random rnd = new Random(54321);
+        List<Integer> list = range(0, 3000);
+        ChunkedTree<Integer, Integer> tree = ChunkedTree.mkTree(list, SUM);
+
+        for(int k = 0; k < 3000; ++k) {
+            if(rnd.nextBoolean()) {
+                int at = rnd.nextInt(list.size() + 1);
+                List<Integer> items = range(0, rnd.nextInt(8));
+                list.addAll(at, items);
+                tree = tree.insertLeafs(at, items);
+            } else {
+                int from = rnd.nextInt(list.size() + 1);
+                int to = Math.min(from + rnd.nextInt(8), list.size());
+                list.subList(from, to).clear();
+                tree = tree.removeLeafs(from, to);
+            }
+            assertEquals(list.size(), tree.getLeafCount());
+            assertEquals(sum(list), tree.getSummary(0).intValue());
+        }
+
+        assertEquals(list, tree.asList());
+        assertTrue(tree.getDepth() <= 4);
+    }
+
+    @Test
+    public void testLocate() {
+        // items of lengths 1, 2, 3, ...
+        ChunkedTree<Integer, Integer> tree = ChunkedTree.mkTree(range(1, 201), SUM);
+        int total = tree.getSummary(0);
+
+        int offset = 0;
+        for(int i = 0; i < 200; ++i) {
+            int len = i + 1;
+            assertEquals(i, tree.locateProgressively(s -> s, offset).major);
+            assertEquals(0, tree.locateProgressively(s -> s, offset).minor);
+            assertEquals(i, tree.locateRegressively(s -> s, offset + len).major);
+            assertEquals(len, tree.locateRegressively(s -> s, offset + len).minor);
+            int pos = offset + len / 2;
+            BiIndex loc = tree.locate((s, p) -> p < s ? left(p) : right(p - s), pos);
+            assertEquals(i, loc.major);
+            assertEquals(len / 2, loc.minor);
+            offset += len;
+        }
+
+        BiIndex end = tree.locateProgressively(s -> s, total);
+        assertEquals(199, end.major);
+        assertEquals(200, end.minor);
+    }
+}
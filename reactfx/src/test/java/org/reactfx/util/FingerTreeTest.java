@@ -71,4 +71,32 @@ public class FingerTreeTest {
         assertEquals(list, bwRes);
     }
 
+    @Test
+    public void testParallelConstructionAndFold() {
+        final int n = 100000;
+
+        Integer[] arr = new Integer[n];
+        for(int i=0; i<n; ++i) arr[i] = i;
+        List<Integer> list = Arrays.asList(arr);
+
+        ToSemigroup<Integer, Long> sum = new ToSemigroup<Integer, Long>() {
+            @Override public Long apply(Integer i) { return (long) i; }
+            @Override public Long reduce(Long left, Long right) { return left + right; }
+        };
+        FingerTree<Integer, Long> tree = FingerTree.mkTreeParallel(list, sum);
+        assertEquals(list, tree.asList());
+        assertEquals((long) n * (n - 1) / 2, tree.getSummary(0L).longValue());
+
+        assertEquals(
+                tree.foldBetween(0L, (acc, i) -> acc + i, 123, 98765),
+                tree.foldBetweenParallel(0L, (acc, i) -> acc + i, Long::sum, 123, 98765));
+
+        // order is preserved for non-commutative folds
+        List<Integer> collected = tree.foldBetweenParallel(
+                Collections.<Integer>emptyList(),
+                (acc, i) -> { List<Integer> l = new ArrayList<>(acc); l.add(i); return l; },
+                (l, r) -> { List<Integer> res = new ArrayList<>(l); res.addAll(r); return res; },
+                0, 20000);
+        assertEquals(list.subList(0, 20000), collected);
+    }
 }
@@ -0,0 +1,147 @@
+package org.reactfx.util;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ObserverArrayTest {
+
+    private static Integer[] toArray(ObserverArray<Integer> arr) {
+        return arr.toArray(n -> new Integer[n]);
+    }
+
+    @Test
+    public void testRemoveWhileIterating() {
+        ObserverArray<Integer> arr = new ObserverArray<>();
+        arr.add(0);
+        arr.add(1);
+        arr.add(2);
+
+        Iterator<Integer> it = arr.iterator();
+        int i = 2;
+        List<Integer> iterated = new ArrayList<>();
+        while(it.hasNext()) {
+            arr.remove(i--);
+            iterated.add(it.next());
+        }
+
+        assertEquals(-1, i);
+        assertEquals(Arrays.asList(0, 1, 2), iterated);
+        assertEquals(0, arr.size());
+    }
+
+    @Test
+    public void testAddWhileIterating() {
+        ObserverArray<Integer> arr = new ObserverArray<>();
+        arr.add(0);
+        arr.add(1);
+        arr.add(2);
+
+        Iterator<Integer> it = arr.iterator();
+        int i = 2;
+        while(it.hasNext()) {
+            arr.add(i--);
+            it.next();
+        }
+
+        assertEquals(-1, i);
+        assertArrayEquals(new Integer[] { 0, 1, 2, 2, 1, 0 }, toArray(arr));
+    }
+
+    @Test
+    public void testRemoveInForEach() {
+        ObserverArray<Integer> arr = new ObserverArray<>();
+        arr.add(0);
+        arr.add(1);
+        arr.add(2);
+
+        List<Integer> iterated = new ArrayList<>();
+        arr.forEach(i -> {
+            arr.remove(2-i);
+            iterated.add(i);
+        });
+
+        assertEquals(Arrays.asList(0, 1, 2), iterated);
+        assertEquals(0, arr.size());
+    }
+
+    @Test
+    public void testAddInForEach() {
+        ObserverArray<Integer> arr = new ObserverArray<>();
+        arr.add(0);
+        arr.add(1);
+        arr.add(2);
+
+        List<Integer> iterated = new ArrayList<>();
+        arr.forEach(i -> {
+            arr.add(2-i);
+            iterated.add(i);
+        });
+
+        assertEquals(Arrays.asList(0, 1, 2), iterated);
+        assertArrayEquals(new Integer[] { 0, 1, 2, 2, 1, 0 }, toArray(arr));
+    }
+
+    @Test
+    public void testSnapshotSkipsTombstones() {
+        ObserverArray<Integer> arr = new ObserverArray<>();
+        for(int i = 0; i < 5; ++i) {
+            arr.add(i);
+        }
+        arr.remove(1);
+        arr.remove(3);
+
+        List<Integer> iterated = new ArrayList<>();
+        arr.iterator().forEachRemaining(iterated::add);
+        assertEquals(Arrays.asList(0, 2, 4), iterated);
+        assertEquals(Integer.valueOf(2), arr.get(1));
+        assertEquals(Integer.valueOf(4), arr.get(2));
+    }
+
+    @Test
+    public void testRemoveFirstOccurrenceOfDuplicate() {
+        ObserverArray<String> arr = new ObserverArray<>();
+        for(int i = 0; i < 40; ++i) { // enough to use the hash index
+            arr.add("x");
+            arr.add("y" + i);
+        }
+        for(int i = 0; i < 39; ++i) {
+            assertTrue(arr.remove("x"));
+            assertEquals("y" + i, arr.get(i));
+            assertEquals("x", arr.get(i + 1));
+        }
+        assertTrue(arr.remove("x"));
+        assertFalse(arr.remove("x"));
+        assertEquals(40, arr.size());
+    }
+
+    @Test
+    public void testRandomAgainstArrayList() {
+        Random random = new Random(0);
+        ObserverArray<Integer> arr = new ObserverArray<>();
+        List<Integer> expected = new ArrayList<>();
+        for(int step = 0; step < 20000; ++step) {
+            int op = random.nextInt(4);
+            Integer x = random.nextInt(64);
+            if(op == 0 && !expected.isEmpty()) {
+                x = expected.get(random.nextInt(expected.size()));
+            }
+            if(op >= 2 && expected.size() < 200) {
+                arr.add(x);
+                expected.add(x);
+            } else {
+                assertEquals(expected.remove(x), arr.remove(x));
+            }
+            assertEquals(expected.size(), arr.size());
+            if(step % 100 == 0) {
+                assertEquals(expected, Arrays.asList(toArray(arr)));
+            }
+        }
+    }
+}
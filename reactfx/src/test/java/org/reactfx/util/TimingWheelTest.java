@@ -0,0 +1,134 @@
+package org.reactfx.util;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TimingWheelTest {
+
+    private static class ManualDriver implements TimingWheel.Driver {
+        boolean running = false;
+
+        @Override
+        public void start(TimingWheel wheel) {
+            assertFalse(running);
+            running = true;
+        }
+
+        @Override
+        public void stop() {
+            assertTrue(running);
+            running = false;
+        }
+    }
+
+    private long now = 0;
+    private final ManualDriver driver = new ManualDriver();
+
+    // 1ms ticks, 8 buckets
+    private final TimingWheel wheel = new TimingWheel(1_000_000, 8, () -> now, driver);
+
+    private void advanceMillis(long millis) {
+        for(long i = 0; i < millis; ++i) {
+            now += 1_000_000;
+            if(driver.running) {
+                wheel.advance();
+            }
+        }
+    }
+
+    @Test
+    public void testRestartPostponesAction() {
+        List<String> fired = new ArrayList<>();
+        Timer timer = wheel.create(Duration.ofMillis(5), () -> fired.add("a"));
+
+        timer.restart();
+        assertTrue(driver.running);
+        advanceMillis(4);
+        timer.restart();
+        advanceMillis(4);
+        assertEquals(0, fired.size());
+        advanceMillis(1);
+        assertEquals(Arrays.asList("a"), fired);
+        assertFalse(driver.running);
+    }
+
+    @Test
+    public void testStopPreventsAction() {
+        List<String> fired = new ArrayList<>();
+        Timer a = wheel.create(Duration.ofMillis(3), () -> fired.add("a"));
+        Timer b = wheel.create(Duration.ofMillis(3), () -> fired.add("b"));
+
+        // a stops b, which expires at the same tick
+        Timer stopper = wheel.create(Duration.ofMillis(3), b::stop);
+        stopper.restart();
+        a.restart();
+        b.restart();
+        advanceMillis(3);
+        assertEquals(Arrays.asList("a"), fired);
+    }
+
+    @Test
+    public void testDelaysLongerThanOneRevolution() {
+        List<Long> fired = new ArrayList<>();
+        wheel.runLater(Duration.ofMillis(20), () -> fired.add(now / 1_000_000));
+        wheel.runLater(Duration.ofMillis(4), () -> fired.add(now / 1_000_000));
+        advanceMillis(30);
+        assertEquals(Arrays.asList(4L, 20L), fired);
+    }
+
+    @Test
+    public void testPeriodic() {
+        List<Long> fired = new ArrayList<>();
+        Timer timer = wheel.createPeriodic(Duration.ofMillis(3), () -> fired.add(now / 1_000_000));
+        timer.restart();
+        advanceMillis(10);
+        timer.stop();
+        advanceMillis(10);
+        assertEquals(Arrays.asList(3L, 6L, 9L), fired);
+        assertFalse(driver.running);
+    }
+
+    @Test
+    public void testLateTickFiresAllExpiredTimersInOrder() {
+        List<String> fired = new ArrayList<>();
+        wheel.runLater(Duration.ofMillis(2), () -> fired.add("a"));
+        wheel.runLater(Duration.ofMillis(1), () -> fired.add("b"));
+        wheel.runLater(Duration.ofMillis(50), () -> fired.add("c"));
+
+        // a single late tick
+        now += 100_000_000;
+        wheel.advance();
+        assertEquals(3, fired.size());
+        assertEquals(Arrays.asList("b", "a"), fired.subList(0, 2));
+    }
+
+    @Test
+    public void testZeroDelayFiresOnNextTick() {
+        List<String> fired = new ArrayList<>();
+        Timer[] timer = new Timer[1];
+        timer[0] = wheel.create(Duration.ZERO, () -> {
+            fired.add("a");
+            if(fired.size() < 3) {
+                timer[0].restart(); // must not fire again on the same tick
+            }
+        });
+
+        timer[0].restart();
+        assertTrue(driver.running);
+
+        // a tick that arrives before the clock moves still counts
+        wheel.advance();
+        assertEquals(Arrays.asList("a"), fired);
+        wheel.advance();
+        assertEquals(Arrays.asList("a", "a"), fired);
+        advanceMillis(1);
+        assertEquals(Arrays.asList("a", "a", "a"), fired);
+        assertFalse(driver.running);
+    }
+}
@@ -0,0 +1,121 @@
+package org.reactfx.value;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.reactfx.Counter;
+import org.reactfx.Guard;
+
+public class GlitchFreePropagationTest {
+
+    @Test
+    public void diamondIsRecomputedOnceFromConsistentInputs() {
+        try(Guard g = GlitchFreePropagation.enable()) {
+            Var<Integer> src = Var.newSimpleVar(1);
+            Val<Integer> a = src.map(i -> i + 1);
+            Val<Integer> b = src.map(i -> i * 2).map(i -> i * 5);
+            Counter computations = new Counter();
+            Val<Integer> sum = Val.combine(a, b, (x, y) -> {
+                computations.inc();
+                return x + y;
+            });
+
+            List<Integer> observed = new ArrayList<>();
+            sum.values().subscribe(observed::add);
+            computations.reset();
+
+            src.setValue(2);
+            src.setValue(3);
+
+            assertEquals(Arrays.asList(12, 23, 34), observed);
+            assertEquals(2, computations.get());
+        }
+    }
+
+    @Test
+    public void primitiveDiamondIsRecomputedOnce() {
+        try(Guard g = GlitchFreePropagation.enable()) {
+            IntVar src = IntVar.newSimpleVar(1);
+            IntVal a = src.mapToInt(i -> i + 1);
+            IntVal b = src.mapToInt(i -> i * 2).mapToInt(i -> i * 5);
+            Val<Integer> sum = Val.combine(a, b, Integer::sum);
+
+            List<Integer> observed = new ArrayList<>();
+            sum.values().subscribe(observed::add);
+
+            src.setValue(2);
+
+            assertEquals(Arrays.asList(12, 23), observed);
+        }
+    }
+
+    @Test
+    public void oldValueIsPreservedUntilNotification() {
+        try(Guard g = GlitchFreePropagation.enable()) {
+            Var<Integer> src = Var.newSimpleVar(1);
+            Val<Integer> a = src.map(i -> i + 1);
+            Val<Integer> b = src.map(i -> i * 2).map(i -> i * 5);
+            Val<Integer> sum = Val.combine(a, b, (x, y) -> x + y);
+
+            List<Integer> oldValues = new ArrayList<>();
+            sum.observeChanges((obs, oldVal, newVal) -> oldValues.add(oldVal));
+
+            src.setValue(2);
+            src.setValue(3);
+
+            assertEquals(Arrays.asList(12, 23), oldValues);
+        }
+    }
+
+    @Test
+    public void disabledByDefault() {
+        assertFalse(GlitchFreePropagation.isEnabled());
+        GlitchFreePropagation.runGlitchFree(
+                () -> assertTrue(GlitchFreePropagation.isEnabled()));
+        assertFalse(GlitchFreePropagation.isEnabled());
+    }
+
+    @Test
+    public void enabledPerThread() throws InterruptedException {
+        try(Guard g = GlitchFreePropagation.enable()) {
+            boolean[] enabledOnOtherThread = { true };
+            Thread t = new Thread(() -> {
+                enabledOnOtherThread[0] = GlitchFreePropagation.isEnabled();
+            });
+            t.start();
+            t.join();
+            assertFalse(enabledOnOtherThread[0]);
+        }
+    }
+
+    @Test
+    public void propagationOnOtherThreadIsNotDeferred() throws InterruptedException {
+        try(Guard g = GlitchFreePropagation.enable()) {
+            Var<Integer> src = Var.newSimpleVar(1);
+            Val<Integer> doubled = src.map(i -> i * 2);
+            List<Integer> otherThreadValues = new ArrayList<>();
+            doubled.observeInvalidations(old -> {
+                // runs while this thread is delivering scheduled notifications
+                Thread t = new Thread(() -> GlitchFreePropagation.runGlitchFree(() -> {
+                    Var<Integer> otherSrc = Var.newSimpleVar(1);
+                    Val<Integer> otherDoubled = otherSrc.map(i -> i * 2);
+                    otherDoubled.values().subscribe(otherThreadValues::add);
+                    otherSrc.setValue(5);
+                }));
+                t.start();
+                try {
+                    t.join();
+                } catch(InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+
+            src.setValue(2);
+            assertEquals(Arrays.asList(2, 10), otherThreadValues);
+        }
+    }
+}
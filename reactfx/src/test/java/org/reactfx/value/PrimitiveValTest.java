@@ -0,0 +1,101 @@
+package org.reactfx.value;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.beans.property.SimpleDoubleProperty;
+
+import org.junit.Test;
+import org.reactfx.Subscription;
+
+public class PrimitiveValTest {
+
+    @Test
+    public void testMapAndCombine() {
+        DoubleVar width = DoubleVar.newSimpleVar(10.0);
+        DoubleVar height = DoubleVar.newSimpleVar(2.0);
+        DoubleVal area = DoubleVal.combine(width, height, (w, h) -> w * h);
+        IntVal rounded = area.mapToDouble(a -> a / 3).mapToInt(a -> (int) Math.round(a));
+
+        assertEquals(20.0, area.getAsDouble(), 0.0);
+        assertEquals(7, rounded.getAsInt());
+
+        List<Integer> values = new ArrayList<>();
+        rounded.values().subscribe(values::add);
+        width.set(4.0);
+        height.set(6.0);
+        assertEquals(Arrays.asList(7, 3, 8), values);
+        assertEquals(Integer.valueOf(8), rounded.getValue());
+    }
+
+    @Test
+    public void testLazyBinding() {
+        IntVar src = IntVar.newSimpleVar(1);
+        IntValBase mapped = (IntValBase) src.mapToInt(i -> i * 10);
+        LongVal mappedTwice = mapped.mapToLong(i -> i + 1L);
+        assertFalse(mapped.isObservingInputs());
+
+        Subscription sub = mappedTwice.pin();
+        assertTrue(mapped.isObservingInputs());
+        src.set(2);
+        assertEquals(21L, mappedTwice.getAsLong());
+
+        sub.unsubscribe();
+        assertFalse(mapped.isObservingInputs());
+        src.set(3);
+        assertEquals(31L, mappedTwice.getAsLong());
+    }
+
+    @Test
+    public void testInvalidatedValueIsPassedOnlyWhenUsed() {
+        LongVar src = LongVar.newSimpleVar(1L);
+
+        // only observers ignoring the value
+        int[] invalidations = { 0 };
+        src.addListener(obs -> ++invalidations[0]);
+        src.mapToObj(Long::toString).pin();
+        src.set(2L);
+        assertEquals(1, invalidations[0]);
+
+        // an observer that uses the value
+        List<Long> oldValues = new ArrayList<>();
+        Subscription sub = src.observeInvalidations(oldValues::add);
+        src.set(3L);
+        assertEquals(Arrays.asList(2L), oldValues);
+
+        List<Long> changes = new ArrayList<>();
+        src.observeChanges((obs, oldVal, newVal) -> changes.add(oldVal));
+        sub.unsubscribe();
+        src.set(4L);
+        assertEquals(Arrays.asList(3L), changes);
+        assertEquals(3, invalidations[0]);
+    }
+
+    @Test
+    public void testBindAndSetValue() {
+        SimpleDoubleProperty prop = new SimpleDoubleProperty(1.5);
+        DoubleVar var = DoubleVar.newSimpleVar(0.0);
+        DoubleVal wrapped = DoubleVal.wrap(prop);
+        var.bind(wrapped);
+
+        List<Double> values = new ArrayList<>();
+        var.values().subscribe(values::add);
+        prop.set(2.5);
+        assertEquals(Arrays.asList(1.5, 2.5), values);
+
+        var.unbind();
+        var.setValue(null);
+        assertEquals(0.0, var.getAsDouble(), 0.0);
+        assertEquals(Arrays.asList(1.5, 2.5, 0.0), values);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSetBound() {
+        IntVar var = IntVar.newSimpleVar(0);
+        var.bind(IntVal.constant(1));
+        var.set(2);
+    }
+}